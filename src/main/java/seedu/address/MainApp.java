@@ -22,6 +22,7 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
@@ -56,16 +57,33 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs.getAddressBookFilePath());
+        StorageManager storageManager = new StorageManager(addressBookStorage, userPrefsStorage);
+        storage = storageManager;
 
         model = initModelManager(storage, userPrefs);
+        // Keeps the JavaFX thread from waiting on the files after every command
+        storageManager.startBackgroundSaving(userPrefs.getSaveIntervalMillis());
 
-        logic = new LogicManager(model, storage);
+        LogicManager logicManager = new LogicManager(model, storage);
+        logicManager.replayJournal();
+        logic = logicManager;
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the storage for the data file at {@code filePath}, which is a binary file if it has the extension of one,
+     * or a json file otherwise. A binary file that does not exist yet is migrated from the json file next to it.
+     */
+    private AddressBookStorage initAddressBookStorage(Path filePath) {
+        if (!BinaryAddressBookStorage.isBinaryFilePath(filePath)) {
+            return new JsonAddressBookStorage(filePath);
+        }
+        Path jsonFilePath = BinaryAddressBookStorage.getDefaultJsonFilePath(filePath);
+        return new BinaryAddressBookStorage(filePath, new JsonAddressBookStorage(jsonFilePath));
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -87,7 +105,8 @@ public class MainApp extends Application {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with a sample AddressBook.");
 
-            handleCorruptedFile(storage.getAddressBookFilePath());
+            // The journal of the corrupted file is moved aside when it fails to be replayed
+            handleCorruptedFile(storage.getSavedAddressBookFilePath());
             initialData = SampleDataUtil.getSampleAddressBook();
         }
 
@@ -98,7 +117,9 @@ public class MainApp extends Application {
         // Rename the corrupted file with incrementing number if needed
         Path directory = corruptedFilePath.getParent();
         String baseName = "invalid_matchestate";
-        String extension = ".json";
+        String fileName = corruptedFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String extension = extensionIndex > 0 ? fileName.substring(extensionIndex) : "";
 
         Path newFilePath = directory.resolve(baseName + extension);
         int counter = 1;
@@ -205,5 +226,16 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            // A journal left for the next session would be replayed under whatever match settings it starts with
+            logic.compactJournal();
+        } catch (IOException e) {
+            logger.severe("Failed to compact journal " + StringUtil.getDetails(e));
+        }
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
     }
 }
@@ -0,0 +1,151 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A Serializable class that contains the settings used when matching listings and preferences.
+ * Guarantees: immutable.
+ */
+public class MatchSettings implements Serializable {
+
+    public static final int DEFAULT_RESULT_LIMIT = 50;
+    public static final int DEFAULT_RESULT_LIMIT_THRESHOLD = 1000;
+    public static final int DEFAULT_PARALLEL_MATCH_THRESHOLD = 5000;
+
+    // The most matches shown at once, or 0 to always show every match
+    private final int resultLimit;
+
+    // The number of listings the address book must have before matches are limited to the top resultLimit
+    private final int resultLimitThreshold;
+
+    private final ScoringWeights scoringWeights;
+
+    // The number of persons the address book must have before persons are matched in parallel, or 0 to never
+    private final int parallelMatchThreshold;
+
+    /**
+     * Constructs a {@code MatchSettings} with the default result limit, thresholds and scoring weights.
+     */
+    public MatchSettings() {
+        resultLimit = DEFAULT_RESULT_LIMIT;
+        resultLimitThreshold = DEFAULT_RESULT_LIMIT_THRESHOLD;
+        scoringWeights = new ScoringWeights();
+        parallelMatchThreshold = DEFAULT_PARALLEL_MATCH_THRESHOLD;
+    }
+
+    /**
+     * Constructs a {@code MatchSettings} with the specified result limit and threshold, and the default scoring
+     * weights.
+     */
+    public MatchSettings(int resultLimit, int resultLimitThreshold) {
+        this(resultLimit, resultLimitThreshold, new ScoringWeights());
+    }
+
+    /**
+     * Constructs a {@code MatchSettings} with the specified result limit, threshold and scoring weights, and the
+     * default parallel match threshold.
+     */
+    public MatchSettings(int resultLimit, int resultLimitThreshold, ScoringWeights scoringWeights) {
+        this(resultLimit, resultLimitThreshold, scoringWeights, DEFAULT_PARALLEL_MATCH_THRESHOLD);
+    }
+
+    /**
+     * Constructs a {@code MatchSettings} with the specified result limit, thresholds and scoring weights.
+     */
+    public MatchSettings(int resultLimit, int resultLimitThreshold, ScoringWeights scoringWeights,
+            int parallelMatchThreshold) {
+        requireNonNull(scoringWeights);
+
+        this.resultLimit = resultLimit;
+        this.resultLimitThreshold = resultLimitThreshold;
+        this.scoringWeights = scoringWeights;
+        this.parallelMatchThreshold = parallelMatchThreshold;
+    }
+
+    public int getResultLimit() {
+        return resultLimit;
+    }
+
+    public int getResultLimitThreshold() {
+        return resultLimitThreshold;
+    }
+
+    public ScoringWeights getScoringWeights() {
+        return scoringWeights;
+    }
+
+    public int getParallelMatchThreshold() {
+        return parallelMatchThreshold;
+    }
+
+    /**
+     * Returns true if matches against an address book with {@code listingCount} listings should be limited to the
+     * top {@link #getResultLimit()} matches.
+     */
+    public boolean isResultLimitActive(int listingCount) {
+        return resultLimit > 0 && listingCount >= resultLimitThreshold;
+    }
+
+    /**
+     * Returns true if the persons of an address book with {@code personCount} persons should be matched in parallel.
+     */
+    public boolean isParallelMatchActive(int personCount) {
+        return parallelMatchThreshold > 0 && personCount >= parallelMatchThreshold;
+    }
+
+    /**
+     * Returns a canonical string of the settings that decide which listings a match shows and in what order, which is
+     * the same in every session for match settings that only differ in their thresholds.
+     */
+    public String getRankingKey() {
+        StringBuilder key = new StringBuilder()
+                .append("resultLimit=").append(resultLimit)
+                .append(";priceMatchWeight=").append(scoringWeights.getPriceMatchWeight())
+                .append(";priceDistanceWeight=").append(scoringWeights.getPriceDistanceWeight())
+                .append(";defaultTagWeight=").append(scoringWeights.getDefaultTagWeight())
+                .append(";unavailablePenalty=").append(scoringWeights.getUnavailablePenalty())
+                .append(";tagWeights=");
+        new TreeMap<>(scoringWeights.getTagWeights()).forEach((tagName, weight) ->
+                key.append(tagName).append(':').append(weight).append(','));
+        return key.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MatchSettings)) {
+            return false;
+        }
+
+        MatchSettings otherMatchSettings = (MatchSettings) other;
+        return resultLimit == otherMatchSettings.resultLimit
+                && resultLimitThreshold == otherMatchSettings.resultLimitThreshold
+                && scoringWeights.equals(otherMatchSettings.scoringWeights)
+                && parallelMatchThreshold == otherMatchSettings.parallelMatchThreshold;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(resultLimit, resultLimitThreshold, scoringWeights, parallelMatchThreshold);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("resultLimit", resultLimit)
+                .add("resultLimitThreshold", resultLimitThreshold)
+                .add("scoringWeights", scoringWeights)
+                .add("parallelMatchThreshold", parallelMatchThreshold)
+                .toString();
+    }
+}
@@ -0,0 +1,22 @@
+package seedu.address.commons.core;
+
+/**
+ * Whether the changes made to the address book have been written to the hard disk.
+ */
+public enum SaveStatus {
+    SAVED("All changes saved"),
+    UNSAVED("Unsaved changes"),
+    SAVING("Saving..."),
+    FAILED("Could not save changes");
+
+    private final String description;
+
+    SaveStatus(String description) {
+        this.description = description;
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
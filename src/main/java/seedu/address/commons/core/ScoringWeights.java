@@ -0,0 +1,130 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A Serializable class that contains the weights used to score how well a listing matches a property preference.
+ * Guarantees: immutable.
+ * <p>
+ * A match score is the sum of:
+ * <ul>
+ *     <li>{@code priceMatchWeight} if the price ranges overlap,</li>
+ *     <li>{@code priceDistanceWeight} times how close the price ranges are, from 1 when they overlap down towards 0
+ *     as the gap between them grows relative to the budget,</li>
+ *     <li>the weight of every shared tag, which is its entry in {@code tagWeights} or else
+ *     {@code defaultTagWeight},</li>
+ * </ul>
+ * less {@code unavailablePenalty} if the listing is unavailable.
+ */
+public class ScoringWeights implements Serializable {
+
+    public static final double DEFAULT_PRICE_MATCH_WEIGHT = 1;
+    public static final double DEFAULT_PRICE_DISTANCE_WEIGHT = 0.5;
+    public static final double DEFAULT_TAG_WEIGHT = 1;
+    public static final double DEFAULT_UNAVAILABLE_PENALTY = 1;
+
+    /** Weights that score one point for overlapping price ranges and one point for each shared tag. */
+    public static final ScoringWeights UNWEIGHTED = new ScoringWeights(1, 0, 1, new HashMap<>(), 0);
+
+    private final double priceMatchWeight;
+    private final double priceDistanceWeight;
+    private final double defaultTagWeight;
+
+    // Weights of individual tags, keyed by upper case tag name
+    private final Map<String, Double> tagWeights;
+    private final double unavailablePenalty;
+
+    /**
+     * Constructs a {@code ScoringWeights} with the default weights, and no weights for individual tags.
+     */
+    public ScoringWeights() {
+        priceMatchWeight = DEFAULT_PRICE_MATCH_WEIGHT;
+        priceDistanceWeight = DEFAULT_PRICE_DISTANCE_WEIGHT;
+        defaultTagWeight = DEFAULT_TAG_WEIGHT;
+        tagWeights = new HashMap<>();
+        unavailablePenalty = DEFAULT_UNAVAILABLE_PENALTY;
+    }
+
+    /**
+     * Constructs a {@code ScoringWeights} with the specified weights.
+     *
+     * @param tagWeights The weights of individual tags, keyed by tag name in any case.
+     */
+    public ScoringWeights(double priceMatchWeight, double priceDistanceWeight, double defaultTagWeight,
+            Map<String, Double> tagWeights, double unavailablePenalty) {
+        requireNonNull(tagWeights);
+
+        this.priceMatchWeight = priceMatchWeight;
+        this.priceDistanceWeight = priceDistanceWeight;
+        this.defaultTagWeight = defaultTagWeight;
+        this.tagWeights = new HashMap<>();
+        tagWeights.forEach((tagName, weight) -> this.tagWeights.put(tagName.toUpperCase(), weight));
+        this.unavailablePenalty = unavailablePenalty;
+    }
+
+    public double getPriceMatchWeight() {
+        return priceMatchWeight;
+    }
+
+    public double getPriceDistanceWeight() {
+        return priceDistanceWeight;
+    }
+
+    public double getDefaultTagWeight() {
+        return defaultTagWeight;
+    }
+
+    /**
+     * Returns the weights of individual tags, keyed by upper case tag name.
+     */
+    public Map<String, Double> getTagWeights() {
+        return Collections.unmodifiableMap(tagWeights);
+    }
+
+    public double getUnavailablePenalty() {
+        return unavailablePenalty;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ScoringWeights)) {
+            return false;
+        }
+
+        ScoringWeights otherScoringWeights = (ScoringWeights) other;
+        return priceMatchWeight == otherScoringWeights.priceMatchWeight
+                && priceDistanceWeight == otherScoringWeights.priceDistanceWeight
+                && defaultTagWeight == otherScoringWeights.defaultTagWeight
+                && tagWeights.equals(otherScoringWeights.tagWeights)
+                && unavailablePenalty == otherScoringWeights.unavailablePenalty;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(priceMatchWeight, priceDistanceWeight, defaultTagWeight, tagWeights, unavailablePenalty);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("priceMatchWeight", priceMatchWeight)
+                .add("priceDistanceWeight", priceDistanceWeight)
+                .add("defaultTagWeight", defaultTagWeight)
+                .add("tagWeights", tagWeights)
+                .add("unavailablePenalty", unavailablePenalty)
+                .toString();
+    }
+}
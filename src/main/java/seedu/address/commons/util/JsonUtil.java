@@ -11,6 +11,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -91,6 +94,32 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Returns a parser over the JSON file at {@code filePath}, which reads values with {@link JsonParser#readValueAs}
+     * one at a time, rather than reading the whole file into memory first.
+     * Closing the parser closes the file.
+     * @param filePath cannot be null
+     * @throws IOException if there was an error opening the file
+     */
+    public static JsonParser createFileParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        return objectMapper.getFactory().createParser(Files.newInputStream(filePath));
+    }
+
+    /**
+     * Returns a pretty-printing generator into the file at {@code filePath}, which writes values with
+     * {@link JsonGenerator#writeObject} one at a time, rather than building the whole JSON string in memory first.
+     * Overwrites existing file if it exists, creates a new file if it doesn't. Closing the generator closes the file.
+     * @param filePath cannot be null
+     * @throws IOException if there was an error opening the file
+     */
+    public static JsonGenerator createFileGenerator(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        return objectMapper.getFactory().createGenerator(Files.newOutputStream(filePath), JsonEncoding.UTF8)
+                .useDefaultPrettyPrinter();
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -1,14 +1,19 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.SaveStatus;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.listing.Listing;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.MatchSubscriptions;
 import seedu.address.model.search.SearchContext;
 import seedu.address.model.tag.Tag;
 
@@ -60,4 +65,30 @@ public interface Logic {
      * Returns the current search context.
      */
     SearchContext getSearchContext();
+
+    /**
+     * Returns the standing match subscriptions of the property preferences.
+     */
+    MatchSubscriptions getMatchSubscriptions();
+
+    /**
+     * Returns whether the changes to the address book have been saved.
+     */
+    SaveStatus getSaveStatus();
+
+    /**
+     * Adds a listener that is notified whenever the save status changes, which may be on a background thread.
+     */
+    void addSaveStatusListener(Consumer<SaveStatus> listener);
+
+    /**
+     * Returns the message to show the user on startup, e.g. about a journal that could not be replayed, if any.
+     */
+    Optional<String> getStartupMessage();
+
+    /**
+     * Saves the whole address book in place of the journal, so that the journal does not outlive this session.
+     * @throws IOException if there was any problem writing to the files.
+     */
+    void compactJournal() throws IOException;
 }
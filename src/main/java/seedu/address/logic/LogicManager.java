@@ -3,25 +3,47 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.MapChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.SaveStatus;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.listing.Listing;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.MatchSubscriptions;
 import seedu.address.model.search.SearchContext;
 import seedu.address.model.tag.Tag;
 import seedu.address.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ * <p>
+ * Rather than saving the whole address book after every command, a command that changes the address book is
+ * appended to a journal, which is replayed onto the saved address book on startup. Commands that do not change the
+ * address book are not saved, but they can change the displayed lists that later commands refer to by index, so they
+ * are appended to the journal ahead of the next command that changes the address book, unless the displayed lists are
+ * back to their default view by then.
+ * The journal is compacted by saving the whole address book once it has enough commands and the displayed lists are
+ * in their default view, so that replaying it starts from the same view as the commands did, and again on exit.
+ * As read-only commands such as {@code matchPreference} rank the displayed lists by the {@code MatchSettings} in the
+ * user prefs, the journal is only replayed under the match settings it was written with.
+ * Whether these are written right away or in the background is up to the {@code Storage}.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_FORMAT = "Could not save data due to the following error: %s";
@@ -29,19 +51,47 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_JOURNAL_MOVED_ASIDE = "The changes journaled in an earlier session were not"
+            + " applied, as they were made to a different save of the data file or under different match settings."
+            + " They have been kept in %1$s.";
+
+    // The number of journaled commands after which the journal is compacted
+    public static final int JOURNAL_COMPACTION_THRESHOLD = 1000;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    // The commands since the last journaled command, which may have changed the displayed lists
+    private final List<String> pendingCommandTexts = new ArrayList<>();
+    private int journaledCommandCount = 0;
+
+    // Whether the address book may have changed since it was last saved, which is not known until it is first saved
+    private boolean hasUnsavedChanges = true;
+
+    // Whether replaying the journal and the pending commands onto the saved address book, starting from the default
+    // view, reproduces the address book and displayed lists of the model
+    private boolean isJournalInSync = false;
+    private boolean doesJournalEndInDefaultView = true;
+
+    private String startupMessage;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The whole address book is saved after the first command, and commands are only journaled after that, or after
+     * the journal is replayed with {@link #replayJournal()}.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> hasUnsavedChanges = true);
+        addressBook.getListingList().addListener((ListChangeListener<Listing>) change -> hasUnsavedChanges = true);
+        addressBook.getTagMap().addListener((MapChangeListener<String, Tag>) change -> hasUnsavedChanges = true);
     }
 
     @Override
@@ -50,17 +100,155 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            commandResult = command.execute(model);
+        } catch (CommandException e) {
+            // A failed command may still have changed the displayed lists
+            saveChanges(commandText);
+            throw e;
+        }
 
+        saveChanges(commandText);
+        return commandResult;
+    }
+
+    /**
+     * Replays the commands in the journal onto the model, which must hold the address book as it was last saved, and
+     * then compacts the journal. The displayed lists are reset afterwards.
+     * A journal that cannot be replayed, e.g. as the address book has not been saved or the match settings have
+     * changed, is moved aside rather than deleted, and the user is told where it was moved to on startup.
+     * An address book that was read from a file other than the data file is saved to the data file.
+     *
+     * @return the number of replayed commands.
+     */
+    public int replayJournal() {
+        List<String> commandTexts = List.of();
+        boolean isJournalReplayable = true;
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            commandTexts = storage.readJournal(model.getMatchSettings());
+        } catch (DataLoadingException e) {
+            logger.warning("Journal at " + storage.getJournalFilePath() + " cannot be replayed: "
+                    + e.getCause().getMessage());
+            isJournalReplayable = false;
+        }
+        Path savedAddressBookFilePath = storage.getSavedAddressBookFilePath();
+        boolean hasSavedAddressBook = FileUtil.isFileExists(savedAddressBookFilePath);
+        // An address book read from another file, e.g. one being migrated to a new format, is moved to the data file
+        boolean isSavedElsewhere = !savedAddressBookFilePath.equals(storage.getAddressBookFilePath());
+        if (!hasSavedAddressBook && !commandTexts.isEmpty()) {
+            logger.warning("Journal at " + storage.getJournalFilePath() + " cannot be replayed without the address"
+                    + " book it was written for");
+            commandTexts = List.of();
+            isJournalReplayable = false;
+        }
+
+        for (String commandText : commandTexts) {
+            try {
+                addressBookParser.parseCommand(commandText).execute(model);
+            } catch (CommandException | ParseException e) {
+                // The command failed the first time too, but may have changed the displayed lists all the same
+                logger.fine("Replayed command failed: " + commandText);
+            }
+        }
+        model.resetAllLists();
+        logger.info("Replayed " + commandTexts.size() + " journaled commands");
+
+        pendingCommandTexts.clear();
+        journaledCommandCount = 0;
+        doesJournalEndInDefaultView = true;
+        hasUnsavedChanges = !hasSavedAddressBook;
+        try {
+            if (!isJournalReplayable) {
+                // Kept for the user, as the next save would otherwise delete its commands
+                Path movedFilePath = storage.moveJournalAside();
+                logger.warning("Moved journal that cannot be replayed to " + movedFilePath);
+                startupMessage = String.format(MESSAGE_JOURNAL_MOVED_ASIDE, movedFilePath);
+            }
+            if (!commandTexts.isEmpty() || (hasSavedAddressBook && isSavedElsewhere)) {
+                storage.compactJournal(model.getAddressBook());
+            } else if (isJournalReplayable) {
+                // The journal has no commands to lose
+                storage.clearJournal();
+            }
+            isJournalInSync = hasSavedAddressBook;
+        } catch (IOException ioe) {
+            logger.warning("Failed to compact journal: " + ioe.getMessage());
+            markSaveFailed();
+        }
+        return commandTexts.size();
+    }
+
+    @Override
+    public Optional<String> getStartupMessage() {
+        return Optional.ofNullable(startupMessage);
+    }
+
+    /**
+     * Saves the changes made by the command {@code commandText}, by appending it to the journal if it changed the
+     * address book, or saving the whole address book if the journal is not in sync or is due to be compacted.
+     */
+    private void saveChanges(String commandText) throws CommandException {
+        boolean isShowingDefaultView = model.isShowingDefaultView();
+        if (!hasUnsavedChanges) {
+            if (isShowingDefaultView && doesJournalEndInDefaultView) {
+                // Replaying the journal alone already ends in the displayed lists that later commands refer to
+                pendingCommandTexts.clear();
+                isJournalInSync = true;
+            } else {
+                pendingCommandTexts.add(commandText);
+            }
+            return;
+        }
+
+        hasUnsavedChanges = false;
+        pendingCommandTexts.add(commandText);
+        boolean isCompactionDue = journaledCommandCount >= JOURNAL_COMPACTION_THRESHOLD && isShowingDefaultView;
+        try {
+            if (isJournalInSync && !isCompactionDue) {
+                storage.appendToJournal(pendingCommandTexts, model.getMatchSettings());
+                journaledCommandCount += pendingCommandTexts.size();
+                doesJournalEndInDefaultView = isShowingDefaultView;
+            } else {
+                storage.compactJournal(model.getAddressBook());
+                journaledCommandCount = 0;
+                doesJournalEndInDefaultView = true;
+                isJournalInSync = isShowingDefaultView;
+            }
+            pendingCommandTexts.clear();
         } catch (AccessDeniedException e) {
+            markSaveFailed();
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
+            markSaveFailed();
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
+    }
 
-        return commandResult;
+    @Override
+    public void compactJournal() throws IOException {
+        if (journaledCommandCount == 0) {
+            return;
+        }
+
+        try {
+            storage.compactJournal(model.getAddressBook());
+        } catch (IOException ioe) {
+            markSaveFailed();
+            throw ioe;
+        }
+        pendingCommandTexts.clear();
+        journaledCommandCount = 0;
+        doesJournalEndInDefaultView = true;
+        isJournalInSync = model.isShowingDefaultView();
+    }
+
+    /**
+     * Records that the changes could not be saved, so that the whole address book is saved after the next command.
+     */
+    private void markSaveFailed() {
+        hasUnsavedChanges = true;
+        isJournalInSync = false;
+        pendingCommandTexts.clear();
     }
 
     @Override
@@ -97,4 +285,19 @@ public class LogicManager implements Logic {
     public SearchContext getSearchContext() {
         return model.getSearchContext();
     }
+
+    @Override
+    public MatchSubscriptions getMatchSubscriptions() {
+        return model.getMatchSubscriptions();
+    }
+
+    @Override
+    public SaveStatus getSaveStatus() {
+        return storage.getSaveStatus();
+    }
+
+    @Override
+    public void addSaveStatusListener(Consumer<SaveStatus> listener) {
+        storage.addSaveStatusListener(listener);
+    }
 }
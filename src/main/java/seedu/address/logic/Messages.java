@@ -8,6 +8,8 @@ import seedu.address.logic.parser.Prefix;
 import seedu.address.model.listing.Listing;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.search.MatchExplanation;
+import seedu.address.model.search.MatchExplanation.MatchStage;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -24,6 +26,8 @@ public class Messages {
             + "\n%1$s";
     public static final String MESSAGE_SEARCH_LISTING_TAG_PREAMBLE_FOUND = "Search listing should not have preamble. "
             + "\n%1$s";
+    public static final String MESSAGE_SEARCH_LISTING_AREA_PREAMBLE_FOUND = "Search listing by area should not have "
+            + "preamble. \n%1$s";
     public static final String MESSAGE_HOUSE_OR_UNIT_NUMBER_REQUIRED =
             "Either house number or unit number must be provided, but not both.\n%1$s";
     public static final String MESSAGE_EXPECTED_TWO_INDICES = "This command expects 2 indices to be provided. \n%1$s";
@@ -63,6 +67,15 @@ public class Messages {
     public static final String MESSAGE_SEARCH_PERSON_TAGS_NO_MATCH = "No persons matching the tags.";
     public static final String MESSAGE_SEARCH_LISTING_TAGS_SUCCESS = "%d listings matching the tags!";
     public static final String MESSAGE_SEARCH_LISTING_TAGS_NO_MATCH = "No listings matching the tags.";
+    public static final String MESSAGE_SEARCH_LISTING_AREA_SUCCESS = "%d listings found in the area!";
+    public static final String MESSAGE_SEARCH_LISTING_AREA_NO_MATCH = "No listings found in the area.";
+    public static final String MESSAGE_MATCH_RESULTS_LIMITED = "\nShowing the top %1$d of %2$d matches.";
+    public static final String MESSAGE_MATCH_EXPLANATION_STAGES = "\nExplain: scanned %1$d %2$s; %3$d unavailable, "
+            + "%4$d excluded by ownership, %5$d matched on price, %6$d matched on tags only, %7$d did not match.";
+    public static final String MESSAGE_MATCH_EXPLANATION_SCORES = "\nScores of %1$d matches: min %2$.2f, "
+            + "median %3$.2f, max %4$.2f, mean %5$.2f.";
+    public static final String MESSAGE_MATCH_EXPLANATION_TIMINGS = "\nTime: filter %1$d ns, score %2$d ns, "
+            + "sort %3$d ns.";
     public static final String MESSAGE_TAG_DOES_NOT_EXIST = "Tag '%s' does not exist in the system.\n%s";
     public static final String MESSAGE_SEARCH_PROPERTY_TAG_MISSING_PARAMS =
             "At least one [t/TAG] needs to be specified for search.\n%s";
@@ -139,6 +152,37 @@ public class Messages {
         return builder.toString();
     }
 
+    /**
+     * Formats the {@code explanation} of a match over candidates called {@code candidateNoun}, e.g. "listings", for
+     * display to the user.
+     */
+    public static String format(MatchExplanation explanation, String candidateNoun) {
+        final StringBuilder builder = new StringBuilder();
+        builder.append(String.format(MESSAGE_MATCH_EXPLANATION_STAGES,
+                explanation.getCandidateCount(),
+                candidateNoun,
+                explanation.getCount(MatchStage.UNAVAILABLE),
+                explanation.getCount(MatchStage.OWNED),
+                explanation.getCount(MatchStage.PRICE_MATCH),
+                explanation.getCount(MatchStage.TAG_MATCH),
+                explanation.getCount(MatchStage.NO_MATCH)));
+
+        if (explanation.hasScores()) {
+            builder.append(String.format(MESSAGE_MATCH_EXPLANATION_SCORES,
+                    explanation.getMatchCount(),
+                    explanation.getMinScore(),
+                    explanation.getMedianScore(),
+                    explanation.getMaxScore(),
+                    explanation.getMeanScore()));
+        }
+
+        builder.append(String.format(MESSAGE_MATCH_EXPLANATION_TIMINGS,
+                explanation.getFilterNanos(),
+                explanation.getScoreNanos(),
+                explanation.getSortNanos()));
+        return builder.toString();
+    }
+
     /**
      * Formats the {@code person} for display to the user.
      */
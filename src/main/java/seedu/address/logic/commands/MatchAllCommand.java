@@ -0,0 +1,102 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.search.BulkMatcher;
+import seedu.address.model.search.PreferenceMatches;
+
+/**
+ * Finds the best matching {@code Listing}(s) for every {@code PropertyPreference} in the address book at once, and
+ * reports them.
+ * Listings match by the same rules as {@code MatchPreferenceCommand}, but are ranked with the unweighted scores of
+ * {@code BulkMatcher} rather than the scoring weights of the match settings, and the displayed lists are not changed.
+ */
+public class MatchAllCommand extends Command {
+
+    public static final String COMMAND_WORD = "matchAll";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Finds the best matching listings for every person's preferences."
+            + "\nExample: "
+            + COMMAND_WORD;
+
+    public static final String MESSAGE_MATCH_ALL_SUCCESS = "Matched %1$d of %2$d preferences to listings.";
+    public static final String MESSAGE_MORE_PREFERENCES = "\n...and %1$d more preferences with matches.";
+
+    public static final int MATCHES_PER_PREFERENCE = 3;
+
+    // The most preferences listed in the report, to keep the result display responsive on large address books
+    public static final int MAX_REPORTED_PREFERENCES = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(MatchAllCommand.class);
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        List<PropertyPreference> preferences = new ArrayList<>();
+        for (Person person : model.getAddressBook().getPersonList()) {
+            preferences.addAll(person.getPropertyPreferences());
+        }
+
+        long startTime = System.nanoTime();
+        List<PreferenceMatches> allMatches = new BulkMatcher(model.getAddressBook().getListingList(),
+                MATCHES_PER_PREFERENCE).match(preferences);
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+        logger.info(String.format("Matched %d preferences in %d ms", preferences.size(), elapsedMillis));
+
+        return new CommandResult(createReport(allMatches));
+    }
+
+    private static String createReport(List<PreferenceMatches> allMatches) {
+        StringBuilder report = new StringBuilder();
+        int matchedCount = 0;
+        for (PreferenceMatches matches : allMatches) {
+            if (matches.isEmpty()) {
+                continue;
+            }
+
+            matchedCount++;
+            if (matchedCount <= MAX_REPORTED_PREFERENCES) {
+                appendMatches(report, matches);
+            }
+        }
+
+        if (matchedCount > MAX_REPORTED_PREFERENCES) {
+            report.append(String.format(MESSAGE_MORE_PREFERENCES, matchedCount - MAX_REPORTED_PREFERENCES));
+        }
+        return String.format(MESSAGE_MATCH_ALL_SUCCESS, matchedCount, allMatches.size()) + report;
+    }
+
+    private static void appendMatches(StringBuilder report, PreferenceMatches matches) {
+        PropertyPreference preference = matches.getPreference();
+        report.append("\n").append(Messages.format(preference.getPerson(), preference));
+
+        List<Listing> listings = matches.getListings();
+        for (int i = 0; i < listings.size(); i++) {
+            Listing listing = listings.get(i);
+            report.append("\n    ").append(i + 1).append(". Postal Code: ").append(listing.getPostalCode());
+            if (listing.getUnitNumber() == null) {
+                report.append(", House Number: ").append(listing.getHouseNumber());
+            } else {
+                report.append(", Unit Number: ").append(listing.getUnitNumber());
+            }
+            report.append(" (score ").append(matches.getScores().get(i)).append(")");
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof MatchAllCommand;
+    }
+}
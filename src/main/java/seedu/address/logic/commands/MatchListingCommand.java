@@ -2,7 +2,14 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_EXPLAIN;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.core.MatchSettings;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.CommandUtil;
 import seedu.address.commons.util.ToStringBuilder;
@@ -10,6 +17,11 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.search.MatchExplanation;
+import seedu.address.model.search.MatchExplanation.MatchStage;
+import seedu.address.model.search.MatchScorer;
+import seedu.address.model.search.ParallelPersonRanker;
 import seedu.address.model.search.SearchType;
 import seedu.address.model.search.comparators.PersonListingScoreComparator;
 import seedu.address.model.search.predicates.PersonMatchesPropertyPredicate;
@@ -24,6 +36,9 @@ import seedu.address.model.search.predicates.PropertyPreferencesMatchesListingPr
  * specified {@code Listing}.
  * The {@code Person}(s) are sorted in descending order based on the {@code PropertyPreference} with
  * the highest number of matching tags and price range.
+ * When the address book has many persons, they are matched and scored in parallel, as configured by the user's
+ * {@code MatchSettings}, and ranked the same as they would be one at a time.
+ * The match can also be explained, as in {@code MatchPreferenceCommand}.
  */
 public class MatchListingCommand extends Command {
 
@@ -32,13 +47,15 @@ public class MatchListingCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Finds persons whose preferences match a listing."
             + "\nParameters: "
-            + "LISTING_INDEX (must be a positive integer)"
+            + "LISTING_INDEX (must be a positive integer) "
+            + "[" + KEYWORD_EXPLAIN + "]"
             + "\nExample: "
             + COMMAND_WORD + " 1";
 
     public static final String MESSAGE_MATCH_LISTING_SUCCESS = "Matched Listing: %1$s";
 
     private final Index targetListingIndex;
+    private final boolean isExplain;
 
     /**
      * Creates a {@code MatchListingCommand} to match {@code Person}s' @code PropertyPreference} to the
@@ -47,9 +64,21 @@ public class MatchListingCommand extends Command {
      * @param targetListingIndex The index of the listing in the filtered listing list to match to.
      */
     public MatchListingCommand(Index targetListingIndex) {
+        this(targetListingIndex, false);
+    }
+
+    /**
+     * Creates a {@code MatchListingCommand} to match {@code Person}s' {@code PropertyPreference} to the
+     * specified {@code Listing}, explaining the match if {@code isExplain} is true.
+     *
+     * @param targetListingIndex The index of the listing in the filtered listing list to match to.
+     * @param isExplain Whether to report the candidate counts, score distribution and timings of the match.
+     */
+    public MatchListingCommand(Index targetListingIndex, boolean isExplain) {
         requireNonNull(targetListingIndex);
 
         this.targetListingIndex = targetListingIndex;
+        this.isExplain = isExplain;
     }
 
     @Override
@@ -57,12 +86,24 @@ public class MatchListingCommand extends Command {
         requireNonNull(model);
 
         Listing listingToMatch = CommandUtil.getValidatedListing(model, targetListingIndex, MESSAGE_USAGE);
-        matchListing(model, listingToMatch);
+        String successMessage = String.format(MESSAGE_MATCH_LISTING_SUCCESS, Messages.format(listingToMatch));
+        if (isExplain) {
+            MatchExplanation explanation = new MatchExplanation();
+            matchListing(model, listingToMatch, explanation);
+            successMessage += Messages.format(explanation, "persons");
+        } else {
+            matchListing(model, listingToMatch, null);
+        }
 
-        return new CommandResult(String.format(MESSAGE_MATCH_LISTING_SUCCESS, Messages.format(listingToMatch)));
+        return new CommandResult(successMessage);
     }
 
-    private void matchListing(Model model, Listing listingToMatch) {
+    /**
+     * Shows the persons that match {@code listingToMatch}, best match first.
+     *
+     * @param explanation The explanation to record the match in, or null to not explain the match.
+     */
+    private void matchListing(Model model, Listing listingToMatch, MatchExplanation explanation) {
         requireAllNonNull(model, listingToMatch);
 
         model.resetAllLists();
@@ -72,8 +113,60 @@ public class MatchListingCommand extends Command {
                 SearchType.PERSON,
                 new PropertyPreferencesMatchesListingPredicate(listingToMatch));
 
-        model.updateFilteredPersonList(new PersonMatchesPropertyPredicate(listingToMatch));
-        model.updateSortedFilteredPersonList(new PersonListingScoreComparator(listingToMatch));
+        PersonMatchesPropertyPredicate predicate = new PersonMatchesPropertyPredicate(listingToMatch,
+                model.getPreferencesWithOverlappingPriceRange(listingToMatch.getPriceRange()));
+        MatchSettings matchSettings = model.getMatchSettings();
+        MatchScorer scorer = new MatchScorer(matchSettings.getScoringWeights(),
+                model.getAddressBook().getTagMap());
+
+        if (explanation != null) {
+            explainMatches(model, listingToMatch, scorer, explanation);
+            return;
+        }
+
+        List<Person> persons = model.getAddressBook().getPersonList();
+        if (matchSettings.isParallelMatchActive(persons.size())) {
+            model.updateRankedFilteredPersonList(ParallelPersonRanker.rank(persons, predicate, scorer,
+                    listingToMatch));
+            return;
+        }
+
+        model.updateFilteredPersonList(predicate);
+        model.updateSortedFilteredPersonList(new PersonListingScoreComparator(listingToMatch, scorer));
+    }
+
+    /**
+     * Filters and sorts the person list like {@link #matchListing}, but filters, scores and sorts the persons in
+     * separate timed steps, recording the candidate counts, scores and timings in {@code explanation}.
+     */
+    private void explainMatches(Model model, Listing listingToMatch, MatchScorer scorer,
+            MatchExplanation explanation) {
+        long startTime = System.nanoTime();
+        Set<Person> matchingPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Person person : model.getAddressBook().getPersonList()) {
+            MatchStage stage = MatchExplanation.classify(person, listingToMatch);
+            explanation.count(stage);
+            if (stage.isMatch()) {
+                matchingPersons.add(person);
+            }
+        }
+        long filterEndTime = System.nanoTime();
+
+        PersonListingScoreComparator comparator = new PersonListingScoreComparator(listingToMatch, scorer);
+        double[] scores = new double[matchingPersons.size()];
+        int scoredCount = 0;
+        for (Person person : matchingPersons) {
+            scores[scoredCount++] = comparator.getScore(person);
+        }
+        long scoreEndTime = System.nanoTime();
+
+        // The comparator has cached every score, so this only sorts
+        model.updateFilteredPersonList(matchingPersons::contains);
+        model.updateSortedFilteredPersonList(comparator);
+        long sortEndTime = System.nanoTime();
+
+        explanation.setScores(scores);
+        explanation.setTimings(filterEndTime - startTime, scoreEndTime - filterEndTime, sortEndTime - scoreEndTime);
     }
 
     @Override
@@ -88,13 +181,15 @@ public class MatchListingCommand extends Command {
         }
 
         MatchListingCommand otherDeleteCommand = (MatchListingCommand) other;
-        return targetListingIndex.equals(otherDeleteCommand.targetListingIndex);
+        return targetListingIndex.equals(otherDeleteCommand.targetListingIndex)
+                && isExplain == otherDeleteCommand.isExplain;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("targetListingIndex", targetListingIndex)
+                .add("isExplain", isExplain)
                 .toString();
     }
 }
@@ -0,0 +1,139 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.core.MatchSettings;
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.CommandUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.search.MatchScorer;
+import seedu.address.model.search.PersonListingMatcher;
+import seedu.address.model.search.SearchType;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Lists all {@code Listing}(s) that match any {@code PropertyPreference} of a {@code Person} in the address book.
+ * The {@code Person} is identified using it's displayed index.
+ * A {@code Listing} matches by the same rules as {@code MatchPreferenceCommand}, is shown once even if it matches
+ * several preferences, and is ranked by the score of its best matching preference. The preferences are all matched
+ * in one pass over the listings.
+ * When the address book has many listings, only the top matches are shown, as configured by the user's
+ * {@code MatchSettings}.
+ * Matching a {@code Person} marks the new matches of all their preferences as seen.
+ */
+public class MatchPersonCommand extends Command {
+
+    public static final String COMMAND_WORD = "matchPerson";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Finds listings matching any of a person's preferences."
+            + "\nParameters: "
+            + "PERSON_INDEX (must be a positive integer)"
+            + "\nExample: "
+            + COMMAND_WORD + " 1";
+
+    public static final String MESSAGE_MATCH_PERSON_SUCCESS = "Matched Listings for all %1$d of %2$s's Preferences";
+    public static final String MESSAGE_NO_PREFERENCES = "%1$s has no preferences to match.";
+
+    private final Index targetPersonIndex;
+
+    /**
+     * Creates a {@code MatchPersonCommand} to match {@code Listing}s to every {@code PropertyPreference} of the
+     * specified {@code Person}.
+     *
+     * @param targetPersonIndex The index of the person in the filtered person list to match to.
+     */
+    public MatchPersonCommand(Index targetPersonIndex) {
+        requireNonNull(targetPersonIndex);
+
+        this.targetPersonIndex = targetPersonIndex;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Person targetPerson = CommandUtil.getValidatedPerson(model, targetPersonIndex, MESSAGE_USAGE);
+        if (targetPerson.getPropertyPreferences().isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NO_PREFERENCES, targetPerson.getName()));
+        }
+
+        int matchCount = matchPerson(model, targetPerson);
+
+        String successMessage = String.format(MESSAGE_MATCH_PERSON_SUCCESS,
+                targetPerson.getPropertyPreferences().size(), targetPerson.getName());
+        int shownCount = model.getSortedFilteredListingList().size();
+        if (shownCount < matchCount) {
+            successMessage += String.format(Messages.MESSAGE_MATCH_RESULTS_LIMITED, shownCount, matchCount);
+        }
+
+        return new CommandResult(successMessage);
+    }
+
+    /**
+     * Shows the listings that match any preference of {@code personToMatch}, best match first.
+     *
+     * @return the number of matching listings, which may be more than the number shown.
+     */
+    private int matchPerson(Model model, Person personToMatch) {
+        model.resetAllLists();
+
+        Set<Tag> preferenceTags = new HashSet<>();
+        for (PropertyPreference preference : personToMatch.getPropertyPreferences()) {
+            preferenceTags.addAll(preference.getTags());
+            model.getMatchSubscriptions().clearNewMatches(preference);
+        }
+        // The preferences have different price ranges, so only their tags are highlighted
+        model.setSearch(preferenceTags, null, SearchType.LISTING, Model.PREDICATE_SHOW_ALL_PROPERTY_PREFERENCES);
+
+        MatchSettings matchSettings = model.getMatchSettings();
+        PersonListingMatcher matcher = new PersonListingMatcher(personToMatch,
+                new MatchScorer(matchSettings.getScoringWeights(),
+                model.getAddressBook().getTagMap()));
+        Map<Listing, Double> bestScores = matcher.match(model.getAddressBook().getListingList());
+
+        Predicate<Listing> predicate = bestScores::containsKey;
+        Comparator<Listing> comparator = PersonListingMatcher.byBestScore(bestScores);
+        if (matchSettings.isResultLimitActive(model.getAddressBook().getListingList().size())) {
+            return model.updateTopSortedFilteredListingList(predicate, comparator, matchSettings.getResultLimit());
+        }
+
+        model.updateFilteredListingList(predicate);
+        model.updateSortedFilteredListingList(comparator);
+        return bestScores.size();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MatchPersonCommand)) {
+            return false;
+        }
+
+        MatchPersonCommand otherMatchPersonCommand = (MatchPersonCommand) other;
+        return targetPersonIndex.equals(otherMatchPersonCommand.targetPersonIndex);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetPersonIndex", targetPersonIndex)
+                .toString();
+    }
+}
@@ -2,18 +2,31 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_EXPLAIN;
 
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
+import seedu.address.commons.core.MatchSettings;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.CommandUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.listing.Listing;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.search.MatchExplanation;
+import seedu.address.model.search.MatchExplanation.MatchStage;
+import seedu.address.model.search.MatchResultCache;
+import seedu.address.model.search.MatchScorer;
 import seedu.address.model.search.SearchType;
 import seedu.address.model.search.comparators.ListingPreferenceScoreComparator;
 import seedu.address.model.search.predicates.ListingMatchesPreferencePredicate;
@@ -27,6 +40,12 @@ import seedu.address.model.search.predicates.ListingMatchesPreferencePredicate;
  * A match is determined by whether a {@code Listing} has the same tags or an overlapping price range as the
  * specified {@code PropertyPreference}.
  * The {@code Listing}(s) are sorted in descending order based on the number of matching tags and price range.
+ * When the address book has many listings, only the top matches are shown, as configured by the user's
+ * {@code MatchSettings}.
+ * Matching a {@code PropertyPreference} marks its new matches as seen.
+ * Recent results are cached, and are served again until the listings or persons change.
+ * The match can also be explained, reporting how many listings were excluded or matched at each stage of the rules,
+ * the distribution of their scores, and how long they took to filter, score and sort.
  */
 public class MatchPreferenceCommand extends Command {
 
@@ -36,7 +55,8 @@ public class MatchPreferenceCommand extends Command {
             + ": Finds listings matching a person's preference."
             + "\nParameters: "
             + "PERSON_INDEX (must be a positive integer) "
-            + "PREFERENCE_INDEX (must be a positive integer)"
+            + "PREFERENCE_INDEX (must be a positive integer) "
+            + "[" + KEYWORD_EXPLAIN + "]"
             + "\nExample: "
             + COMMAND_WORD + " 1 2";
 
@@ -45,6 +65,7 @@ public class MatchPreferenceCommand extends Command {
 
     private final Index targetPersonIndex;
     private final Index targetPreferenceIndex;
+    private final boolean isExplain;
 
     /**
      * Creates a {@code MatchPreferenceCommand} to match {@code Listing}s to the specified {@code PropertyPreference}.
@@ -53,10 +74,23 @@ public class MatchPreferenceCommand extends Command {
      * @param targetPreferenceIndex The index of the preference to match to.
      */
     public MatchPreferenceCommand(Index targetPersonIndex, Index targetPreferenceIndex) {
+        this(targetPersonIndex, targetPreferenceIndex, false);
+    }
+
+    /**
+     * Creates a {@code MatchPreferenceCommand} to match {@code Listing}s to the specified {@code PropertyPreference},
+     * explaining the match if {@code isExplain} is true.
+     *
+     * @param targetPersonIndex The index of the person in the filtered person list that the preference is located in.
+     * @param targetPreferenceIndex The index of the preference to match to.
+     * @param isExplain Whether to report the candidate counts, score distribution and timings of the match.
+     */
+    public MatchPreferenceCommand(Index targetPersonIndex, Index targetPreferenceIndex, boolean isExplain) {
         requireAllNonNull(targetPersonIndex, targetPreferenceIndex);
 
         this.targetPersonIndex = targetPersonIndex;
         this.targetPreferenceIndex = targetPreferenceIndex;
+        this.isExplain = isExplain;
     }
 
     @Override
@@ -77,17 +111,33 @@ public class MatchPreferenceCommand extends Command {
         }
 
         PropertyPreference preferenceToMatch = targetPreferenceList.get(targetPreferenceIndex.getZeroBased());
-        matchPreference(model, preferenceToMatch);
+        MatchExplanation explanation = isExplain ? new MatchExplanation() : null;
+        int matchCount = matchPreference(model, preferenceToMatch, explanation);
 
         String successMessage = String.format(MESSAGE_MATCH_PERSON_SUCCESS,
                 targetPerson.getName(),
                 preferenceToMatch.getPriceRange(),
                 Messages.format(preferenceToMatch.getTags()));
 
+        int shownCount = model.getSortedFilteredListingList().size();
+        if (shownCount < matchCount) {
+            successMessage += String.format(Messages.MESSAGE_MATCH_RESULTS_LIMITED, shownCount, matchCount);
+        }
+        if (explanation != null) {
+            successMessage += Messages.format(explanation, "listings");
+        }
+
         return new CommandResult(successMessage);
     }
 
-    private void matchPreference(Model model, PropertyPreference preferenceToMatch) {
+    /**
+     * Shows the listings that match {@code preferenceToMatch}, best match first, reusing the cached result if the
+     * address book and match settings have not changed since it was computed.
+     *
+     * @param explanation The explanation to record the match in, or null to not explain the match.
+     * @return the number of matching listings, which may be more than the number shown.
+     */
+    private int matchPreference(Model model, PropertyPreference preferenceToMatch, MatchExplanation explanation) {
         requireAllNonNull(model, preferenceToMatch);
 
         model.resetAllLists();
@@ -97,8 +147,94 @@ public class MatchPreferenceCommand extends Command {
                 SearchType.LISTING,
                 Model.PREDICATE_SHOW_ALL_PROPERTY_PREFERENCES);
 
-        model.updateFilteredListingList(new ListingMatchesPreferencePredicate(preferenceToMatch));
-        model.updateSortedFilteredListingList(new ListingPreferenceScoreComparator(preferenceToMatch));
+        MatchSettings matchSettings = model.getMatchSettings();
+        long generation = model.getAddressBookGeneration();
+        model.getMatchSubscriptions().clearNewMatches(preferenceToMatch);
+
+        if (explanation != null) {
+            return explainMatches(model, preferenceToMatch, matchSettings, explanation);
+        }
+
+        Optional<MatchResultCache.MatchResult> cachedResult = model.getMatchResultCache()
+                .get(preferenceToMatch, generation, matchSettings);
+        if (cachedResult.isPresent()) {
+            model.updateRankedFilteredListingList(cachedResult.get().getRankedListings());
+            return cachedResult.get().getMatchCount();
+        }
+
+        int matchCount = rankMatches(model, preferenceToMatch, matchSettings);
+        model.getMatchResultCache().put(preferenceToMatch, generation, matchSettings,
+                model.getSortedFilteredListingList(), matchCount);
+        return matchCount;
+    }
+
+    /**
+     * Filters and sorts the listing list to show the listings that match {@code preferenceToMatch}, best match first.
+     *
+     * @return the number of matching listings, which may be more than the number shown.
+     */
+    private int rankMatches(Model model, PropertyPreference preferenceToMatch, MatchSettings matchSettings) {
+        ListingMatchesPreferencePredicate predicate = new ListingMatchesPreferencePredicate(preferenceToMatch,
+                model.getListingsWithOverlappingPriceRange(preferenceToMatch.getPriceRange()));
+        ListingPreferenceScoreComparator comparator = new ListingPreferenceScoreComparator(preferenceToMatch,
+                new MatchScorer(matchSettings.getScoringWeights(),
+                model.getAddressBook().getTagMap()));
+        return showMatches(model, predicate, comparator, matchSettings);
+    }
+
+    /**
+     * Filters and sorts the listing list like {@link #rankMatches}, but filters, scores and sorts the listings in
+     * separate timed steps, recording the candidate counts, scores and timings in {@code explanation}.
+     *
+     * @return the number of matching listings, which may be more than the number shown.
+     */
+    private int explainMatches(Model model, PropertyPreference preferenceToMatch, MatchSettings matchSettings,
+            MatchExplanation explanation) {
+        long startTime = System.nanoTime();
+        Set<Listing> matchingListings = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Listing listing : model.getAddressBook().getListingList()) {
+            MatchStage stage = MatchExplanation.classify(listing, preferenceToMatch);
+            explanation.count(stage);
+            if (stage.isMatch()) {
+                matchingListings.add(listing);
+            }
+        }
+        long filterEndTime = System.nanoTime();
+
+        ListingPreferenceScoreComparator comparator = new ListingPreferenceScoreComparator(preferenceToMatch,
+                new MatchScorer(matchSettings.getScoringWeights(),
+                model.getAddressBook().getTagMap()));
+        double[] scores = new double[matchingListings.size()];
+        int scoredCount = 0;
+        for (Listing listing : matchingListings) {
+            scores[scoredCount++] = comparator.getScore(listing);
+        }
+        long scoreEndTime = System.nanoTime();
+
+        // The comparator has cached every score, so this only sorts
+        int matchCount = showMatches(model, matchingListings::contains, comparator, matchSettings);
+        long sortEndTime = System.nanoTime();
+
+        explanation.setScores(scores);
+        explanation.setTimings(filterEndTime - startTime, scoreEndTime - filterEndTime, sortEndTime - scoreEndTime);
+        return matchCount;
+    }
+
+    /**
+     * Shows the listings that satisfy {@code predicate}, sorted by {@code comparator}, or only the top matches if the
+     * address book has enough listings for {@code matchSettings} to limit them.
+     *
+     * @return the number of listings that satisfy {@code predicate}, which may be more than the number shown.
+     */
+    private static int showMatches(Model model, Predicate<Listing> predicate, Comparator<Listing> comparator,
+            MatchSettings matchSettings) {
+        if (matchSettings.isResultLimitActive(model.getAddressBook().getListingList().size())) {
+            return model.updateTopSortedFilteredListingList(predicate, comparator, matchSettings.getResultLimit());
+        }
+
+        model.updateFilteredListingList(predicate);
+        model.updateSortedFilteredListingList(comparator);
+        return model.getSortedFilteredListingList().size();
     }
 
     @Override
@@ -114,7 +250,8 @@ public class MatchPreferenceCommand extends Command {
 
         MatchPreferenceCommand otherDeleteCommand = (MatchPreferenceCommand) other;
         return targetPersonIndex.equals(otherDeleteCommand.targetPersonIndex)
-                && targetPreferenceIndex.equals(otherDeleteCommand.targetPreferenceIndex);
+                && targetPreferenceIndex.equals(otherDeleteCommand.targetPreferenceIndex)
+                && isExplain == otherDeleteCommand.isExplain;
     }
 
     @Override
@@ -122,6 +259,7 @@ public class MatchPreferenceCommand extends Command {
         return new ToStringBuilder(this)
                 .add("targetPersonIndex", targetPersonIndex)
                 .add("targetPreferenceIndex", targetPreferenceIndex)
+                .add("isExplain", isExplain)
                 .toString();
     }
 }
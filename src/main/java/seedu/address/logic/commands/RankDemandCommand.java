@@ -0,0 +1,49 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.model.Model;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.search.ListingDemand;
+import seedu.address.model.search.comparators.ListingDemandComparator;
+
+/**
+ * Lists all {@code Listing}(s) in the address book by their demand, i.e. the number of {@code PropertyPreference}(s)
+ * that they match by the rules of {@code MatchPreferenceCommand}, most wanted first.
+ * Listings with the same demand are shown in the order they were added.
+ */
+public class RankDemandCommand extends Command {
+
+    public static final String COMMAND_WORD = "rankDemand";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows all listings sorted by the number of preferences they match."
+            + "\nExample: "
+            + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Listed all listings by demand. The most wanted listing matches "
+            + "%1$d preference(s).";
+    public static final String MESSAGE_NO_LISTINGS = "There are no listings to rank.";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        model.resetAllLists();
+        ListingDemand listingDemand = model.getListingDemand();
+        model.updateSortedFilteredListingList(new ListingDemandComparator(listingDemand));
+
+        List<Listing> rankedListings = model.getSortedFilteredListingList();
+        if (rankedListings.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_LISTINGS);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, listingDemand.getDemand(rankedListings.get(0))));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof RankDemandCommand;
+    }
+}
@@ -0,0 +1,128 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LOWER_BOUND_PRICE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_POSTAL_CODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UPPER_BOUND_PRICE;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.search.SearchType;
+import seedu.address.model.search.predicates.ListingInAreaPredicate;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Lists all {@code Listing}(s) with postal codes in the specified postal sector or under the specified postal code
+ * prefix, optionally narrowed down to those with all the specified {@code Tag}(s) and an overlapping price range.
+ */
+public class SearchListingByAreaCommand extends Command {
+    public static final String COMMAND_WORD = "searchListingArea";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Finds listings with postal codes starting with the given postal sector or prefix, "
+            + "optionally with all specified tags and an overlapping price range."
+            + "\nParameters: "
+            + PREFIX_POSTAL_CODE + "POSTAL_SECTOR_OR_PREFIX "
+            + "[" + PREFIX_TAG + "TAG]... "
+            + "[" + PREFIX_LOWER_BOUND_PRICE + "LOWER_BOUND_PRICE] "
+            + "[" + PREFIX_UPPER_BOUND_PRICE + "UPPER_BOUND_PRICE]"
+            + "\nExample: "
+            + COMMAND_WORD + " " + PREFIX_POSTAL_CODE + "52 " + PREFIX_TAG + "pool " + PREFIX_UPPER_BOUND_PRICE
+            + "900000";
+    private static final Logger logger = LogsCenter.getLogger(SearchListingByAreaCommand.class);
+
+    private final String postalCodePrefix;
+    private final Set<String> tagsToSearch;
+    private final PriceRange priceRange;
+
+    /**
+     * Constructs a {@code SearchListingByAreaCommand} to list the {@code Listing}(s) in the specified area.
+     *
+     * @param postalCodePrefix The postal sector or postal code prefix to search by.
+     * @param tagsToSearch The tags to search by. May be empty.
+     * @param priceRange The price range to search by. May be null if the search is not limited by price.
+     */
+    public SearchListingByAreaCommand(String postalCodePrefix, Set<String> tagsToSearch, PriceRange priceRange) {
+        requireAllNonNull(postalCodePrefix, tagsToSearch);
+        this.postalCodePrefix = postalCodePrefix;
+        this.tagsToSearch = tagsToSearch;
+        this.priceRange = priceRange;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        logger.info("Executing SearchListingByAreaCommand with postal code prefix: " + postalCodePrefix);
+
+        // Validate each tag exists
+        for (String tagName : tagsToSearch) {
+            if (!model.hasTag(tagName)) {
+                throw new CommandException(String
+                        .format(Messages.MESSAGE_TAG_DOES_NOT_EXIST, tagName, MESSAGE_USAGE));
+            }
+        }
+
+        Set<Tag> activeTags = new HashSet<>();
+        for (String tagName : tagsToSearch) {
+            activeTags.add(model.getTag(tagName));
+        }
+
+        model.resetAllLists();
+        model.setSearch(activeTags,
+                priceRange,
+                SearchType.LISTING,
+                Model.PREDICATE_SHOW_ALL_PROPERTY_PREFERENCES);
+
+        ListingInAreaPredicate predicate = new ListingInAreaPredicate(postalCodePrefix, tagsToSearch, priceRange,
+                model.getListingsInArea(postalCodePrefix, tagsToSearch, priceRange));
+        model.updateFilteredListingList(predicate);
+
+        List<Listing> filteredListings = model.getSortedFilteredListingList();
+
+        if (filteredListings.isEmpty()) {
+            return new CommandResult(Messages.MESSAGE_SEARCH_LISTING_AREA_NO_MATCH);
+        } else {
+            return new CommandResult(String.format(Messages.MESSAGE_SEARCH_LISTING_AREA_SUCCESS,
+                    filteredListings.size()));
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchListingByAreaCommand)) {
+            return false;
+        }
+
+        SearchListingByAreaCommand otherCommand = (SearchListingByAreaCommand) other;
+        return postalCodePrefix.equals(otherCommand.postalCodePrefix)
+                && tagsToSearch.equals(otherCommand.tagsToSearch)
+                && Objects.equals(priceRange, otherCommand.priceRange);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("postalCodePrefix", postalCodePrefix)
+                .add("tagsToSearch", tagsToSearch)
+                .add("priceRange", priceRange)
+                .toString();
+    }
+}
@@ -76,7 +76,8 @@ public class SearchListingByTagCommand extends Command {
                 SearchType.LISTING,
                 Model.PREDICATE_SHOW_ALL_PROPERTY_PREFERENCES);
 
-        ListingContainsAllTagsPredicate predicate = new ListingContainsAllTagsPredicate(tagsToSearch);
+        ListingContainsAllTagsPredicate predicate = new ListingContainsAllTagsPredicate(tagsToSearch,
+                model.getListingsWithAllTags(tagsToSearch));
         model.updateFilteredListingList(predicate);
 
         List<Listing> filteredListings = model.getSortedFilteredListingList();
@@ -47,7 +47,8 @@ public class SearchPersonByNameCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
-        Predicate<Person> personPredicate = new NameContainsKeywordsPredicate(keywords);
+        Predicate<Person> personPredicate = new NameContainsKeywordsPredicate(keywords,
+                model.getPersonsWithNameContainingAny(keywords));
 
         model.resetAllLists();
         model.updateFilteredPersonList(personPredicate);
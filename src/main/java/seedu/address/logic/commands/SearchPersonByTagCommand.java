@@ -73,7 +73,8 @@ public class SearchPersonByTagCommand extends Command {
                 SearchType.PERSON,
                 new PropertyPreferencesContainAllActiveSearchTagsPredicate(activeTags));
 
-        model.updateFilteredPersonList(new PersonPropertyPreferencesContainAllTagsPredicate(tagsToSearch));
+        model.updateFilteredPersonList(new PersonPropertyPreferencesContainAllTagsPredicate(tagsToSearch,
+                model.getPersonsWithPreferenceContainingAllTags(tagsToSearch)));
         List<Person> filteredPersons = model.getSortedFilteredPersonList();
 
         if (filteredPersons.isEmpty()) {
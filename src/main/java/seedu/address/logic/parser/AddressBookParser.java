@@ -31,10 +31,14 @@ import seedu.address.logic.commands.ListListingCommand;
 import seedu.address.logic.commands.ListPersonCommand;
 import seedu.address.logic.commands.MarkAvailableCommand;
 import seedu.address.logic.commands.MarkUnavailableCommand;
+import seedu.address.logic.commands.MatchAllCommand;
 import seedu.address.logic.commands.MatchListingCommand;
+import seedu.address.logic.commands.MatchPersonCommand;
 import seedu.address.logic.commands.MatchPreferenceCommand;
 import seedu.address.logic.commands.OverwriteListingTagCommand;
 import seedu.address.logic.commands.OverwritePreferenceTagCommand;
+import seedu.address.logic.commands.RankDemandCommand;
+import seedu.address.logic.commands.SearchListingByAreaCommand;
 import seedu.address.logic.commands.SearchListingByTagCommand;
 import seedu.address.logic.commands.SearchOwnerListingCommand;
 import seedu.address.logic.commands.SearchPersonByNameCommand;
@@ -114,9 +118,18 @@ public class AddressBookParser {
         case MatchListingCommand.COMMAND_WORD:
             return new MatchListingCommandParser().parse(arguments);
 
+        case MatchAllCommand.COMMAND_WORD:
+            return new MatchAllCommand();
+
         case MatchPreferenceCommand.COMMAND_WORD:
             return new MatchPreferenceCommandParser().parse(arguments);
 
+        case MatchPersonCommand.COMMAND_WORD:
+            return new MatchPersonCommandParser().parse(arguments);
+
+        case RankDemandCommand.COMMAND_WORD:
+            return new RankDemandCommand();
+
         case SearchOwnerListingCommand.COMMAND_WORD:
             return new SearchOwnerListingCommandParser().parse(arguments);
 
@@ -165,6 +178,9 @@ public class AddressBookParser {
         case SearchListingByTagCommand.COMMAND_WORD:
             return new SearchListingByTagCommandParser().parse(arguments);
 
+        case SearchListingByAreaCommand.COMMAND_WORD:
+            return new SearchListingByAreaCommandParser().parse(arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
@@ -18,5 +18,8 @@ public class CliSyntax {
     public static final Prefix PREFIX_UPPER_BOUND_PRICE = new Prefix("ubp/");
     public static final Prefix PREFIX_PROPERTY_NAME = new Prefix("n/");
 
+    /* Keyword definitions */
+    public static final String KEYWORD_EXPLAIN = "explain";
+
 
 }
@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_ARGUMENTS_EMPTY;
 import static seedu.address.logic.Messages.MESSAGE_ONE_INDEX_EXPECTED;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_EXPLAIN;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.MatchListingCommand;
@@ -9,6 +10,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses input arguments and creates a new {@code MatchListingCommand} object.
+ * The index may be followed by the keyword {@code explain} to explain the match.
  */
 public class MatchListingCommandParser implements Parser<MatchListingCommand> {
     private static final String WHITESPACE_REGEX = "\\s+";
@@ -21,10 +23,12 @@ public class MatchListingCommandParser implements Parser<MatchListingCommand> {
      * @throws ParseException if the user input does not conform the expected format.
      */
     public MatchListingCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args);
-        checkCommandFormat(argMultimap, args);
-        Index index = ParserUtil.parseIndex(args);
-        return new MatchListingCommand(index);
+        boolean isExplain = ParserUtil.hasTrailingKeyword(args, KEYWORD_EXPLAIN);
+        String indexArgs = ParserUtil.removeTrailingKeyword(args, KEYWORD_EXPLAIN);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(indexArgs);
+        checkCommandFormat(argMultimap, indexArgs);
+        Index index = ParserUtil.parseIndex(indexArgs);
+        return new MatchListingCommand(index, isExplain);
     }
 
     private static void checkCommandFormat(ArgumentMultimap argMultimap, String args) throws ParseException {
@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_ARGUMENTS_EMPTY;
+import static seedu.address.logic.Messages.MESSAGE_ONE_INDEX_EXPECTED;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.MatchPersonCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code MatchPersonCommand} object.
+ */
+public class MatchPersonCommandParser implements Parser<MatchPersonCommand> {
+    private static final String WHITESPACE_REGEX = "\\s+";
+    private static final int EXPECTED_PREAMBLE_PARTS = 1;
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the MatchPersonCommand
+     * and returns a MatchPersonCommand object for execution.
+     *
+     * @param args The arguments to be parsed.
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    public MatchPersonCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args);
+        checkCommandFormat(argMultimap, args);
+        Index index = ParserUtil.parseIndex(args);
+        return new MatchPersonCommand(index);
+    }
+
+    private static void checkCommandFormat(ArgumentMultimap argMultimap, String args) throws ParseException {
+        String preamble = argMultimap.getPreamble().trim();
+        if (args.trim().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_ARGUMENTS_EMPTY,
+                    MatchPersonCommand.MESSAGE_USAGE));
+        }
+
+        if (preamble.isEmpty() || preamble.split(WHITESPACE_REGEX).length != EXPECTED_PREAMBLE_PARTS) {
+            throw new ParseException(String.format(MESSAGE_ONE_INDEX_EXPECTED,
+                    MatchPersonCommand.MESSAGE_USAGE));
+        }
+    }
+}
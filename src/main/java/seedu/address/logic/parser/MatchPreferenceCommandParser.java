@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_ARGUMENTS_EMPTY;
 import static seedu.address.logic.Messages.MESSAGE_EXPECTED_TWO_INDICES;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_EXPLAIN;
 
 import java.util.List;
 
@@ -11,6 +12,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses input arguments and creates a new {@code MatchPreferenceCommand} object.
+ * The indices may be followed by the keyword {@code explain} to explain the match.
  */
 public class MatchPreferenceCommandParser implements Parser<MatchPreferenceCommand> {
 
@@ -27,12 +29,15 @@ public class MatchPreferenceCommandParser implements Parser<MatchPreferenceComma
      * @throws ParseException if the user input does not conform the expected format.
      */
     public MatchPreferenceCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args);
+        boolean isExplain = ParserUtil.hasTrailingKeyword(args, KEYWORD_EXPLAIN);
+        String indexArgs = ParserUtil.removeTrailingKeyword(args, KEYWORD_EXPLAIN);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(indexArgs);
 
-        checkCommandFormat(argMultimap, args);
+        checkCommandFormat(argMultimap, indexArgs);
 
-        List<Index> multipleIndices = ParserUtil.parseMultipleIndices(args);
-        return new MatchPreferenceCommand(multipleIndices.get(FIRST_INDEX), multipleIndices.get(SECOND_INDEX));
+        List<Index> multipleIndices = ParserUtil.parseMultipleIndices(indexArgs);
+        return new MatchPreferenceCommand(multipleIndices.get(FIRST_INDEX), multipleIndices.get(SECOND_INDEX),
+                isExplain);
     }
 
     private static void checkCommandFormat(ArgumentMultimap argMultimap, String args) throws ParseException {
@@ -59,6 +59,30 @@ public class ParserUtil {
         return indexList;
     }
 
+    /**
+     * Returns true if the last word of {@code args} is {@code keyword}, ignoring case.
+     */
+    public static boolean hasTrailingKeyword(String args, String keyword) {
+        requireNonNull(args);
+        requireNonNull(keyword);
+
+        String[] words = args.trim().split("\\s+");
+        return words[words.length - 1].equalsIgnoreCase(keyword);
+    }
+
+    /**
+     * Returns {@code args} without its last word if that word is {@code keyword}, ignoring case, or else
+     * {@code args} unchanged.
+     */
+    public static String removeTrailingKeyword(String args, String keyword) {
+        if (!hasTrailingKeyword(args, keyword)) {
+            return args;
+        }
+
+        String trimmedArgs = args.trim();
+        return trimmedArgs.substring(0, trimmedArgs.length() - keyword.length());
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
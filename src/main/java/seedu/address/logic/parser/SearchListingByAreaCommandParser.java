@@ -0,0 +1,94 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_LOWER_GREATER_THAN_UPPER_FOR_PRICE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LOWER_BOUND_PRICE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_POSTAL_CODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UPPER_BOUND_PRICE;
+
+import java.util.Set;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.SearchListingByAreaCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.price.Price;
+import seedu.address.model.price.PriceRange;
+
+/**
+ * Parses input arguments and creates a new {@code SearchListingByAreaCommand} object.
+ */
+public class SearchListingByAreaCommandParser implements Parser<SearchListingByAreaCommand> {
+    public static final String MESSAGE_INVALID_POSTAL_CODE_PREFIX =
+            "Postal sector or prefix must be between 1 and 6 digits, e.g. a 2 digit postal sector.\n%s";
+    public static final String POSTAL_CODE_PREFIX_REGEX = "^\\d{1,6}$";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SearchListingByAreaCommand
+     * and returns a SearchListingByAreaCommand object for execution.
+     *
+     * @param args The arguments to be parsed.
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    @Override
+    public SearchListingByAreaCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_POSTAL_CODE, PREFIX_TAG,
+                PREFIX_LOWER_BOUND_PRICE, PREFIX_UPPER_BOUND_PRICE);
+        checkCommandFormat(argMultimap, args);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_POSTAL_CODE, PREFIX_LOWER_BOUND_PRICE,
+                PREFIX_UPPER_BOUND_PRICE);
+        argMultimap.verifyNoDuplicateTagValues(SearchListingByAreaCommand.MESSAGE_USAGE);
+
+        String postalCodePrefix = argMultimap.getValue(PREFIX_POSTAL_CODE).get().trim();
+        if (!postalCodePrefix.matches(POSTAL_CODE_PREFIX_REGEX)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_POSTAL_CODE_PREFIX,
+                    SearchListingByAreaCommand.MESSAGE_USAGE));
+        }
+
+        Set<String> tags = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+        Price lowerBoundPrice = ParserUtil.parsePrice(argMultimap.getValue(PREFIX_LOWER_BOUND_PRICE).orElse(null));
+        Price upperBoundPrice = ParserUtil.parsePrice(argMultimap.getValue(PREFIX_UPPER_BOUND_PRICE).orElse(null));
+        PriceRange priceRange = createPriceRange(lowerBoundPrice, upperBoundPrice);
+
+        return new SearchListingByAreaCommand(postalCodePrefix, tags, priceRange);
+    }
+
+    /**
+     * Returns the searched price range, or null if neither bound was given.
+     */
+    private static PriceRange createPriceRange(Price lowerBoundPrice, Price upperBoundPrice) throws ParseException {
+        if (lowerBoundPrice == null && upperBoundPrice == null) {
+            return null;
+        } else if (lowerBoundPrice == null) {
+            return new PriceRange(upperBoundPrice, true);
+        } else if (upperBoundPrice == null) {
+            return new PriceRange(lowerBoundPrice, false);
+        } else {
+            try {
+                return new PriceRange(lowerBoundPrice, upperBoundPrice);
+            } catch (IllegalArgumentException e) {
+                throw new ParseException(String.format(MESSAGE_LOWER_GREATER_THAN_UPPER_FOR_PRICE,
+                        SearchListingByAreaCommand.MESSAGE_USAGE));
+            }
+        }
+    }
+
+    private static void checkCommandFormat(ArgumentMultimap argMultimap, String args) throws ParseException {
+        if (args.trim().isEmpty()) {
+            throw new ParseException(String.format(Messages.MESSAGE_ARGUMENTS_EMPTY,
+                    SearchListingByAreaCommand.MESSAGE_USAGE));
+        }
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(Messages.MESSAGE_SEARCH_LISTING_AREA_PREAMBLE_FOUND,
+                    SearchListingByAreaCommand.MESSAGE_USAGE));
+        }
+
+        if (argMultimap.getValue(PREFIX_POSTAL_CODE).isEmpty()) {
+            throw new ParseException(String.format(Messages.MESSAGE_POSTAL_CODE_REQUIRED,
+                    SearchListingByAreaCommand.MESSAGE_USAGE));
+        }
+    }
+}
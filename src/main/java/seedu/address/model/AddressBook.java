@@ -1,8 +1,12 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Set;
 
@@ -12,7 +16,9 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.listing.Listing;
 import seedu.address.model.listing.UniqueListingList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.price.PriceRange;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.UniqueTagMap;
 
@@ -26,6 +32,9 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniqueListingList listings;
     private final UniqueTagMap tags;
 
+    // Bumped by every change to the persons or listings, so that results computed from them can tell they are stale
+    private long generation;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -58,6 +67,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        generation++;
     }
 
     /**
@@ -68,6 +78,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setListings(List<Listing> listings) {
         this.listings.setListings(listings);
+        generation++;
     }
 
     /**
@@ -116,6 +127,15 @@ public class AddressBook implements ReadOnlyAddressBook {
         setTags(newData.getTagMap().values().stream().toList());
     }
 
+    /**
+     * Returns the generation of this address book, which changes whenever a person or listing is added, edited or
+     * removed. Adding a person does not change it, as a new person has no preferences or listings yet, and neither
+     * do changes to the tag map alone, as tags are only attached to persons and listings by editing them.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
     //// Person-level operations
 
     /**
@@ -201,6 +221,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addListing(Listing listing) {
         listings.add(listing);
+        generation++;
     }
 
     /**
@@ -237,6 +258,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        generation++;
     }
 
     /**
@@ -249,6 +271,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setListing(Listing target, Listing editedPerson) {
         requireNonNull(editedPerson);
         listings.setListing(target, editedPerson);
+        generation++;
     }
 
     /**
@@ -257,6 +280,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        generation++;
     }
 
     /**
@@ -265,6 +289,99 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     void removeListing(Listing key) {
         listings.remove(key);
+        generation++;
+    }
+
+    /**
+     * Returns the listings that have every one of the tags named in {@code tagNames}, compared case-insensitively.
+     * The returned set compares listings by reference.
+     */
+    public Set<Listing> getListingsWithAllTags(Set<String> tagNames) {
+        return listings.getListingsWithAllTags(tagNames);
+    }
+
+    /**
+     * Returns the listings with price ranges that overlap {@code priceRange}.
+     * The returned set compares listings by reference.
+     */
+    public Set<Listing> getListingsWithOverlappingPriceRange(PriceRange priceRange) {
+        return listings.getListingsWithOverlappingPriceRange(priceRange);
+    }
+
+    /**
+     * Returns the property preferences with price ranges that overlap {@code priceRange}.
+     * The returned set compares preferences by reference.
+     */
+    public Set<PropertyPreference> getPreferencesWithOverlappingPriceRange(PriceRange priceRange) {
+        return persons.getPreferencesWithOverlappingPriceRange(priceRange);
+    }
+
+    /**
+     * Returns the property preferences that could match {@code listing}, i.e. those with a price range that overlaps
+     * that of {@code listing} or with at least one of its tags.
+     * Availability and ownership are not checked. The returned set compares preferences by reference.
+     */
+    public Set<PropertyPreference> getCandidatePreferences(Listing listing) {
+        requireNonNull(listing);
+
+        List<String> tagNames = new ArrayList<>();
+        for (Tag tag : listing.getTags()) {
+            tagNames.add(tag.getTagName());
+        }
+
+        Set<PropertyPreference> candidatePreferences = Collections.newSetFromMap(new IdentityHashMap<>());
+        candidatePreferences.addAll(persons.getPreferencesWithOverlappingPriceRange(listing.getPriceRange()));
+        candidatePreferences.addAll(persons.getPreferencesWithAnyTag(tagNames));
+        return candidatePreferences;
+    }
+
+    /**
+     * Returns the listings that could match a property preference with {@code priceRange} and {@code tagNames}, i.e.
+     * those with a price range that overlaps {@code priceRange} or with at least one of {@code tagNames}.
+     * Availability and ownership are not checked. The returned set compares listings by reference.
+     */
+    public Set<Listing> getCandidateListings(PriceRange priceRange, Collection<String> tagNames) {
+        requireAllNonNull(priceRange, tagNames);
+
+        Set<Listing> candidateListings = Collections.newSetFromMap(new IdentityHashMap<>());
+        candidateListings.addAll(listings.getListingsWithOverlappingPriceRange(priceRange));
+        candidateListings.addAll(listings.getListingsWithAnyTag(tagNames));
+        return candidateListings;
+    }
+
+    /**
+     * Returns true if {@code preference} is a property preference of a person in the address book.
+     * Preferences are compared by reference.
+     */
+    public boolean hasPropertyPreference(PropertyPreference preference) {
+        return persons.containsPreference(preference);
+    }
+
+    /**
+     * Returns the persons with at least one property preference that has every one of the tags named in
+     * {@code tagNames}, compared case-insensitively.
+     * The returned set compares persons by reference.
+     */
+    public Set<Person> getPersonsWithPreferenceContainingAllTags(Set<String> tagNames) {
+        return persons.getPersonsWithPreferenceContainingAllTags(tagNames);
+    }
+
+    /**
+     * Returns the persons whose full names contain any of {@code keywords}, ignoring case.
+     * The returned set compares persons by reference.
+     */
+    public Set<Person> getPersonsWithNameContainingAny(List<String> keywords) {
+        return persons.getPersonsWithNameContainingAny(keywords);
+    }
+
+    /**
+     * Returns the listings with postal codes that start with {@code postalCodePrefix}, that have every one of the
+     * tags named in {@code tagNames}, and, if {@code priceRange} is not null, with price ranges that overlap
+     * {@code priceRange}.
+     * The returned set compares listings by reference.
+     */
+    public Set<Listing> getListingsInArea(String postalCodePrefix, Set<String> tagNames, PriceRange priceRange) {
+        return listings.getListingsInArea(postalCodePrefix, tagNames, priceRange);
     }
 
     /**
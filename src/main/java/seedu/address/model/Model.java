@@ -2,16 +2,21 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.MatchSettings;
 import seedu.address.model.listing.Listing;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PropertyPreference;
 import seedu.address.model.price.PriceRange;
+import seedu.address.model.search.ListingDemand;
+import seedu.address.model.search.MatchResultCache;
+import seedu.address.model.search.MatchSubscriptions;
 import seedu.address.model.search.SearchContext;
 import seedu.address.model.search.SearchType;
 import seedu.address.model.search.comparators.DefaultListingComparator;
@@ -42,6 +47,21 @@ public interface Model {
      */
     SearchContext getSearchContext();
 
+    /**
+     * Returns the standing match subscriptions of the property preferences.
+     */
+    MatchSubscriptions getMatchSubscriptions();
+
+    /**
+     * Returns the demand for each listing, i.e. the number of property preferences that it matches.
+     */
+    ListingDemand getListingDemand();
+
+    /**
+     * Returns the cache of recent match results of the property preferences.
+     */
+    MatchResultCache getMatchResultCache();
+
     /**
      *  Sets the search parameters
      *
@@ -72,6 +92,11 @@ public interface Model {
      */
     void setGuiSettings(GuiSettings guiSettings);
 
+    /**
+     * Returns the user prefs' match settings.
+     */
+    MatchSettings getMatchSettings();
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -92,6 +117,12 @@ public interface Model {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the generation of the address book, which changes whenever a change to its persons or listings could
+     * change the result of a match.
+     */
+    long getAddressBookGeneration();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -150,6 +181,13 @@ public interface Model {
      */
     void updateSortedFilteredPersonList(Comparator<Person> comparator);
 
+    /**
+     * Updates the sorted filtered person list to show exactly {@code rankedPersons}, in that order.
+     *
+     * @throws NullPointerException if {@code rankedPersons} is null.
+     */
+    void updateRankedFilteredPersonList(List<Person> rankedPersons);
+
     /**
      * Updates the filter of the filtered listing list to filter by the given {@code predicate}.
      *
@@ -164,6 +202,22 @@ public interface Model {
      */
     void updateSortedFilteredListingList(Comparator<Listing> comparator);
 
+    /**
+     * Updates the sorted filtered listing list to show only the first {@code limit} listings under
+     * {@code comparator} out of those that satisfy {@code predicate}, sorted by {@code comparator}.
+     *
+     * @return the number of listings that satisfy {@code predicate}.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    int updateTopSortedFilteredListingList(Predicate<Listing> predicate, Comparator<Listing> comparator, int limit);
+
+    /**
+     * Updates the sorted filtered listing list to show exactly {@code rankedListings}, in that order.
+     *
+     * @throws NullPointerException if {@code rankedListings} is null.
+     */
+    void updateRankedFilteredListingList(List<Listing> rankedListings);
+
     /**
      * Updates the filter of the filtered tag list to filter by the given {@code predicate}.
      *
@@ -196,6 +250,45 @@ public interface Model {
      */
     void deleteListing(Listing target);
 
+    /**
+     * Returns the listings that have every one of the tags named in {@code tagNames}, compared case-insensitively.
+     * The returned set compares listings by reference.
+     */
+    Set<Listing> getListingsWithAllTags(Set<String> tagNames);
+
+    /**
+     * Returns the listings with price ranges that overlap {@code priceRange}.
+     * The returned set compares listings by reference.
+     */
+    Set<Listing> getListingsWithOverlappingPriceRange(PriceRange priceRange);
+
+    /**
+     * Returns the property preferences with price ranges that overlap {@code priceRange}.
+     * The returned set compares preferences by reference.
+     */
+    Set<PropertyPreference> getPreferencesWithOverlappingPriceRange(PriceRange priceRange);
+
+    /**
+     * Returns the persons with at least one property preference that has every one of the tags named in
+     * {@code tagNames}, compared case-insensitively.
+     * The returned set compares persons by reference.
+     */
+    Set<Person> getPersonsWithPreferenceContainingAllTags(Set<String> tagNames);
+
+    /**
+     * Returns the persons whose full names contain any of {@code keywords}, ignoring case.
+     * The returned set compares persons by reference.
+     */
+    Set<Person> getPersonsWithNameContainingAny(List<String> keywords);
+
+    /**
+     * Returns the listings with postal codes that start with {@code postalCodePrefix}, that have every one of the
+     * tags named in {@code tagNames}, and, if {@code priceRange} is not null, with price ranges that overlap
+     * {@code priceRange}.
+     * The returned set compares listings by reference.
+     */
+    Set<Listing> getListingsInArea(String postalCodePrefix, Set<String> tagNames, PriceRange priceRange);
+
     boolean hasTag(String tag);
 
     boolean hasTags(Set<String> tags);
@@ -229,4 +322,10 @@ public interface Model {
      * Resets all lists to show all items.
      */
     void resetAllLists();
+
+    /**
+     * Returns true if all lists show all items in their default order and no search is active, as they do when the
+     * model is created or after {@link #resetAllLists()}.
+     */
+    boolean isShowingDefaultView();
 }
@@ -4,7 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -17,10 +21,15 @@ import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MatchSettings;
 import seedu.address.model.listing.Listing;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PropertyPreference;
 import seedu.address.model.price.PriceRange;
+import seedu.address.model.search.BoundedMatchHeap;
+import seedu.address.model.search.ListingDemand;
+import seedu.address.model.search.MatchResultCache;
+import seedu.address.model.search.MatchSubscriptions;
 import seedu.address.model.search.SearchContext;
 import seedu.address.model.search.SearchType;
 import seedu.address.model.tag.Tag;
@@ -35,6 +44,9 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final SearchContext searchContext = new SearchContext();
+    private final MatchSubscriptions matchSubscriptions = new MatchSubscriptions();
+    private final MatchResultCache matchResultCache = new MatchResultCache();
+    private final ListingDemand listingDemand;
 
     // Filtered and sorted lists
     private final FilteredList<Person> filteredPersons;
@@ -56,6 +68,7 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        this.listingDemand = new ListingDemand(this.addressBook);
 
         // Initialize filtered and sorted lists
         this.filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
@@ -71,6 +84,7 @@ public class ModelManager implements Model {
         sortedFilteredTags.setComparator(COMPARATOR_SHOW_ALL_TAGS);
 
         resetAllFilters();
+        trackAllListings();
     }
 
     public ModelManager() {
@@ -96,6 +110,16 @@ public class ModelManager implements Model {
         return tagList;
     }
 
+    /**
+     * Restarts the match subscriptions from the current listings, without reporting any new matches.
+     */
+    private void trackAllListings() {
+        matchSubscriptions.clear();
+        for (Listing listing : addressBook.getListingList()) {
+            matchSubscriptions.track(listing);
+        }
+    }
+
     /**
      * Resets all filters to show all items with default sorting.
      */
@@ -144,6 +168,11 @@ public class ModelManager implements Model {
         userPrefs.setGuiSettings(guiSettings);
     }
 
+    @Override
+    public MatchSettings getMatchSettings() {
+        return userPrefs.getMatchSettings();
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return userPrefs.getAddressBookFilePath();
@@ -160,6 +189,8 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        trackAllListings();
+        listingDemand.clear();
     }
 
     @Override
@@ -167,6 +198,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookGeneration() {
+        return addressBook.getGeneration();
+    }
+
     // Person-related operations
     @Override
     public boolean hasPerson(Person person) {
@@ -177,17 +213,22 @@ public class ModelManager implements Model {
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
+        listingDemand.updatePerson(person, person);
     }
 
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
         addressBook.setPerson(target, editedPerson);
+        matchSubscriptions.removePreferencesIf(preference -> !addressBook.hasPropertyPreference(preference));
+        listingDemand.updatePerson(target, editedPerson);
     }
 
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
+        matchSubscriptions.removePreferencesIf(preference -> !addressBook.hasPropertyPreference(preference));
+        listingDemand.updatePerson(target, target);
     }
 
     // Listing-related operations
@@ -201,17 +242,59 @@ public class ModelManager implements Model {
     public void addListing(Listing listing) {
         requireNonNull(listing);
         addressBook.addListing(listing);
+        matchSubscriptions.updateListing(null, listing, addressBook.getCandidatePreferences(listing));
+        listingDemand.updateListing(null, listing);
     }
 
     @Override
     public void setListing(Listing listing, Listing editedListing) {
         requireNonNull(listing);
         addressBook.setListing(listing, editedListing);
+        matchSubscriptions.updateListing(listing, editedListing, addressBook.getCandidatePreferences(editedListing));
+        listingDemand.updateListing(listing, editedListing);
     }
 
     @Override
     public void deleteListing(Listing target) {
         addressBook.removeListing(target);
+        matchSubscriptions.removeListing(target);
+        listingDemand.removeListing(target);
+    }
+
+    @Override
+    public Set<Listing> getListingsWithAllTags(Set<String> tagNames) {
+        requireNonNull(tagNames);
+        return addressBook.getListingsWithAllTags(tagNames);
+    }
+
+    @Override
+    public Set<Listing> getListingsWithOverlappingPriceRange(PriceRange priceRange) {
+        requireNonNull(priceRange);
+        return addressBook.getListingsWithOverlappingPriceRange(priceRange);
+    }
+
+    @Override
+    public Set<PropertyPreference> getPreferencesWithOverlappingPriceRange(PriceRange priceRange) {
+        requireNonNull(priceRange);
+        return addressBook.getPreferencesWithOverlappingPriceRange(priceRange);
+    }
+
+    @Override
+    public Set<Person> getPersonsWithPreferenceContainingAllTags(Set<String> tagNames) {
+        requireNonNull(tagNames);
+        return addressBook.getPersonsWithPreferenceContainingAllTags(tagNames);
+    }
+
+    @Override
+    public Set<Person> getPersonsWithNameContainingAny(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.getPersonsWithNameContainingAny(keywords);
+    }
+
+    @Override
+    public Set<Listing> getListingsInArea(String postalCodePrefix, Set<String> tagNames, PriceRange priceRange) {
+        requireAllNonNull(postalCodePrefix, tagNames);
+        return addressBook.getListingsInArea(postalCodePrefix, tagNames, priceRange);
     }
 
     // Tag-related operations
@@ -294,12 +377,37 @@ public class ModelManager implements Model {
         return searchContext;
     }
 
+    @Override
+    public MatchSubscriptions getMatchSubscriptions() {
+        return matchSubscriptions;
+    }
+
+    @Override
+    public ListingDemand getListingDemand() {
+        return listingDemand;
+    }
+
+    @Override
+    public MatchResultCache getMatchResultCache() {
+        return matchResultCache;
+    }
+
     @Override
     public void resetAllLists() {
         searchContext.clear();
         resetAllFilters();
     }
 
+    @Override
+    public boolean isShowingDefaultView() {
+        return filteredPersons.getPredicate() == PREDICATE_SHOW_ALL_PERSONS
+                && sortedFilteredPersons.getComparator() == COMPARATOR_SHOW_ALL_PERSONS
+                && filteredListings.getPredicate() == PREDICATE_SHOW_ALL_LISTINGS
+                && sortedFilteredListings.getComparator() == COMPARATOR_SHOW_ALL_LISTINGS
+                && filteredTags.getPredicate() == PREDICATE_SHOW_ALL_TAGS
+                && searchContext.isCleared();
+    }
+
     //=========== List Update Operations ======================================================
 
     @Override
@@ -316,6 +424,18 @@ public class ModelManager implements Model {
                 ? COMPARATOR_SHOW_ALL_PERSONS : comparator);
     }
 
+    @Override
+    public void updateRankedFilteredPersonList(List<Person> rankedPersons) {
+        requireNonNull(rankedPersons);
+
+        Map<Person, Integer> ranks = new IdentityHashMap<>();
+        for (Person person : rankedPersons) {
+            ranks.put(person, ranks.size());
+        }
+        filteredPersons.setPredicate(ranks::containsKey);
+        sortedFilteredPersons.setComparator(Comparator.comparingInt(ranks::get));
+    }
+
     @Override
     public void updateFilteredListingList(Predicate<Listing> predicate) {
         requireNonNull(predicate);
@@ -330,6 +450,38 @@ public class ModelManager implements Model {
                 ? COMPARATOR_SHOW_ALL_LISTINGS : comparator);
     }
 
+    @Override
+    public int updateTopSortedFilteredListingList(Predicate<Listing> predicate, Comparator<Listing> comparator,
+            int limit) {
+        requireAllNonNull(predicate, comparator);
+
+        BoundedMatchHeap<Listing> topListings = new BoundedMatchHeap<>(limit, comparator);
+        for (Listing listing : addressBook.getListingList()) {
+            if (predicate.test(listing)) {
+                topListings.offer(listing);
+            }
+        }
+
+        // Only the top listings pass the filter, so the sorted list only ever sorts (and shows) those rows
+        Set<Listing> shownListings = Collections.newSetFromMap(new IdentityHashMap<>());
+        shownListings.addAll(topListings.toSortedList());
+        filteredListings.setPredicate(shownListings::contains);
+        sortedFilteredListings.setComparator(comparator);
+        return topListings.getOfferedCount();
+    }
+
+    @Override
+    public void updateRankedFilteredListingList(List<Listing> rankedListings) {
+        requireNonNull(rankedListings);
+
+        Map<Listing, Integer> ranks = new IdentityHashMap<>();
+        for (Listing listing : rankedListings) {
+            ranks.put(listing, ranks.size());
+        }
+        filteredListings.setPredicate(ranks::containsKey);
+        sortedFilteredListings.setComparator(Comparator.comparingInt(ranks::get));
+    }
+
     @Override
     public void updateFilteredTagList(Predicate<Tag> predicate) {
         requireNonNull(predicate);
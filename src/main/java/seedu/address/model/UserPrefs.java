@@ -1,20 +1,26 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.MatchSettings;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final long DEFAULT_SAVE_INTERVAL_MILLIS = 2000;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "matchestate.json");
+    private MatchSettings matchSettings = new MatchSettings();
+    private long saveIntervalMillis = DEFAULT_SAVE_INTERVAL_MILLIS;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +42,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setMatchSettings(newUserPrefs.getMatchSettings());
+        setSaveIntervalMillis(newUserPrefs.getSaveIntervalMillis());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +64,24 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public MatchSettings getMatchSettings() {
+        return matchSettings;
+    }
+
+    public void setMatchSettings(MatchSettings matchSettings) {
+        requireNonNull(matchSettings);
+        this.matchSettings = matchSettings;
+    }
+
+    public long getSaveIntervalMillis() {
+        return saveIntervalMillis;
+    }
+
+    public void setSaveIntervalMillis(long saveIntervalMillis) {
+        checkArgument(saveIntervalMillis >= 0, "Save interval cannot be negative");
+        this.saveIntervalMillis = saveIntervalMillis;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +95,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && matchSettings.equals(otherUserPrefs.matchSettings)
+                && saveIntervalMillis == otherUserPrefs.saveIntervalMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, matchSettings, saveIntervalMillis);
     }
 
     @Override
@@ -82,6 +110,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nMatch Settings : " + matchSettings);
+        sb.append("\nSave interval (ms) : " + saveIntervalMillis);
         return sb.toString();
     }
 
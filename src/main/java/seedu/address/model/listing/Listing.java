@@ -16,6 +16,7 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
 import seedu.address.model.price.PriceRange;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagBitSet;
 
 /**
  * Represents a listing in the real estate system.
@@ -35,6 +36,7 @@ public class Listing {
 
     // Associations
     private final Set<Tag> tags = new HashSet<>();
+    private TagBitSet tagBits;
     private final List<Person> owners = new ArrayList<>();
 
     // Status field
@@ -60,6 +62,7 @@ public class Listing {
         this.priceRange = priceRange;
         this.propertyName = null;
         this.tags.addAll(tags);
+        this.tagBits = TagBitSet.of(tags);
         this.owners.addAll(owners);
         this.isAvailable = isAvailable;
     }
@@ -84,6 +87,7 @@ public class Listing {
         this.priceRange = priceRange;
         this.propertyName = null;
         this.tags.addAll(tags);
+        this.tagBits = TagBitSet.of(tags);
         this.owners.addAll(owners);
         this.isAvailable = isAvailable;
     }
@@ -109,6 +113,7 @@ public class Listing {
         this.priceRange = priceRange;
         this.propertyName = propertyName;
         this.tags.addAll(tags);
+        this.tagBits = TagBitSet.of(tags);
         this.owners.addAll(owners);
         this.isAvailable = isAvailable;
     }
@@ -135,6 +140,7 @@ public class Listing {
         this.priceRange = priceRange;
         this.propertyName = propertyName;
         this.tags.addAll(tags);
+        this.tagBits = TagBitSet.of(tags);
         this.owners.addAll(owners);
         this.isAvailable = isAvailable;
     }
@@ -217,6 +223,13 @@ public class Listing {
         return Collections.unmodifiableSet(tags);
     }
 
+    /**
+     * Returns the tags of the listing as a bitset of tag IDs, which is kept in step with {@link #getTags()}.
+     */
+    public TagBitSet getTagBits() {
+        return tagBits;
+    }
+
     /**
      * Returns an immutable owners list, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
@@ -235,6 +248,7 @@ public class Listing {
     public void addTag(Tag toAdd) {
         requireNonNull(toAdd);
         this.tags.add(toAdd);
+        this.tagBits = tagBits.with(toAdd);
     }
 
     /**
@@ -245,6 +259,7 @@ public class Listing {
     public void removeTag(Tag toDelete) {
         requireNonNull(toDelete);
         this.tags.remove(toDelete);
+        this.tagBits = tagBits.without(toDelete);
     }
 
     /**
@@ -0,0 +1,155 @@
+package seedu.address.model.listing;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.util.Ordinals;
+
+/**
+ * Index of listings by postal code, for finding the listings in a postal sector or under a postal code prefix.
+ * The first {@value #SECTOR_LENGTH} digits of a postal code identify its postal sector. Every sector keeps a bitset
+ * bucket over the ordinals handed out by an {@code Ordinals}, so sector lookups are a single bucket (or a union of
+ * buckets for shorter prefixes). Longer prefixes are answered from a sorted map of full postal codes, by scanning
+ * only the codes that start with the prefix.
+ */
+public class PostalCodeIndex {
+
+    public static final int SECTOR_LENGTH = 2;
+
+    private final Ordinals<Listing> ordinals;
+    private final Map<String, BitSet> sectorBuckets = new HashMap<>();
+    private final NavigableMap<String, Set<Integer>> postalCodeToOrdinals = new TreeMap<>();
+
+    // The postal code each ordinal is currently indexed under
+    private final List<String> indexedPostalCodes = new ArrayList<>();
+
+    /**
+     * Creates an empty {@code PostalCodeIndex} over the ordinals handed out by {@code ordinals}.
+     */
+    public PostalCodeIndex(Ordinals<Listing> ordinals) {
+        requireNonNull(ordinals);
+        this.ordinals = ordinals;
+    }
+
+    /**
+     * Indexes {@code listing} under its postal code.
+     * {@code listing} must already have an ordinal.
+     */
+    public void add(Listing listing) {
+        requireNonNull(listing);
+
+        int ordinal = ordinals.ordinalOf(listing);
+        String postalCode = listing.getPostalCode().postalCode;
+        sectorBuckets.computeIfAbsent(toSector(postalCode), unused -> new BitSet()).set(ordinal);
+        postalCodeToOrdinals.computeIfAbsent(postalCode, unused -> new HashSet<>()).add(ordinal);
+        setIndexedPostalCode(ordinal, postalCode);
+    }
+
+    /**
+     * Re-indexes {@code listing} if its postal code has changed since it was indexed.
+     * {@code listing} must already have an ordinal.
+     */
+    public void update(Listing listing) {
+        requireNonNull(listing);
+
+        int ordinal = ordinals.ordinalOf(listing);
+        if (listing.getPostalCode().postalCode.equals(getIndexedPostalCode(ordinal))) {
+            return;
+        }
+
+        unindex(ordinal);
+        add(listing);
+    }
+
+    /**
+     * Removes {@code listing} from the index.
+     * {@code listing} must still have its ordinal.
+     */
+    public void remove(Listing listing) {
+        requireNonNull(listing);
+        unindex(ordinals.ordinalOf(listing));
+    }
+
+    /**
+     * Removes every listing from the index.
+     */
+    public void clear() {
+        sectorBuckets.clear();
+        postalCodeToOrdinals.clear();
+        indexedPostalCodes.clear();
+    }
+
+    /**
+     * Returns the ordinals of the listings with postal codes that start with {@code prefix}.
+     * An empty {@code prefix} matches every listing.
+     * The returned bitset is a fresh copy that the caller may modify.
+     */
+    public BitSet getOrdinalsWithPostalCodePrefix(String prefix) {
+        requireNonNull(prefix);
+
+        BitSet result = new BitSet();
+        if (prefix.length() <= SECTOR_LENGTH) {
+            for (Map.Entry<String, BitSet> sectorBucket : sectorBuckets.entrySet()) {
+                if (sectorBucket.getKey().startsWith(prefix)) {
+                    result.or(sectorBucket.getValue());
+                }
+            }
+            return result;
+        }
+
+        // Digits sort before Character.MAX_VALUE, so this covers exactly the codes that start with the prefix
+        for (Set<Integer> codeOrdinals : postalCodeToOrdinals
+                .subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            for (int ordinal : codeOrdinals) {
+                result.set(ordinal);
+            }
+        }
+        return result;
+    }
+
+    private void unindex(int ordinal) {
+        String postalCode = getIndexedPostalCode(ordinal);
+        if (postalCode == null) {
+            return;
+        }
+
+        String sector = toSector(postalCode);
+        BitSet sectorBucket = sectorBuckets.get(sector);
+        sectorBucket.clear(ordinal);
+        if (sectorBucket.isEmpty()) {
+            sectorBuckets.remove(sector);
+        }
+
+        Set<Integer> codeOrdinals = postalCodeToOrdinals.get(postalCode);
+        codeOrdinals.remove(ordinal);
+        if (codeOrdinals.isEmpty()) {
+            postalCodeToOrdinals.remove(postalCode);
+        }
+
+        setIndexedPostalCode(ordinal, null);
+    }
+
+    private String getIndexedPostalCode(int ordinal) {
+        return ordinal < indexedPostalCodes.size() ? indexedPostalCodes.get(ordinal) : null;
+    }
+
+    private void setIndexedPostalCode(int ordinal, String postalCode) {
+        while (indexedPostalCodes.size() <= ordinal) {
+            indexedPostalCodes.add(null);
+        }
+        indexedPostalCodes.set(ordinal, postalCode);
+    }
+
+    private static String toSector(String postalCode) {
+        return postalCode.substring(0, SECTOR_LENGTH);
+    }
+}
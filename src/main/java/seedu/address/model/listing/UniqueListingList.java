@@ -3,13 +3,26 @@ package seedu.address.model.listing;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.listing.exceptions.DuplicateListingException;
 import seedu.address.model.listing.exceptions.ListingNotFoundException;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.price.PriceRangeIndex;
+import seedu.address.model.tag.TagIndex;
+import seedu.address.model.util.Ordinals;
 
 /**
  * Represents a list of listing that enforces uniqueness between its elements and does not allow nulls.
@@ -17,16 +30,35 @@ import seedu.address.model.listing.exceptions.ListingNotFoundException;
  * updating of listings uses Listing#isSameListing(Listing) for equality so as to ensure that the listing being added or
  * updated is unique in terms of identity in the UniqueListingList. However, the removal of a listing uses
  * Listing#equals(Object) so as to ensure that the listing with exactly the same fields will be removed.
+ * The list keeps a hash index from the identity fields of a listing (postal code and unit or house number) to its
+ * position in the backing list, so that identity checks, updates and removals do not have to walk the whole list.
+ * Positions after a removed listing are refreshed lazily on the next lookup that needs them.
+ * Every listing in the list is also given a dense ordinal, over which an inverted tag index is kept so that tag
+ * searches intersect bitsets instead of testing the tags of every listing, and the price ranges of the listings are
+ * kept in an interval index so that price overlaps do not have to be tested against every listing. Postal codes are
+ * indexed by postal sector, so that area searches can be answered by combining index lookups.
  * Supports a minimal set of list operations.
  *
  * @see Listing#isSameListing(Listing)
  */
 public class UniqueListingList implements Iterable<Listing> {
 
+    private static final int NO_STALE_POSITIONS = Integer.MAX_VALUE;
+
     private final ObservableList<Listing> internalList = FXCollections.observableArrayList();
     private final ObservableList<Listing> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Identity index, kept in sync with internalList
+    private final Map<IdentityKey, Integer> identityToPosition = new HashMap<>();
+    private int stalePositionsFrom = NO_STALE_POSITIONS;
+
+    // Ordinals and the indexes keyed by them, kept in sync with internalList
+    private final Ordinals<Listing> ordinals = new Ordinals<>();
+    private final TagIndex<Listing> tagIndex = new TagIndex<>(ordinals, Listing::getTags);
+    private final PriceRangeIndex<Listing> priceRangeIndex = new PriceRangeIndex<>();
+    private final PostalCodeIndex postalCodeIndex = new PostalCodeIndex(ordinals);
+
     /**
      * Checks if the list contains an equivalent listing as the given argument.
      *
@@ -35,7 +67,7 @@ public class UniqueListingList implements Iterable<Listing> {
      */
     public boolean contains(Listing toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameListing);
+        return identityToPosition.containsKey(IdentityKey.of(toCheck));
     }
 
     /**
@@ -51,6 +83,11 @@ public class UniqueListingList implements Iterable<Listing> {
             throw new DuplicateListingException();
         }
         internalList.add(toAdd);
+        identityToPosition.put(IdentityKey.of(toAdd), internalList.size() - 1);
+        ordinals.assign(toAdd);
+        tagIndex.add(toAdd);
+        priceRangeIndex.add(toAdd, toAdd.getPriceRange());
+        postalCodeIndex.add(toAdd);
     }
 
     /**
@@ -65,7 +102,7 @@ public class UniqueListingList implements Iterable<Listing> {
     public void setListing(Listing target, Listing editedListing) {
         requireAllNonNull(target, editedListing);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new ListingNotFoundException();
         }
@@ -74,7 +111,14 @@ public class UniqueListingList implements Iterable<Listing> {
             throw new DuplicateListingException();
         }
 
-        internalList.set(index, editedListing);
+        Listing storedListing = internalList.set(index, editedListing);
+        identityToPosition.remove(IdentityKey.of(target));
+        identityToPosition.put(IdentityKey.of(editedListing), index);
+        ordinals.replace(storedListing, editedListing);
+        tagIndex.update(editedListing);
+        priceRangeIndex.remove(storedListing);
+        priceRangeIndex.add(editedListing, editedListing.getPriceRange());
+        postalCodeIndex.update(editedListing);
     }
 
     /**
@@ -86,9 +130,19 @@ public class UniqueListingList implements Iterable<Listing> {
      */
     public void remove(Listing toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new ListingNotFoundException();
         }
+
+        Listing storedListing = internalList.remove(index);
+        identityToPosition.remove(IdentityKey.of(toRemove));
+        stalePositionsFrom = Math.min(stalePositionsFrom, index);
+        tagIndex.remove(storedListing);
+        postalCodeIndex.remove(storedListing);
+        ordinals.release(storedListing);
+        priceRangeIndex.remove(storedListing);
     }
 
     /**
@@ -104,6 +158,89 @@ public class UniqueListingList implements Iterable<Listing> {
         }
 
         internalList.setAll(listings);
+        rebuildIndex();
+    }
+
+    /**
+     * Returns the listings that have every one of {@code tagNames}, compared case-insensitively.
+     * The returned set compares listings by reference, which is sufficient for testing membership of listings in
+     * this list.
+     *
+     * @param tagNames The names of the tags to look for.
+     * @return an unmodifiable set of the matching listings.
+     */
+    public Set<Listing> getListingsWithAllTags(Collection<String> tagNames) {
+        requireAllNonNull(tagNames);
+
+        BitSet matchingOrdinals = tagIndex.getOrdinalsWithAllTags(tagNames);
+        Set<Listing> matchingListings = Collections.newSetFromMap(new IdentityHashMap<>());
+        matchingListings.addAll(ordinals.toElements(matchingOrdinals));
+        return Collections.unmodifiableSet(matchingListings);
+    }
+
+    /**
+     * Returns the listings that have at least one of {@code tagNames}, compared case-insensitively.
+     * The returned set compares listings by reference.
+     *
+     * @param tagNames The names of the tags to look for.
+     * @return an unmodifiable set of the matching listings.
+     */
+    public Set<Listing> getListingsWithAnyTag(Collection<String> tagNames) {
+        requireAllNonNull(tagNames);
+
+        Set<Listing> matchingListings = Collections.newSetFromMap(new IdentityHashMap<>());
+        matchingListings.addAll(ordinals.toElements(tagIndex.getOrdinalsWithAnyTag(tagNames)));
+        return Collections.unmodifiableSet(matchingListings);
+    }
+
+    /**
+     * Returns the listings with price ranges that overlap {@code priceRange}.
+     * The returned set compares listings by reference, which is sufficient for testing membership of listings in
+     * this list.
+     *
+     * @param priceRange The price range to check for overlaps with.
+     * @return an unmodifiable set of the matching listings.
+     */
+    public Set<Listing> getListingsWithOverlappingPriceRange(PriceRange priceRange) {
+        requireNonNull(priceRange);
+
+        Set<Listing> matchingListings = Collections.newSetFromMap(new IdentityHashMap<>());
+        matchingListings.addAll(priceRangeIndex.getOverlapping(priceRange));
+        return Collections.unmodifiableSet(matchingListings);
+    }
+
+    /**
+     * Returns the listings with postal codes that start with {@code postalCodePrefix}, that have every one of
+     * {@code tagNames} (compared case-insensitively), and, if {@code priceRange} is not null, with price ranges that
+     * overlap {@code priceRange}.
+     * The result is computed by intersecting the lookups of the postal code, tag and price range indexes.
+     * The returned set compares listings by reference.
+     *
+     * @param postalCodePrefix The prefix of the postal codes to look for, e.g. a two digit postal sector.
+     * @param tagNames The names of the tags to look for. May be empty.
+     * @param priceRange The price range to check for overlaps with. May be null.
+     * @return an unmodifiable set of the matching listings.
+     */
+    public Set<Listing> getListingsInArea(String postalCodePrefix, Collection<String> tagNames,
+            PriceRange priceRange) {
+        requireNonNull(postalCodePrefix);
+        requireAllNonNull(tagNames);
+
+        BitSet matchingOrdinals = postalCodeIndex.getOrdinalsWithPostalCodePrefix(postalCodePrefix);
+        if (!tagNames.isEmpty() && !matchingOrdinals.isEmpty()) {
+            matchingOrdinals.and(tagIndex.getOrdinalsWithAllTags(tagNames));
+        }
+        if (priceRange != null && !matchingOrdinals.isEmpty()) {
+            BitSet priceMatchingOrdinals = new BitSet();
+            for (Listing listing : priceRangeIndex.getOverlapping(priceRange)) {
+                priceMatchingOrdinals.set(ordinals.ordinalOf(listing));
+            }
+            matchingOrdinals.and(priceMatchingOrdinals);
+        }
+
+        Set<Listing> matchingListings = Collections.newSetFromMap(new IdentityHashMap<>());
+        matchingListings.addAll(ordinals.toElements(matchingOrdinals));
+        return Collections.unmodifiableSet(matchingListings);
     }
 
     /**
@@ -145,19 +282,112 @@ public class UniqueListingList implements Iterable<Listing> {
         return internalList.toString();
     }
 
+    /**
+     * Returns the position of the listing equal to {@code listing} in the backing list, or -1 if there is none.
+     * Refreshes the positions invalidated by earlier removals if the looked up position is one of them.
+     *
+     * @param listing The listing to look up.
+     * @return the position of the listing, or -1 if it is not in the list.
+     */
+    private int indexOf(Listing listing) {
+        IdentityKey key = IdentityKey.of(listing);
+        Integer position = identityToPosition.get(key);
+        if (position == null) {
+            return -1;
+        }
+
+        if (position >= stalePositionsFrom) {
+            refreshStalePositions();
+            position = identityToPosition.get(key);
+        }
+
+        return internalList.get(position).equals(listing) ? position : -1;
+    }
+
+    /**
+     * Renumbers the listings that were shifted down by removals.
+     */
+    private void refreshStalePositions() {
+        for (int i = stalePositionsFrom; i < internalList.size(); i++) {
+            identityToPosition.put(IdentityKey.of(internalList.get(i)), i);
+        }
+        stalePositionsFrom = NO_STALE_POSITIONS;
+    }
+
+    /**
+     * Rebuilds the identity index, the ordinals and the listing indexes from the backing list.
+     */
+    private void rebuildIndex() {
+        identityToPosition.clear();
+        stalePositionsFrom = NO_STALE_POSITIONS;
+        ordinals.clear();
+        tagIndex.clear();
+        priceRangeIndex.clear();
+        postalCodeIndex.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            Listing listing = internalList.get(i);
+            identityToPosition.put(IdentityKey.of(listing), i);
+            ordinals.assign(listing);
+            tagIndex.add(listing);
+            priceRangeIndex.add(listing, listing.getPriceRange());
+            postalCodeIndex.add(listing);
+        }
+    }
+
     /**
      * Checks if {@code listings} contains only unique listings.
      *
      * @return true if {@code listings} contains only unique listings. false otherwise.
      */
     private boolean listingsAreUnique(List<Listing> listings) {
-        for (int i = 0; i < listings.size() - 1; i++) {
-            for (int j = i + 1; j < listings.size(); j++) {
-                if (listings.get(i).isSameListing(listings.get(j))) {
-                    return false;
-                }
+        Set<IdentityKey> seenKeys = new HashSet<>();
+        for (Listing listing : listings) {
+            if (!seenKeys.add(IdentityKey.of(listing))) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Composite key over the identity fields of a {@code Listing}.
+     * Two listings have equal keys if and only if {@code Listing#isSameListing(Listing)} holds between them.
+     */
+    private static final class IdentityKey {
+        private final PostalCode postalCode;
+        private final UnitNumber unitNumber;
+        private final HouseNumber houseNumber;
+
+        private IdentityKey(PostalCode postalCode, UnitNumber unitNumber, HouseNumber houseNumber) {
+            this.postalCode = postalCode;
+            this.unitNumber = unitNumber;
+            this.houseNumber = houseNumber;
+        }
+
+        static IdentityKey of(Listing listing) {
+            return new IdentityKey(listing.getPostalCode(), listing.getUnitNumber(), listing.getHouseNumber());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof IdentityKey)) {
+                return false;
+            }
+
+            IdentityKey otherKey = (IdentityKey) other;
+            return postalCode.equals(otherKey.postalCode)
+                    && Objects.equals(unitNumber, otherKey.unitNumber)
+                    && Objects.equals(houseNumber, otherKey.houseNumber);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(postalCode, unitNumber, houseNumber);
+        }
+    }
 }
@@ -0,0 +1,177 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.util.Ordinals;
+
+/**
+ * Trigram index over the full names of persons, for case-insensitive substring search.
+ * Every lower-cased name is split into its overlapping three-character substrings, and each trigram maps to a bitset
+ * posting list over the ordinals handed out by an {@code Ordinals}. A keyword of three or more characters can only
+ * be contained in names that contain all of its trigrams, so intersecting their posting lists leaves a small
+ * candidate set that is then verified with {@code String#contains}. Shorter keywords are verified against every name.
+ */
+public class NameTrigramIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Ordinals<Person> ordinals;
+    private final Map<String, BitSet> postings = new HashMap<>();
+
+    // The lower-cased name each ordinal is currently indexed under
+    private final List<String> indexedNames = new ArrayList<>();
+
+    /**
+     * Creates an empty {@code NameTrigramIndex} over the ordinals handed out by {@code ordinals}.
+     */
+    public NameTrigramIndex(Ordinals<Person> ordinals) {
+        requireNonNull(ordinals);
+        this.ordinals = ordinals;
+    }
+
+    /**
+     * Indexes the name of {@code person} under its ordinal.
+     * {@code person} must already have an ordinal.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+
+        int ordinal = ordinals.ordinalOf(person);
+        String name = normalise(person.getName().fullName);
+        for (String trigram : toTrigrams(name)) {
+            postings.computeIfAbsent(trigram, unused -> new BitSet()).set(ordinal);
+        }
+        setIndexedName(ordinal, name);
+    }
+
+    /**
+     * Re-indexes {@code person} if its name has changed since it was indexed.
+     * {@code person} must already have an ordinal.
+     */
+    public void update(Person person) {
+        requireNonNull(person);
+
+        int ordinal = ordinals.ordinalOf(person);
+        String oldName = getIndexedName(ordinal);
+        String newName = normalise(person.getName().fullName);
+        if (newName.equals(oldName)) {
+            return;
+        }
+
+        unpostAll(ordinal, oldName);
+        add(person);
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     * {@code person} must still have its ordinal.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+
+        int ordinal = ordinals.ordinalOf(person);
+        unpostAll(ordinal, getIndexedName(ordinal));
+        setIndexedName(ordinal, null);
+    }
+
+    /**
+     * Removes every posting.
+     */
+    public void clear() {
+        postings.clear();
+        indexedNames.clear();
+    }
+
+    /**
+     * Returns the ordinals of the persons whose names contain {@code keyword}, ignoring case.
+     * The returned bitset is a fresh copy that the caller may modify.
+     */
+    public BitSet getOrdinalsWithNameContaining(String keyword) {
+        requireNonNull(keyword);
+
+        String normalisedKeyword = normalise(keyword);
+        BitSet candidates = getCandidates(normalisedKeyword);
+
+        // Trigrams do not record where in the name they occur, so every candidate still has to be verified
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            String name = getIndexedName(i);
+            if (name == null || !name.contains(normalisedKeyword)) {
+                candidates.clear(i);
+            }
+        }
+        return candidates;
+    }
+
+    private BitSet getCandidates(String normalisedKeyword) {
+        if (normalisedKeyword.length() < GRAM_LENGTH) {
+            return ordinals.usedOrdinals();
+        }
+
+        List<BitSet> postingLists = new ArrayList<>();
+        for (String trigram : toTrigrams(normalisedKeyword)) {
+            BitSet postingList = postings.get(trigram);
+            if (postingList == null) {
+                return new BitSet();
+            }
+            postingLists.add(postingList);
+        }
+
+        // Start from the rarest trigram so that the running intersection shrinks as early as possible
+        postingLists.sort(Comparator.comparingInt(BitSet::cardinality));
+        BitSet candidates = (BitSet) postingLists.get(0).clone();
+        for (int i = 1; i < postingLists.size() && !candidates.isEmpty(); i++) {
+            candidates.and(postingLists.get(i));
+        }
+        return candidates;
+    }
+
+    private void unpostAll(int ordinal, String name) {
+        if (name == null) {
+            return;
+        }
+
+        for (String trigram : toTrigrams(name)) {
+            BitSet postingList = postings.get(trigram);
+            if (postingList == null) {
+                continue;
+            }
+
+            postingList.clear(ordinal);
+            if (postingList.isEmpty()) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    private String getIndexedName(int ordinal) {
+        return ordinal < indexedNames.size() ? indexedNames.get(ordinal) : null;
+    }
+
+    private void setIndexedName(int ordinal, String name) {
+        while (indexedNames.size() <= ordinal) {
+            indexedNames.add(null);
+        }
+        indexedNames.set(ordinal, name);
+    }
+
+    private static String normalise(String text) {
+        return text.toLowerCase();
+    }
+
+    private static Set<String> toTrigrams(String text) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            trigrams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+}
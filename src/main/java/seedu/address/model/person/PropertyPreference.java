@@ -11,6 +11,7 @@ import java.util.Set;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.price.PriceRange;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagBitSet;
 
 /**
  * Represents a {@code Person}'s property preference in the real estate system.
@@ -24,6 +25,7 @@ public class PropertyPreference {
 
     // Associations
     private final Set<Tag> tags = new HashSet<>();
+    private TagBitSet tagBits;
     private Person person;
 
 
@@ -39,6 +41,7 @@ public class PropertyPreference {
         requireAllNonNull(priceRange, tags, person);
         this.priceRange = priceRange;
         this.tags.addAll(tags);
+        this.tagBits = TagBitSet.of(tags);
         this.person = person;
     }
 
@@ -59,6 +62,14 @@ public class PropertyPreference {
         return Collections.unmodifiableSet(tags);
     }
 
+    /**
+     * Returns the tags of the property preference as a bitset of tag IDs, which is kept in step with
+     * {@link #getTags()}.
+     */
+    public TagBitSet getTagBits() {
+        return tagBits;
+    }
+
     // Setters for associations
     /**
      * Sets the person associated with this property preference.
@@ -81,6 +92,7 @@ public class PropertyPreference {
         requireNonNull(toAdd);
 
         this.tags.add(toAdd);
+        this.tagBits = tagBits.with(toAdd);
     }
 
     /**
@@ -92,6 +104,7 @@ public class PropertyPreference {
         requireNonNull(toDelete);
 
         this.tags.remove(toDelete);
+        this.tagBits = tagBits.without(toDelete);
     }
 
     // Miscellaneous
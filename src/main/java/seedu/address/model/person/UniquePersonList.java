@@ -3,13 +3,26 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.price.PriceRangeIndex;
+import seedu.address.model.tag.TagIndex;
+import seedu.address.model.util.Ordinals;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -18,22 +31,49 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Since a person's identity is its phone number, the list keeps a hash index from {@code Phone} to the position of
+ * the person in the backing list, so that identity and duplicate checks do not have to walk the whole list.
+ * Positions after a removed person are refreshed lazily on the next lookup that needs them.
+ *
+ * Full names are kept in a trigram index so that name searches only verify a small set of candidates.
+ * The property preferences of the persons in the list are indexed as well, by tag and by price range. Preferences
+ * are only ever changed through their person, so they are re-indexed whenever their person is added, replaced or
+ * removed.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
+    private static final int NO_STALE_POSITIONS = Integer.MAX_VALUE;
+
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Phone index, kept in sync with internalList
+    private final Map<Phone, Integer> phoneToPosition = new HashMap<>();
+    private int stalePositionsFrom = NO_STALE_POSITIONS;
+
+    // Name index, kept in sync with internalList
+    private final Ordinals<Person> ordinals = new Ordinals<>();
+    private final NameTrigramIndex nameIndex = new NameTrigramIndex(ordinals);
+
+    // Preference indexes, refreshed per person
+    private final Map<Person, List<PropertyPreference>> indexedPreferences = new IdentityHashMap<>();
+    private final Map<PropertyPreference, Person> preferenceToPerson = new IdentityHashMap<>();
+    private final Ordinals<PropertyPreference> preferenceOrdinals = new Ordinals<>();
+    private final TagIndex<PropertyPreference> preferenceTagIndex =
+            new TagIndex<>(preferenceOrdinals, PropertyPreference::getTags);
+    private final PriceRangeIndex<PropertyPreference> preferencePriceRangeIndex = new PriceRangeIndex<>();
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return phoneToPosition.containsKey(toCheck.getPhone());
     }
 
     /**
@@ -46,6 +86,10 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        phoneToPosition.put(toAdd.getPhone(), internalList.size() - 1);
+        ordinals.assign(toAdd);
+        nameIndex.add(toAdd);
+        indexPreferences(toAdd);
     }
 
     /**
@@ -56,7 +100,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,7 +109,13 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person storedPerson = internalList.set(index, editedPerson);
+        phoneToPosition.remove(target.getPhone());
+        phoneToPosition.put(editedPerson.getPhone(), index);
+        ordinals.replace(storedPerson, editedPerson);
+        nameIndex.update(editedPerson);
+        unindexPreferences(storedPerson);
+        indexPreferences(editedPerson);
     }
 
     /**
@@ -74,14 +124,24 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        Person storedPerson = internalList.remove(index);
+        phoneToPosition.remove(toRemove.getPhone());
+        stalePositionsFrom = Math.min(stalePositionsFrom, index);
+        nameIndex.remove(storedPerson);
+        ordinals.release(storedPerson);
+        unindexPreferences(storedPerson);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndex();
     }
 
     /**
@@ -95,6 +155,74 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.setAll(persons);
+        rebuildIndex();
+    }
+
+    /**
+     * Returns the persons in the list whose full names contain any of {@code keywords}, ignoring case.
+     * The returned set compares persons by reference.
+     */
+    public Set<Person> getPersonsWithNameContainingAny(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+
+        BitSet matchingOrdinals = new BitSet();
+        for (String keyword : keywords) {
+            matchingOrdinals.or(nameIndex.getOrdinalsWithNameContaining(keyword));
+        }
+
+        Set<Person> matchingPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        matchingPersons.addAll(ordinals.toElements(matchingOrdinals));
+        return Collections.unmodifiableSet(matchingPersons);
+    }
+
+    /**
+     * Returns true if {@code preference} is a property preference of a person in the list.
+     * Preferences are compared by reference.
+     */
+    public boolean containsPreference(PropertyPreference preference) {
+        requireNonNull(preference);
+        return preferenceToPerson.containsKey(preference);
+    }
+
+    /**
+     * Returns the property preferences of the persons in the list that have at least one of {@code tagNames},
+     * compared case-insensitively.
+     * The returned set compares preferences by reference.
+     */
+    public Set<PropertyPreference> getPreferencesWithAnyTag(Collection<String> tagNames) {
+        requireAllNonNull(tagNames);
+
+        Set<PropertyPreference> matchingPreferences = Collections.newSetFromMap(new IdentityHashMap<>());
+        matchingPreferences.addAll(preferenceOrdinals.toElements(preferenceTagIndex.getOrdinalsWithAnyTag(tagNames)));
+        return Collections.unmodifiableSet(matchingPreferences);
+    }
+
+    /**
+     * Returns the property preferences of the persons in the list with price ranges that overlap {@code priceRange}.
+     * The returned set compares preferences by reference.
+     */
+    public Set<PropertyPreference> getPreferencesWithOverlappingPriceRange(PriceRange priceRange) {
+        requireNonNull(priceRange);
+
+        Set<PropertyPreference> matchingPreferences = Collections.newSetFromMap(new IdentityHashMap<>());
+        matchingPreferences.addAll(preferencePriceRangeIndex.getOverlapping(priceRange));
+        return Collections.unmodifiableSet(matchingPreferences);
+    }
+
+    /**
+     * Returns the persons in the list with at least one property preference that has every one of {@code tagNames},
+     * compared case-insensitively.
+     * The returned set compares persons by reference.
+     */
+    public Set<Person> getPersonsWithPreferenceContainingAllTags(Collection<String> tagNames) {
+        requireAllNonNull(tagNames);
+
+        BitSet matchingOrdinals = preferenceTagIndex.getOrdinalsWithAllTags(tagNames);
+        Set<Person> matchingPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (PropertyPreference preference : preferenceOrdinals.toElements(matchingOrdinals)) {
+            matchingPersons.add(preferenceToPerson.get(preference));
+        }
+        return Collections.unmodifiableSet(matchingPersons);
     }
 
     /**
@@ -134,15 +262,95 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    /**
+     * Returns the position of the person equal to {@code person} in the backing list, or -1 if there is none.
+     * Refreshes the positions invalidated by earlier removals if the looked up position is one of them.
+     */
+    private int indexOf(Person person) {
+        Integer position = phoneToPosition.get(person.getPhone());
+        if (position == null) {
+            return -1;
+        }
+
+        if (position >= stalePositionsFrom) {
+            refreshStalePositions();
+            position = phoneToPosition.get(person.getPhone());
+        }
+
+        return internalList.get(position).equals(person) ? position : -1;
+    }
+
+    /**
+     * Renumbers the persons that were shifted down by removals.
+     */
+    private void refreshStalePositions() {
+        for (int i = stalePositionsFrom; i < internalList.size(); i++) {
+            phoneToPosition.put(internalList.get(i).getPhone(), i);
+        }
+        stalePositionsFrom = NO_STALE_POSITIONS;
+    }
+
+    /**
+     * Rebuilds the phone index, the name index and the preference indexes from the backing list.
+     */
+    private void rebuildIndex() {
+        phoneToPosition.clear();
+        stalePositionsFrom = NO_STALE_POSITIONS;
+        ordinals.clear();
+        nameIndex.clear();
+        indexedPreferences.clear();
+        preferenceToPerson.clear();
+        preferenceOrdinals.clear();
+        preferenceTagIndex.clear();
+        preferencePriceRangeIndex.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            Person person = internalList.get(i);
+            phoneToPosition.put(person.getPhone(), i);
+            ordinals.assign(person);
+            nameIndex.add(person);
+            indexPreferences(person);
+        }
+    }
+
+    /**
+     * Adds the current property preferences of {@code person} to the preference indexes.
+     */
+    private void indexPreferences(Person person) {
+        List<PropertyPreference> preferences = new ArrayList<>(person.getPropertyPreferences());
+        for (PropertyPreference preference : preferences) {
+            preferenceToPerson.put(preference, person);
+            preferenceOrdinals.assign(preference);
+            preferenceTagIndex.add(preference);
+            preferencePriceRangeIndex.add(preference, preference.getPriceRange());
+        }
+        indexedPreferences.put(person, preferences);
+    }
+
+    /**
+     * Removes the property preferences that were last indexed for {@code person} from the preference indexes.
+     */
+    private void unindexPreferences(Person person) {
+        List<PropertyPreference> preferences = indexedPreferences.remove(person);
+        if (preferences == null) {
+            return;
+        }
+
+        for (PropertyPreference preference : preferences) {
+            preferenceToPerson.remove(preference);
+            preferenceTagIndex.remove(preference);
+            preferenceOrdinals.release(preference);
+            preferencePriceRangeIndex.remove(preference);
+        }
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Phone> seenPhones = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenPhones.add(person.getPhone())) {
+                return false;
             }
         }
         return true;
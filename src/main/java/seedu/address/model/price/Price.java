@@ -9,6 +9,9 @@ import java.math.RoundingMode;
 /**
  * Represents a Price in the real estate system.
  * Guarantees: immutable; is valid as declared in {@link #isValidPrice(String)}
+ * A valid price has at most 16 digits before the decimal point and 2 after it, so it is also kept exactly as a whole
+ * number of cents in a {@code long}, which is used for comparisons. The {@code BigDecimal} is kept for display and
+ * storage.
  */
 public class Price {
     public static final String MESSAGE_CONSTRAINTS =
@@ -19,6 +22,7 @@ public class Price {
     public static final String VALIDATION_REGEX = "^[0-9]{1,16}(?:\\.\\d{1,2})?$";
 
     public final BigDecimal price;
+    private final long cents;
 
     /**
      * Constructs a {@code Price}.
@@ -29,6 +33,7 @@ public class Price {
         requireNonNull(price);
         checkArgument(isValidPrice(price), MESSAGE_CONSTRAINTS);
         this.price = new BigDecimal(price);
+        this.cents = this.price.movePointRight(2).longValueExact();
     }
 
     /**
@@ -42,6 +47,13 @@ public class Price {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the price as a whole number of cents.
+     */
+    public long getCents() {
+        return cents;
+    }
+
     /**
      * Compares the value of this price with the value of another price.
      *
@@ -51,7 +63,7 @@ public class Price {
     public int compare(Price otherPrice) {
         requireNonNull(otherPrice);
 
-        return this.price.compareTo(otherPrice.price);
+        return Long.compare(this.cents, otherPrice.cents);
     }
 
     @Override
@@ -66,12 +78,12 @@ public class Price {
         }
 
         Price otherPrice = (Price) other;
-        return this.price.equals(otherPrice.price);
+        return this.cents == otherPrice.cents;
     }
 
     @Override
     public int hashCode() {
-        return this.price.hashCode();
+        return Long.hashCode(this.cents);
     }
 
     @Override
@@ -13,9 +13,16 @@ import java.util.Objects;
  * If it is bounded on both sides, it must have a lowerBoundPrice and an upperBoundPrice.
  * If it is bounded on one side, it must have one null field.
  * If it is unbounded, it must have two null fields.
+ * The bounds are also kept as whole numbers of cents, with a missing bound stored as {@link #NO_LOWER_BOUND} or
+ * {@link #NO_UPPER_BOUND}, so that price and overlap checks are plain {@code long} comparisons.
  */
 public class PriceRange {
 
+    /** The lower bound in cents of a range without a lower bound, which is below every price. */
+    public static final long NO_LOWER_BOUND = Long.MIN_VALUE;
+    /** The upper bound in cents of a range without an upper bound, which is above every price. */
+    public static final long NO_UPPER_BOUND = Long.MAX_VALUE;
+
     private static final String ANY_PRICE_STRING = "Any Price";
     private static final String UP_TO_STRING = "Up to ";
     private static final String FROM_STRING = "From ";
@@ -24,6 +31,8 @@ public class PriceRange {
 
     public final Price lowerBoundPrice;
     public final Price upperBoundPrice;
+    private final long lowerBoundCents;
+    private final long upperBoundCents;
 
     /**
      * Constructs an unbounded {@code PriceRange}.
@@ -31,6 +40,8 @@ public class PriceRange {
     public PriceRange() {
         this.lowerBoundPrice = null;
         this.upperBoundPrice = null;
+        this.lowerBoundCents = NO_LOWER_BOUND;
+        this.upperBoundCents = NO_UPPER_BOUND;
     }
 
     /**
@@ -45,9 +56,13 @@ public class PriceRange {
         if (isUpperBound) {
             this.lowerBoundPrice = null;
             this.upperBoundPrice = singleBoundPrice;
+            this.lowerBoundCents = NO_LOWER_BOUND;
+            this.upperBoundCents = singleBoundPrice.getCents();
         } else {
             this.lowerBoundPrice = singleBoundPrice;
             this.upperBoundPrice = null;
+            this.lowerBoundCents = singleBoundPrice.getCents();
+            this.upperBoundCents = NO_UPPER_BOUND;
         }
     }
 
@@ -62,6 +77,22 @@ public class PriceRange {
         checkArgument(lowerBoundPrice.compare(upperBoundPrice) <= EQUAL_TO);
         this.lowerBoundPrice = lowerBoundPrice;
         this.upperBoundPrice = upperBoundPrice;
+        this.lowerBoundCents = lowerBoundPrice.getCents();
+        this.upperBoundCents = upperBoundPrice.getCents();
+    }
+
+    /**
+     * Returns the lower bound in cents, or {@link #NO_LOWER_BOUND} if the range has no lower bound.
+     */
+    public long getLowerBoundCents() {
+        return lowerBoundCents;
+    }
+
+    /**
+     * Returns the upper bound in cents, or {@link #NO_UPPER_BOUND} if the range has no upper bound.
+     */
+    public long getUpperBoundCents() {
+        return upperBoundCents;
     }
 
     /**
@@ -73,28 +104,14 @@ public class PriceRange {
     public boolean isPriceWithinRange(Price otherPrice) {
         requireNonNull(otherPrice);
 
-        // If range is unbounded
-        if (this.lowerBoundPrice == null && this.upperBoundPrice == null) {
-            return true;
-        }
-
-        // If range is only upper bounded
-        if (this.lowerBoundPrice == null) {
-            return otherPrice.compare(this.upperBoundPrice) <= EQUAL_TO;
-        }
-
-        // If range is only lower bounded
-        if (this.upperBoundPrice == null) {
-            return otherPrice.compare(this.lowerBoundPrice) >= EQUAL_TO;
-        }
-
-        // If range is bounded on both sides
-        return otherPrice.compare(this.lowerBoundPrice) >= EQUAL_TO
-            && otherPrice.compare(this.upperBoundPrice) <= EQUAL_TO;
+        // Missing bounds are sentinels that lie beyond every price
+        long otherCents = otherPrice.getCents();
+        return lowerBoundCents <= otherCents && otherCents <= upperBoundCents;
     }
 
     /**
      * Checks if two price ranges overlap.
+     * Both ranges include their bounds, and a missing bound leaves the range unbounded on that side.
      *
      * @param otherPriceRange The other price range to check.
      * @return true if the price ranges overlap, false otherwise.
@@ -102,20 +119,20 @@ public class PriceRange {
     public boolean doPriceRangeOverlap(PriceRange otherPriceRange) {
         requireNonNull(otherPriceRange);
 
-        boolean isOtherLowerBoundWithinRange = otherPriceRange.lowerBoundPrice == null
-                || this.isPriceWithinRange(otherPriceRange.lowerBoundPrice);
-
-        boolean isOtherUpperBoundWithinRange = otherPriceRange.upperBoundPrice == null
-                || this.isPriceWithinRange(otherPriceRange.upperBoundPrice);
-
-        boolean isThisLowerBoundWithinRange = this.lowerBoundPrice == null
-                || otherPriceRange.isPriceWithinRange(this.lowerBoundPrice);
-
-        boolean isThisUpperBoundWithinRange = this.upperBoundPrice == null
-                || otherPriceRange.isPriceWithinRange(this.upperBoundPrice);
+        return doPriceRangesOverlap(lowerBoundCents, upperBoundCents,
+                otherPriceRange.lowerBoundCents, otherPriceRange.upperBoundCents);
+    }
 
-        return isOtherLowerBoundWithinRange || isOtherUpperBoundWithinRange
-                || (isThisLowerBoundWithinRange && isThisUpperBoundWithinRange);
+    /**
+     * Checks if two price ranges, given as bounds in cents, overlap.
+     * Both ranges include their bounds, and missing bounds must be given as {@link #NO_LOWER_BOUND} or
+     * {@link #NO_UPPER_BOUND}.
+     *
+     * @return true if the price ranges overlap, false otherwise.
+     */
+    public static boolean doPriceRangesOverlap(long lowerBoundCents, long upperBoundCents,
+            long otherLowerBoundCents, long otherUpperBoundCents) {
+        return lowerBoundCents <= otherUpperBoundCents && otherLowerBoundCents <= upperBoundCents;
     }
 
     @Override
@@ -130,13 +147,13 @@ public class PriceRange {
         }
 
         PriceRange otherPriceRange = (PriceRange) other;
-        return Objects.equals(this.lowerBoundPrice, otherPriceRange.lowerBoundPrice)
-                && Objects.equals(this.upperBoundPrice, otherPriceRange.upperBoundPrice);
+        return lowerBoundCents == otherPriceRange.lowerBoundCents
+                && upperBoundCents == otherPriceRange.upperBoundCents;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(lowerBoundPrice, upperBoundPrice);
+        return Objects.hash(lowerBoundCents, upperBoundCents);
     }
 
     @Override
@@ -0,0 +1,234 @@
+package seedu.address.model.price;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interval index over the {@code PriceRange}s of a collection of elements.
+ * The index is a randomised balanced binary search tree ordered by lower bound, where every node also records the
+ * largest upper bound in its subtree. Finding the elements whose price ranges overlap a given price range therefore
+ * only visits the subtrees that can contain an overlap, taking O(log n + k) time for k results in the typical case,
+ * instead of comparing against every element.
+ * Bounds are compared in cents, with missing bounds as the {@code PriceRange} sentinels, so a range without a lower
+ * bound starts below every price and a range without an upper bound ends above every price, matching
+ * {@code PriceRange#doPriceRangeOverlap(PriceRange)}.
+ * Elements are compared by reference.
+ *
+ * @param <T> The type of the indexed elements.
+ */
+public class PriceRangeIndex<T> {
+
+    private final Map<T, Node<T>> elementToNode = new IdentityHashMap<>();
+    private Node<T> root;
+    private long nextSequenceNumber;
+
+    /**
+     * Adds {@code element} with the price range {@code priceRange}.
+     * {@code element} must not already be in the index.
+     */
+    public void add(T element, PriceRange priceRange) {
+        requireAllNonNull(element, priceRange);
+        assert !elementToNode.containsKey(element);
+
+        Node<T> node = new Node<>(element, priceRange, nextSequenceNumber++);
+        elementToNode.put(element, node);
+        root = insert(root, node);
+    }
+
+    /**
+     * Removes {@code element} from the index, if it is in the index.
+     */
+    public void remove(T element) {
+        requireNonNull(element);
+
+        Node<T> node = elementToNode.remove(element);
+        if (node != null) {
+            root = delete(root, node);
+        }
+    }
+
+    /**
+     * Re-indexes {@code element} under the price range {@code priceRange}, adding it if it is not in the index.
+     */
+    public void update(T element, PriceRange priceRange) {
+        requireAllNonNull(element, priceRange);
+
+        Node<T> node = elementToNode.get(element);
+        if (node != null && node.priceRange.equals(priceRange)) {
+            return;
+        }
+
+        remove(element);
+        add(element, priceRange);
+    }
+
+    /**
+     * Removes every element from the index.
+     */
+    public void clear() {
+        elementToNode.clear();
+        root = null;
+    }
+
+    public int size() {
+        return elementToNode.size();
+    }
+
+    /**
+     * Returns the elements whose price ranges overlap {@code priceRange}, ordered by lower bound.
+     */
+    public List<T> getOverlapping(PriceRange priceRange) {
+        requireNonNull(priceRange);
+
+        List<T> result = new ArrayList<>();
+        collectOverlapping(root, priceRange.getLowerBoundCents(), priceRange.getUpperBoundCents(), result);
+        return result;
+    }
+
+    private static <T> void collectOverlapping(Node<T> node, long lower, long upper, List<T> result) {
+        if (node == null || node.maxUpper < lower) {
+            return;
+        }
+
+        collectOverlapping(node.left, lower, upper, result);
+
+        // Everything from here onwards starts above the queried range
+        if (node.lower > upper) {
+            return;
+        }
+
+        if (node.upper >= lower) {
+            result.add(node.element);
+        }
+        collectOverlapping(node.right, lower, upper, result);
+    }
+
+    private static <T> Node<T> insert(Node<T> subtree, Node<T> node) {
+        if (subtree == null) {
+            return node;
+        }
+
+        if (node.compareTo(subtree) < 0) {
+            subtree.left = insert(subtree.left, node);
+            if (subtree.left.priority > subtree.priority) {
+                subtree = rotateRight(subtree);
+            }
+        } else {
+            subtree.right = insert(subtree.right, node);
+            if (subtree.right.priority > subtree.priority) {
+                subtree = rotateLeft(subtree);
+            }
+        }
+
+        subtree.updateMaxUpper();
+        return subtree;
+    }
+
+    private static <T> Node<T> delete(Node<T> subtree, Node<T> node) {
+        if (subtree == null) {
+            return null;
+        }
+
+        if (subtree == node) {
+            return merge(subtree.left, subtree.right);
+        }
+
+        if (node.compareTo(subtree) < 0) {
+            subtree.left = delete(subtree.left, node);
+        } else {
+            subtree.right = delete(subtree.right, node);
+        }
+
+        subtree.updateMaxUpper();
+        return subtree;
+    }
+
+    /**
+     * Merges two subtrees where every node of {@code left} is ordered before every node of {@code right}.
+     */
+    private static <T> Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.updateMaxUpper();
+            return left;
+        } else {
+            right.left = merge(left, right.left);
+            right.updateMaxUpper();
+            return right;
+        }
+    }
+
+    private static <T> Node<T> rotateRight(Node<T> node) {
+        Node<T> newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        node.updateMaxUpper();
+        newRoot.updateMaxUpper();
+        return newRoot;
+    }
+
+    private static <T> Node<T> rotateLeft(Node<T> node) {
+        Node<T> newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        node.updateMaxUpper();
+        newRoot.updateMaxUpper();
+        return newRoot;
+    }
+
+    /**
+     * A node of the tree, ordered by lower bound and then by insertion order.
+     */
+    private static final class Node<T> {
+        private final T element;
+        private final PriceRange priceRange;
+        private final long lower;
+        private final long upper;
+        private final long sequenceNumber;
+        private final int priority;
+
+        private long maxUpper;
+        private Node<T> left;
+        private Node<T> right;
+
+        Node(T element, PriceRange priceRange, long sequenceNumber) {
+            this.element = element;
+            this.priceRange = priceRange;
+            this.lower = priceRange.getLowerBoundCents();
+            this.upper = priceRange.getUpperBoundCents();
+            this.sequenceNumber = sequenceNumber;
+            this.priority = Long.hashCode(sequenceNumber * 0x9E3779B97F4A7C15L);
+            this.maxUpper = upper;
+        }
+
+        int compareTo(Node<T> other) {
+            if (lower != other.lower) {
+                return Long.compare(lower, other.lower);
+            }
+            return Long.compare(sequenceNumber, other.sequenceNumber);
+        }
+
+        void updateMaxUpper() {
+            long max = upper;
+            if (left != null) {
+                max = Math.max(max, left.maxUpper);
+            }
+            if (right != null) {
+                max = Math.max(max, right.maxUpper);
+            }
+            maxUpper = max;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the best {@code capacity} of the elements offered to it, ranked by a comparator that orders better elements
+ * first (e.g. a match score comparator).
+ * The worst kept element sits at the root of a min-heap, so each offer costs {@code O(log capacity)} and the full
+ * list of candidates is never sorted.
+ * Elements that rank equally keep the order they were offered in, so an element offered later never displaces an
+ * equally ranked one offered earlier.
+ *
+ * @param <T> The type of the ranked elements.
+ */
+public class BoundedMatchHeap<T> {
+
+    private final int capacity;
+    private final Comparator<Entry<T>> ranking;
+    private final PriorityQueue<Entry<T>> heap;
+    private int offeredCount = 0;
+
+    /**
+     * Creates an empty {@code BoundedMatchHeap} that keeps at most {@code capacity} elements.
+     *
+     * @param capacity The most elements to keep, must be positive.
+     * @param ranking Orders better elements before worse ones.
+     */
+    public BoundedMatchHeap(int capacity, Comparator<? super T> ranking) {
+        requireNonNull(ranking);
+        assert capacity > 0;
+
+        this.capacity = capacity;
+        this.ranking = Comparator.<Entry<T>, T>comparing(entry -> entry.element, ranking)
+                .thenComparingInt(entry -> entry.sequence);
+        this.heap = new PriorityQueue<>(capacity, this.ranking.reversed());
+    }
+
+    /**
+     * Offers {@code element}, keeping it if it ranks among the best elements offered so far.
+     */
+    public void offer(T element) {
+        requireNonNull(element);
+
+        Entry<T> entry = new Entry<>(element, offeredCount++);
+        if (heap.size() < capacity) {
+            heap.add(entry);
+        } else if (ranking.compare(entry, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(entry);
+        }
+    }
+
+    /**
+     * Returns true if the heap holds {@code capacity} elements, so that an offered element is only kept if it ranks
+     * better than {@link #peekWorst()}.
+     */
+    public boolean isFull() {
+        return heap.size() == capacity;
+    }
+
+    /**
+     * Returns the worst ranked of the kept elements, or null if no element has been kept.
+     */
+    public T peekWorst() {
+        Entry<T> worst = heap.peek();
+        return worst == null ? null : worst.element;
+    }
+
+    /**
+     * Returns the number of elements offered so far, including those that were not kept.
+     */
+    public int getOfferedCount() {
+        return offeredCount;
+    }
+
+    /**
+     * Returns the kept elements, best first.
+     */
+    public List<T> toSortedList() {
+        List<Entry<T>> entries = new ArrayList<>(heap);
+        entries.sort(ranking);
+
+        List<T> elements = new ArrayList<>(entries.size());
+        for (Entry<T> entry : entries) {
+            elements.add(entry.element);
+        }
+        return elements;
+    }
+
+    private static class Entry<T> {
+        private final T element;
+        private final int sequence;
+
+        private Entry(T element, int sequence) {
+            this.element = element;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Matches every {@code PropertyPreference} against every available {@code Listing} at once, keeping the best
+ * matches of each preference.
+ * A listing matches a preference by the same rules as {@code ListingMatchesPreferencePredicate}, and is scored with
+ * the unweighted scores of {@code ScoringWeights#UNWEIGHTED}, one point for overlapping price ranges and one point for
+ * each shared tag, which lets listings be visited by their number of shared tags. Listings with equal scores are
+ * ranked in address book order.
+ * <p>
+ * The listings are snapshotted into tag posting lists when the matcher is created. Each preference then only visits
+ * the listings that share at least one of its tags, and only scans for listings that match on price alone while
+ * those could still make its top matches. Preferences are matched in parallel on the common fork-join pool, so the
+ * listings and preferences must not be modified while {@link #match(List)} runs.
+ */
+public class BulkMatcher {
+    private static final int PRICE_MATCH_SCORE = 1;
+    private static final int TAG_MATCH_SCORE = 1;
+
+    // The fewest preferences a task is split down to, below which forking costs more than it saves
+    private static final int MIN_PREFERENCES_PER_TASK = 64;
+
+    private final List<Listing> listings;
+    private final long[] listingLowerBoundCents;
+    private final long[] listingUpperBoundCents;
+    private final int[][] tagPostings;
+    private final int matchesPerPreference;
+
+    /**
+     * Creates a {@code BulkMatcher} over the available listings in {@code listings}.
+     *
+     * @param listings The listings to match against, in address book order.
+     * @param matchesPerPreference The most matches to keep for each preference, must be positive.
+     */
+    public BulkMatcher(List<Listing> listings, int matchesPerPreference) {
+        requireNonNull(listings);
+        assert matchesPerPreference > 0;
+
+        this.listings = listings.stream().filter(Listing::getAvailability).toList();
+        this.listingLowerBoundCents = new long[this.listings.size()];
+        this.listingUpperBoundCents = new long[this.listings.size()];
+        this.matchesPerPreference = matchesPerPreference;
+
+        // Count the listings of each tag first, so that the postings can be filled in without boxing
+        int[] postingCounts = new int[0];
+        for (int i = 0; i < this.listings.size(); i++) {
+            Listing listing = this.listings.get(i);
+            listingLowerBoundCents[i] = listing.getPriceRange().getLowerBoundCents();
+            listingUpperBoundCents[i] = listing.getPriceRange().getUpperBoundCents();
+            for (Tag tag : listing.getTags()) {
+                if (tag.getId() >= postingCounts.length) {
+                    postingCounts = Arrays.copyOf(postingCounts, Math.max(tag.getId() + 1, postingCounts.length * 2));
+                }
+                postingCounts[tag.getId()]++;
+            }
+        }
+
+        this.tagPostings = new int[postingCounts.length][];
+        for (int id = 0; id < postingCounts.length; id++) {
+            tagPostings[id] = new int[postingCounts[id]];
+        }
+        int[] filledCounts = new int[postingCounts.length];
+        for (int i = 0; i < this.listings.size(); i++) {
+            for (Tag tag : this.listings.get(i).getTags()) {
+                tagPostings[tag.getId()][filledCounts[tag.getId()]++] = i;
+            }
+        }
+    }
+
+    /**
+     * Returns the best matches of each of {@code preferences}, in the same order as {@code preferences}.
+     */
+    public List<PreferenceMatches> match(List<PropertyPreference> preferences) {
+        requireNonNull(preferences);
+
+        PreferenceMatches[] results = new PreferenceMatches[preferences.size()];
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        int preferencesPerTask = Math.max(MIN_PREFERENCES_PER_TASK, preferences.size() / (parallelism * 4));
+        ForkJoinPool.commonPool().invoke(new MatchTask(preferences, results, 0, preferences.size(),
+                preferencesPerTask));
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Matches the preferences in {@code [from, to)}, splitting the range in half until it is small enough to match
+     * directly.
+     */
+    private class MatchTask extends RecursiveAction {
+        private final List<PropertyPreference> preferences;
+        private final PreferenceMatches[] results;
+        private final int from;
+        private final int to;
+        private final int preferencesPerTask;
+
+        MatchTask(List<PropertyPreference> preferences, PreferenceMatches[] results, int from, int to,
+                int preferencesPerTask) {
+            this.preferences = preferences;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.preferencesPerTask = preferencesPerTask;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= preferencesPerTask) {
+                PreferenceScorer scorer = new PreferenceScorer();
+                for (int i = from; i < to; i++) {
+                    results[i] = scorer.match(preferences.get(i));
+                }
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new MatchTask(preferences, results, from, mid, preferencesPerTask),
+                    new MatchTask(preferences, results, mid, to, preferencesPerTask));
+        }
+    }
+
+    /**
+     * Scores preferences one at a time, reusing its scratch arrays between preferences.
+     * Each instance must only be used by one thread.
+     */
+    private class PreferenceScorer {
+        private final int[] tagMatchCounts = new int[listings.size()];
+        private final int[] scores = new int[listings.size()];
+        private final int[] touchedPositions = new int[listings.size()];
+        private final int[] multiTagPositions = new int[listings.size()];
+        private final Comparator<Integer> ranking = Comparator.<Integer>comparingInt(position -> -scores[position])
+                .thenComparingInt(position -> position);
+
+        PreferenceMatches match(PropertyPreference preference) {
+            Person person = preference.getPerson();
+            PriceRange priceRange = preference.getPriceRange();
+            BoundedMatchHeap<Integer> topMatches = new BoundedMatchHeap<>(matchesPerPreference, ranking);
+
+            // Count the shared tags of every listing that shares at least one tag, noting the listings that share
+            // more than one separately as they are usually far fewer
+            int touchedCount = 0;
+            int multiTagCount = 0;
+            for (Tag tag : preference.getTags()) {
+                if (tag.getId() >= tagPostings.length) {
+                    continue;
+                }
+                for (int position : tagPostings[tag.getId()]) {
+                    int sharedTags = ++tagMatchCounts[position];
+                    if (sharedTags == 1) {
+                        touchedPositions[touchedCount++] = position;
+                    } else if (sharedTags == 2) {
+                        multiTagPositions[multiTagCount++] = position;
+                    }
+                }
+            }
+
+            // Visit the listings that share the most tags first, so that the top matches fill up with high scores
+            // early and most of the remaining listings can be ruled out without comparing their price ranges
+            int mostSharedTags = preference.getTags().size();
+            for (int sharedTags = mostSharedTags; sharedTags > 0; sharedTags--) {
+                int bestPossibleScore = sharedTags * TAG_MATCH_SCORE + PRICE_MATCH_SCORE;
+                if (topMatches.isFull() && scores[topMatches.peekWorst()] > bestPossibleScore) {
+                    break;
+                }
+
+                int[] candidates = sharedTags > 1 ? multiTagPositions : touchedPositions;
+                int candidateCount = sharedTags > 1 ? multiTagCount : touchedCount;
+                for (int i = 0; i < candidateCount; i++) {
+                    int position = candidates[i];
+                    if (tagMatchCounts[position] != sharedTags || !canEnter(topMatches, position, bestPossibleScore)) {
+                        continue;
+                    }
+
+                    int score = sharedTags * TAG_MATCH_SCORE
+                            + (isPriceOverlapping(priceRange, position) ? PRICE_MATCH_SCORE : 0);
+                    if (canEnter(topMatches, position, score) && !isOwnedBy(position, person)) {
+                        scores[position] = score;
+                        topMatches.offer(position);
+                    }
+                }
+            }
+
+            // Listings that share no tags can only match on price, so they can only displace matches with the same
+            // score that come later in the address book
+            for (int position = 0; position < listings.size(); position++) {
+                if (!canEnter(topMatches, position, PRICE_MATCH_SCORE)) {
+                    break;
+                }
+                if (tagMatchCounts[position] == 0 && !isOwnedBy(position, person)
+                        && isPriceOverlapping(priceRange, position)) {
+                    scores[position] = PRICE_MATCH_SCORE;
+                    topMatches.offer(position);
+                }
+            }
+
+            for (int i = 0; i < touchedCount; i++) {
+                tagMatchCounts[touchedPositions[i]] = 0;
+            }
+
+            List<Listing> matchedListings = new ArrayList<>();
+            List<Integer> matchedScores = new ArrayList<>();
+            for (int position : topMatches.toSortedList()) {
+                matchedListings.add(listings.get(position));
+                matchedScores.add(scores[position]);
+            }
+            return new PreferenceMatches(preference, matchedListings, matchedScores);
+        }
+
+        /**
+         * Returns true if the listing at {@code position} would be kept in {@code topMatches} with {@code score}.
+         */
+        private boolean canEnter(BoundedMatchHeap<Integer> topMatches, int position, int score) {
+            if (!topMatches.isFull()) {
+                return true;
+            }
+
+            int worstPosition = topMatches.peekWorst();
+            int worstScore = scores[worstPosition];
+            return score > worstScore || (score == worstScore && position < worstPosition);
+        }
+
+        private boolean isPriceOverlapping(PriceRange priceRange, int position) {
+            return PriceRange.doPriceRangesOverlap(priceRange.getLowerBoundCents(), priceRange.getUpperBoundCents(),
+                    listingLowerBoundCents[position], listingUpperBoundCents[position]);
+        }
+
+        private boolean isOwnedBy(int position, Person person) {
+            return listings.get(position).getOwners().contains(person);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagBitSet;
+
+/**
+ * The demand for every {@code Listing} in an address book, i.e. the number of {@code PropertyPreference}s that it
+ * matches by the rules of {@code ListingMatchesPreferencePredicate}.
+ * <p>
+ * The demand is counted the first time it is asked for, by looking up the candidate listings of each preference in
+ * the listing tag and price range indexes, and is then kept up to date as listings and persons change: a changed
+ * listing is recounted against its candidate preferences, and a changed preference is uncounted from the listings it
+ * matched before the change and counted towards the listings it matches after.
+ * To tell which listings a preference matched before it changed in place, the price range, tags and person of every
+ * counted preference are snapshotted.
+ * Listings and preferences are compared by reference.
+ */
+public class ListingDemand {
+
+    private final AddressBook addressBook;
+    private final Map<Listing, Integer> demandByListing = new IdentityHashMap<>();
+    private final Map<PropertyPreference, PreferenceSnapshot> snapshots = new IdentityHashMap<>();
+
+    // The counted preferences of each person, by the person in their snapshots
+    private final Map<Person, Set<PropertyPreference>> preferencesByPerson = new IdentityHashMap<>();
+
+    private boolean isCounted = false;
+
+    /**
+     * Creates a {@code ListingDemand} of the listings in {@code addressBook}.
+     */
+    public ListingDemand(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        this.addressBook = addressBook;
+    }
+
+    /**
+     * Returns the number of property preferences that {@code listing} matches, counting the demand of every listing
+     * first if it has not been counted yet.
+     */
+    public int getDemand(Listing listing) {
+        requireNonNull(listing);
+
+        countAll();
+        return demandByListing.getOrDefault(listing, 0);
+    }
+
+    /**
+     * Records that {@code editedListing} has replaced {@code target}, which may be the same listing changed in place,
+     * or that {@code editedListing} was added if {@code target} is null.
+     */
+    public void updateListing(Listing target, Listing editedListing) {
+        requireNonNull(editedListing);
+
+        if (!isCounted) {
+            return;
+        }
+
+        if (target != null) {
+            demandByListing.remove(target);
+        }
+        int demand = 0;
+        for (PropertyPreference preference : addressBook.getCandidatePreferences(editedListing)) {
+            PreferenceSnapshot snapshot = snapshots.get(preference);
+            if (snapshot != null && snapshot.matches(editedListing)) {
+                demand++;
+            }
+        }
+        demandByListing.put(editedListing, demand);
+    }
+
+    /**
+     * Stops counting the demand of {@code listing}, e.g. after it is deleted.
+     */
+    public void removeListing(Listing listing) {
+        requireNonNull(listing);
+        demandByListing.remove(listing);
+    }
+
+    /**
+     * Records that {@code editedPerson} has replaced {@code target}, which may be the same person changed in place,
+     * or that {@code target} was deleted if {@code editedPerson} is not in the address book.
+     * The preferences that either person had or has are recounted.
+     */
+    public void updatePerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+
+        if (!isCounted) {
+            return;
+        }
+
+        Set<PropertyPreference> changedPreferences = Collections.newSetFromMap(new IdentityHashMap<>());
+        changedPreferences.addAll(preferencesByPerson.getOrDefault(target, Set.of()));
+        changedPreferences.addAll(preferencesByPerson.getOrDefault(editedPerson, Set.of()));
+        changedPreferences.addAll(target.getPropertyPreferences());
+        changedPreferences.addAll(editedPerson.getPropertyPreferences());
+
+        for (PropertyPreference preference : changedPreferences) {
+            uncount(preference);
+            if (addressBook.hasPropertyPreference(preference)) {
+                count(preference);
+            }
+        }
+    }
+
+    /**
+     * Forgets all counted demand, e.g. after the address book is replaced. The demand is counted again the next time
+     * it is asked for.
+     */
+    public void clear() {
+        demandByListing.clear();
+        snapshots.clear();
+        preferencesByPerson.clear();
+        isCounted = false;
+    }
+
+    /**
+     * Counts the demand of every listing, if it has not been counted yet.
+     */
+    private void countAll() {
+        if (isCounted) {
+            return;
+        }
+
+        for (Listing listing : addressBook.getListingList()) {
+            demandByListing.put(listing, 0);
+        }
+        for (Person person : addressBook.getPersonList()) {
+            for (PropertyPreference preference : person.getPropertyPreferences()) {
+                count(preference);
+            }
+        }
+        isCounted = true;
+    }
+
+    /**
+     * Snapshots {@code preference} and adds it to the demand of every listing it matches.
+     */
+    private void count(PropertyPreference preference) {
+        PreferenceSnapshot snapshot = new PreferenceSnapshot(preference);
+        snapshots.put(preference, snapshot);
+        preferencesByPerson.computeIfAbsent(snapshot.person,
+                unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(preference);
+        addToDemand(snapshot, 1);
+    }
+
+    /**
+     * Removes {@code preference} from the demand of every listing it matched when it was last snapshotted.
+     */
+    private void uncount(PropertyPreference preference) {
+        PreferenceSnapshot snapshot = snapshots.remove(preference);
+        if (snapshot == null) {
+            return;
+        }
+
+        Set<PropertyPreference> personPreferences = preferencesByPerson.get(snapshot.person);
+        personPreferences.remove(preference);
+        if (personPreferences.isEmpty()) {
+            preferencesByPerson.remove(snapshot.person);
+        }
+        addToDemand(snapshot, -1);
+    }
+
+    private void addToDemand(PreferenceSnapshot snapshot, int change) {
+        for (Listing listing : addressBook.getCandidateListings(snapshot.priceRange, snapshot.tagNames)) {
+            Integer demand = demandByListing.get(listing);
+            if (demand != null && snapshot.matches(listing)) {
+                demandByListing.put(listing, demand + change);
+            }
+        }
+    }
+
+    /**
+     * The price range, tags and person of a preference when it was counted.
+     */
+    private static class PreferenceSnapshot {
+        private final PriceRange priceRange;
+        private final List<String> tagNames = new ArrayList<>();
+        private final TagBitSet tagBits;
+        private final Person person;
+
+        PreferenceSnapshot(PropertyPreference preference) {
+            this.priceRange = preference.getPriceRange();
+            for (Tag tag : preference.getTags()) {
+                tagNames.add(tag.getTagName());
+            }
+            this.tagBits = preference.getTagBits();
+            this.person = preference.getPerson();
+        }
+
+        /**
+         * Returns true if {@code listing} matches the preference as it was snapshotted, by the rules of
+         * {@code ListingMatchesPreferencePredicate}.
+         */
+        boolean matches(Listing listing) {
+            if (!listing.getAvailability() || listing.getOwners().contains(person)) {
+                return false;
+            }
+
+            PriceRange listingPriceRange = listing.getPriceRange();
+            return PriceRange.doPriceRangesOverlap(priceRange.getLowerBoundCents(), priceRange.getUpperBoundCents(),
+                    listingPriceRange.getLowerBoundCents(), listingPriceRange.getUpperBoundCents())
+                    || listing.getTagBits().intersects(tagBits);
+        }
+    }
+}
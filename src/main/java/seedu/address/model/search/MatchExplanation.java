@@ -0,0 +1,197 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+
+/**
+ * Explains a match: how many candidates were excluded or matched at each stage of the matching rules, the
+ * distribution of the match scores, and how long the candidates took to filter, score and sort.
+ * An explanation is only collected when asked for, so matching without one is not slowed down.
+ */
+public class MatchExplanation {
+
+    /**
+     * The stage of the matching rules at which a candidate was excluded or matched, in the order the stages are
+     * checked.
+     */
+    public enum MatchStage {
+        /** The listing is unavailable. */
+        UNAVAILABLE,
+        /** The listing is owned by the person the preference belongs to. */
+        OWNED,
+        /** The price ranges overlap. */
+        PRICE_MATCH,
+        /** The price ranges do not overlap, but at least one tag is shared. */
+        TAG_MATCH,
+        /** Neither the price ranges nor any tags match. */
+        NO_MATCH;
+
+        public boolean isMatch() {
+            return this == PRICE_MATCH || this == TAG_MATCH;
+        }
+    }
+
+    private final int[] stageCounts = new int[MatchStage.values().length];
+    private double[] sortedScores = new double[0];
+    private long filterNanos;
+    private long scoreNanos;
+    private long sortNanos;
+
+    /**
+     * Returns the stage at which {@code listing} is excluded or matched for {@code preference}, by the rules of
+     * {@code ListingMatchesPreferencePredicate}.
+     */
+    public static MatchStage classify(Listing listing, PropertyPreference preference) {
+        requireAllNonNull(listing, preference);
+
+        if (!listing.getAvailability()) {
+            return MatchStage.UNAVAILABLE;
+        }
+        if (listing.getOwners().contains(preference.getPerson())) {
+            return MatchStage.OWNED;
+        }
+        return classifyPreference(preference, listing);
+    }
+
+    /**
+     * Returns the stage at which {@code person} is excluded or matched for {@code listing}, by the rules of
+     * {@code PersonMatchesPropertyPredicate}. A person matches on price if any of their preferences does.
+     * The availability of {@code listing} is not checked.
+     */
+    public static MatchStage classify(Person person, Listing listing) {
+        requireAllNonNull(person, listing);
+
+        if (listing.getOwners().contains(person)) {
+            return MatchStage.OWNED;
+        }
+
+        MatchStage bestStage = MatchStage.NO_MATCH;
+        for (PropertyPreference preference : person.getPropertyPreferences()) {
+            MatchStage stage = classifyPreference(preference, listing);
+            if (stage == MatchStage.PRICE_MATCH) {
+                return stage;
+            }
+            if (stage == MatchStage.TAG_MATCH) {
+                bestStage = stage;
+            }
+        }
+        return bestStage;
+    }
+
+    private static MatchStage classifyPreference(PropertyPreference preference, Listing listing) {
+        if (preference.getPriceRange().doPriceRangeOverlap(listing.getPriceRange())) {
+            return MatchStage.PRICE_MATCH;
+        }
+        if (preference.getTagBits().intersects(listing.getTagBits())) {
+            return MatchStage.TAG_MATCH;
+        }
+        return MatchStage.NO_MATCH;
+    }
+
+    /**
+     * Records that a candidate was excluded or matched at {@code stage}.
+     */
+    public void count(MatchStage stage) {
+        requireNonNull(stage);
+        stageCounts[stage.ordinal()]++;
+    }
+
+    /**
+     * Returns the number of candidates that were excluded or matched at {@code stage}.
+     */
+    public int getCount(MatchStage stage) {
+        requireNonNull(stage);
+        return stageCounts[stage.ordinal()];
+    }
+
+    /**
+     * Returns the number of candidates that were classified.
+     */
+    public int getCandidateCount() {
+        return Arrays.stream(stageCounts).sum();
+    }
+
+    /**
+     * Returns the number of candidates that matched.
+     */
+    public int getMatchCount() {
+        return getCount(MatchStage.PRICE_MATCH) + getCount(MatchStage.TAG_MATCH);
+    }
+
+    /**
+     * Records the match scores of the matched candidates.
+     */
+    public void setScores(double[] scores) {
+        requireNonNull(scores);
+
+        sortedScores = scores.clone();
+        Arrays.sort(sortedScores);
+    }
+
+    /**
+     * Returns true if any match scores were recorded.
+     */
+    public boolean hasScores() {
+        return sortedScores.length > 0;
+    }
+
+    /**
+     * Returns the lowest match score. There must be recorded scores.
+     */
+    public double getMinScore() {
+        assert hasScores();
+        return sortedScores[0];
+    }
+
+    /**
+     * Returns the median match score, rounding up to the higher of the two middle scores. There must be recorded
+     * scores.
+     */
+    public double getMedianScore() {
+        assert hasScores();
+        return sortedScores[sortedScores.length / 2];
+    }
+
+    /**
+     * Returns the highest match score. There must be recorded scores.
+     */
+    public double getMaxScore() {
+        assert hasScores();
+        return sortedScores[sortedScores.length - 1];
+    }
+
+    /**
+     * Returns the mean match score. There must be recorded scores.
+     */
+    public double getMeanScore() {
+        assert hasScores();
+        return Arrays.stream(sortedScores).sum() / sortedScores.length;
+    }
+
+    /**
+     * Records how long, in nanoseconds, the candidates took to filter, score and sort.
+     */
+    public void setTimings(long filterNanos, long scoreNanos, long sortNanos) {
+        this.filterNanos = filterNanos;
+        this.scoreNanos = scoreNanos;
+        this.sortNanos = sortNanos;
+    }
+
+    public long getFilterNanos() {
+        return filterNanos;
+    }
+
+    public long getScoreNanos() {
+        return scoreNanos;
+    }
+
+    public long getSortNanos() {
+        return sortNanos;
+    }
+}
@@ -0,0 +1,150 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.commons.core.MatchSettings;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.PropertyPreference;
+
+/**
+ * A least recently used cache of the ranked listings that match each {@code PropertyPreference}.
+ * Each result is stored with the generation of the address book it was computed from (see
+ * {@code AddressBook#getGeneration()}) and the {@code MatchSettings} it was computed with, and is only served while
+ * both are unchanged, so any change to the listings or persons invalidates it.
+ * Preferences are compared by reference.
+ */
+public class MatchResultCache {
+
+    public static final int DEFAULT_CAPACITY = 32;
+
+    private final Map<PreferenceKey, MatchResult> results;
+
+    /**
+     * Creates a {@code MatchResultCache} that holds up to {@link #DEFAULT_CAPACITY} results.
+     */
+    public MatchResultCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a {@code MatchResultCache} that holds up to {@code capacity} results, evicting the least recently used
+     * result when full.
+     */
+    public MatchResultCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+
+        this.results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PreferenceKey, MatchResult> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached result of matching {@code preference}, if it was computed at {@code generation} with
+     * {@code matchSettings}. A stale result is dropped.
+     */
+    public Optional<MatchResult> get(PropertyPreference preference, long generation, MatchSettings matchSettings) {
+        requireAllNonNull(preference, matchSettings);
+
+        PreferenceKey key = new PreferenceKey(preference);
+        MatchResult result = results.get(key);
+        if (result == null) {
+            return Optional.empty();
+        }
+
+        if (result.generation != generation || !result.matchSettings.equals(matchSettings)) {
+            results.remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(result);
+    }
+
+    /**
+     * Caches the result of matching {@code preference} at {@code generation} with {@code matchSettings}.
+     *
+     * @param rankedListings The listings shown, best match first.
+     * @param matchCount The number of matching listings, which may be more than the number shown.
+     */
+    public void put(PropertyPreference preference, long generation, MatchSettings matchSettings,
+            List<Listing> rankedListings, int matchCount) {
+        requireAllNonNull(preference, matchSettings, rankedListings);
+
+        results.put(new PreferenceKey(preference),
+                new MatchResult(generation, matchSettings, List.copyOf(rankedListings), matchCount));
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public void clear() {
+        results.clear();
+    }
+
+    public int size() {
+        return results.size();
+    }
+
+    /**
+     * The cached result of matching a {@code PropertyPreference}.
+     */
+    public static class MatchResult {
+        private final long generation;
+        private final MatchSettings matchSettings;
+        private final List<Listing> rankedListings;
+        private final int matchCount;
+
+        private MatchResult(long generation, MatchSettings matchSettings, List<Listing> rankedListings,
+                int matchCount) {
+            this.generation = generation;
+            this.matchSettings = matchSettings;
+            this.rankedListings = rankedListings;
+            this.matchCount = matchCount;
+        }
+
+        /**
+         * Returns the listings shown, best match first.
+         */
+        public List<Listing> getRankedListings() {
+            return rankedListings;
+        }
+
+        /**
+         * Returns the number of matching listings, which may be more than the number shown.
+         */
+        public int getMatchCount() {
+            return matchCount;
+        }
+    }
+
+    /**
+     * Wraps a {@code PropertyPreference} to compare it by reference.
+     */
+    private static class PreferenceKey {
+        private final PropertyPreference preference;
+
+        private PreferenceKey(PropertyPreference preference) {
+            requireNonNull(preference);
+            this.preference = preference;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof PreferenceKey && ((PreferenceKey) other).preference == preference;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(preference);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.address.model.search;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import seedu.address.commons.core.ScoringWeights;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagBitSet;
+
+/**
+ * Scores how well a {@code Listing} matches a {@code PropertyPreference}, using the weights in a
+ * {@code ScoringWeights}.
+ * The weights of individual tags are laid out in an array indexed by tag ID when the scorer is created, so that
+ * scoring a listing only reads primitive fields and arrays: price bounds in cents, the words of the two tag bitsets,
+ * and the tag weights.
+ * Guarantees: immutable.
+ */
+public class MatchScorer {
+
+    private static final double NO_MATCH_SCORE = 0;
+
+    private final double priceMatchWeight;
+    private final double priceDistanceWeight;
+    private final double defaultTagWeight;
+    private final double unavailablePenalty;
+    private final double[] tagWeightsById;
+
+    /**
+     * Creates a {@code MatchScorer} with the default weights.
+     */
+    public MatchScorer() {
+        this(new ScoringWeights(), Map.of());
+    }
+
+    /**
+     * Creates a {@code MatchScorer} with the given weights, for the tags in {@code tagMap}.
+     * Weights of tag names that are not in {@code tagMap} are left out, as no listing or preference can have them.
+     *
+     * @param tagMap The tags by upper case tag name, such as the tag map of an address book.
+     */
+    public MatchScorer(ScoringWeights weights, Map<String, Tag> tagMap) {
+        requireAllNonNull(weights, tagMap);
+
+        this.priceMatchWeight = weights.getPriceMatchWeight();
+        this.priceDistanceWeight = weights.getPriceDistanceWeight();
+        this.defaultTagWeight = weights.getDefaultTagWeight();
+        this.unavailablePenalty = weights.getUnavailablePenalty();
+
+        int[] ids = new int[weights.getTagWeights().size()];
+        double[] tagWeights = new double[ids.length];
+        int maxId = -1;
+        int i = 0;
+        for (Map.Entry<String, Double> entry : weights.getTagWeights().entrySet()) {
+            Tag tag = tagMap.get(entry.getKey().toUpperCase());
+            if (tag == null) {
+                continue;
+            }
+            ids[i] = tag.getId();
+            tagWeights[i] = entry.getValue();
+            maxId = Math.max(maxId, ids[i]);
+            i++;
+        }
+
+        this.tagWeightsById = new double[maxId + 1];
+        Arrays.fill(tagWeightsById, defaultTagWeight);
+        for (int j = 0; j < i; j++) {
+            tagWeightsById[ids[j]] = tagWeights[j];
+        }
+    }
+
+    /**
+     * Returns the match score of {@code listing} for {@code preference}, where a higher score is a better match.
+     */
+    public double score(PropertyPreference preference, Listing listing) {
+        requireAllNonNull(preference, listing);
+
+        PriceRange budget = preference.getPriceRange();
+        PriceRange listingPriceRange = listing.getPriceRange();
+        return score(budget.getLowerBoundCents(), budget.getUpperBoundCents(), preference.getTagBits(),
+                listingPriceRange.getLowerBoundCents(), listingPriceRange.getUpperBoundCents(), listing.getTagBits(),
+                listing.getAvailability());
+    }
+
+    /**
+     * Returns the match score of {@code listing} for the best matching property preference of {@code person}, or 0
+     * if none of its preferences scores higher.
+     */
+    public double score(Person person, Listing listing) {
+        requireAllNonNull(person, listing);
+
+        double bestScore = NO_MATCH_SCORE;
+        for (PropertyPreference preference : person.getPropertyPreferences()) {
+            bestScore = Math.max(bestScore, score(preference, listing));
+        }
+        return bestScore;
+    }
+
+    /**
+     * Returns the match score of a listing for a preference, given as price bounds in cents and tag bitsets.
+     */
+    private double score(long budgetLower, long budgetUpper, TagBitSet preferenceTags,
+            long listingLower, long listingUpper, TagBitSet listingTags, boolean isAvailable) {
+        double score = preferenceTags.sumCommonWeights(listingTags, tagWeightsById, defaultTagWeight);
+
+        if (PriceRange.doPriceRangesOverlap(budgetLower, budgetUpper, listingLower, listingUpper)) {
+            score += priceMatchWeight + priceDistanceWeight;
+        } else if (listingLower > budgetUpper) {
+            score += priceDistanceWeight * getCloseness(listingLower - budgetUpper, budgetUpper);
+        } else {
+            score += priceDistanceWeight * getCloseness(budgetLower - listingUpper, budgetLower);
+        }
+
+        if (!isAvailable) {
+            score -= unavailablePenalty;
+        }
+        return score;
+    }
+
+    /**
+     * Returns how close a listing's price range is to a budget, from 1 down towards 0 as {@code gapCents} grows
+     * relative to the nearest budget bound {@code budgetBoundCents}.
+     */
+    private static double getCloseness(long gapCents, long budgetBoundCents) {
+        return 1 / (1 + (double) gapCents / Math.max(budgetBoundCents, 1));
+    }
+}
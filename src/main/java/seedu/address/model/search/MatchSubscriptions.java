@@ -0,0 +1,228 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.search.predicates.ListingMatchesPreferencePredicate;
+import seedu.address.model.tag.TagBitSet;
+
+/**
+ * Standing match subscriptions of every {@code PropertyPreference}, tracking the listings that have started to match
+ * each preference since its matches were last viewed.
+ * A listing starts to match a preference when it is added, or when a change to its tags, price range or availability
+ * makes it match by the rules of {@code ListingMatchesPreferencePredicate}.
+ * <p>
+ * Only the changed listing is rescored, against the candidate preferences given by the caller (e.g. from the
+ * preference tag and price range indexes). To tell whether a listing matched a preference before it changed, the
+ * tags, price range and availability of every tracked listing are snapshotted.
+ * Preferences and listings are compared by reference.
+ */
+public class MatchSubscriptions {
+
+    private final Map<PropertyPreference, Set<Listing>> newMatchesByPreference = new IdentityHashMap<>();
+    private final Map<Listing, Set<PropertyPreference>> preferencesByNewMatch = new IdentityHashMap<>();
+    private final Map<Listing, ListingSnapshot> snapshots = new IdentityHashMap<>();
+    private final ReadOnlyIntegerWrapper newMatchCount = new ReadOnlyIntegerWrapper(0);
+
+    /**
+     * Starts tracking {@code listing} without reporting any of its matches as new, e.g. for listings loaded from
+     * storage.
+     */
+    public void track(Listing listing) {
+        requireNonNull(listing);
+        snapshots.put(listing, new ListingSnapshot(listing));
+    }
+
+    /**
+     * Records that {@code editedListing} has replaced {@code target}, which may be the same listing changed in place,
+     * or that {@code editedListing} was added if {@code target} is null.
+     * {@code editedListing} is rescored against {@code candidatePreferences}, which must include every preference it
+     * could now match.
+     */
+    public void updateListing(Listing target, Listing editedListing,
+            Collection<PropertyPreference> candidatePreferences) {
+        requireAllNonNull(editedListing, candidatePreferences);
+
+        ListingSnapshot oldSnapshot = target == null ? null : snapshots.remove(target);
+        Set<PropertyPreference> previousNewMatches = target == null
+                ? Collections.emptySet()
+                : removeNewMatches(target);
+        snapshots.put(editedListing, new ListingSnapshot(editedListing));
+
+        for (PropertyPreference preference : candidatePreferences) {
+            if (!new ListingMatchesPreferencePredicate(preference).test(editedListing)) {
+                continue;
+            }
+
+            boolean isNewMatch = previousNewMatches.contains(preference)
+                    || oldSnapshot == null
+                    || !oldSnapshot.matches(preference, editedListing);
+            if (isNewMatch) {
+                addNewMatch(preference, editedListing);
+            }
+        }
+    }
+
+    /**
+     * Stops tracking {@code listing}, e.g. after it is deleted.
+     */
+    public void removeListing(Listing listing) {
+        requireNonNull(listing);
+        snapshots.remove(listing);
+        removeNewMatches(listing);
+    }
+
+    /**
+     * Drops the subscriptions of the preferences that satisfy {@code isRemoved}, e.g. after they are deleted.
+     * Only preferences with new matches are tested.
+     */
+    public void removePreferencesIf(Predicate<PropertyPreference> isRemoved) {
+        requireNonNull(isRemoved);
+
+        Iterator<Map.Entry<PropertyPreference, Set<Listing>>> iterator =
+                newMatchesByPreference.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<PropertyPreference, Set<Listing>> entry = iterator.next();
+            if (isRemoved.test(entry.getKey())) {
+                for (Listing listing : entry.getValue()) {
+                    removeFromSet(preferencesByNewMatch, listing, entry.getKey());
+                }
+                newMatchCount.set(newMatchCount.get() - entry.getValue().size());
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Marks the new matches of {@code preference} as seen.
+     */
+    public void clearNewMatches(PropertyPreference preference) {
+        requireNonNull(preference);
+
+        Set<Listing> newMatches = newMatchesByPreference.remove(preference);
+        if (newMatches == null) {
+            return;
+        }
+
+        for (Listing listing : newMatches) {
+            removeFromSet(preferencesByNewMatch, listing, preference);
+        }
+        newMatchCount.set(newMatchCount.get() - newMatches.size());
+    }
+
+    /**
+     * Stops tracking every listing and drops every new match.
+     */
+    public void clear() {
+        newMatchesByPreference.clear();
+        preferencesByNewMatch.clear();
+        snapshots.clear();
+        newMatchCount.set(0);
+    }
+
+    /**
+     * Returns the listings that have started to match {@code preference} since its matches were last seen.
+     * The returned set compares listings by reference.
+     */
+    public Set<Listing> getNewMatches(PropertyPreference preference) {
+        requireNonNull(preference);
+        Set<Listing> newMatches = newMatchesByPreference.get(preference);
+        return newMatches == null ? Collections.emptySet() : Collections.unmodifiableSet(newMatches);
+    }
+
+    /**
+     * Returns the number of listings that have started to match {@code preference} since its matches were last seen.
+     */
+    public int getNewMatchCount(PropertyPreference preference) {
+        requireNonNull(preference);
+        Set<Listing> newMatches = newMatchesByPreference.get(preference);
+        return newMatches == null ? 0 : newMatches.size();
+    }
+
+    /**
+     * Returns the total number of unseen new matches, across every preference.
+     */
+    public ReadOnlyIntegerProperty newMatchCountProperty() {
+        return newMatchCount.getReadOnlyProperty();
+    }
+
+    private void addNewMatch(PropertyPreference preference, Listing listing) {
+        if (newMatchesByPreference.computeIfAbsent(preference, unused -> newIdentitySet()).add(listing)) {
+            preferencesByNewMatch.computeIfAbsent(listing, unused -> newIdentitySet()).add(preference);
+            newMatchCount.set(newMatchCount.get() + 1);
+        }
+    }
+
+    /**
+     * Removes {@code listing} from the new matches of every preference, and returns those preferences.
+     */
+    private Set<PropertyPreference> removeNewMatches(Listing listing) {
+        Set<PropertyPreference> preferences = preferencesByNewMatch.remove(listing);
+        if (preferences == null) {
+            return Collections.emptySet();
+        }
+
+        for (PropertyPreference preference : preferences) {
+            removeFromSet(newMatchesByPreference, preference, listing);
+        }
+        newMatchCount.set(newMatchCount.get() - preferences.size());
+        return preferences;
+    }
+
+    private static <K, V> void removeFromSet(Map<K, Set<V>> setsByKey, K key, V value) {
+        Set<V> values = setsByKey.get(key);
+        if (values == null) {
+            return;
+        }
+
+        values.remove(value);
+        if (values.isEmpty()) {
+            setsByKey.remove(key);
+        }
+    }
+
+    private static <T> Set<T> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * The match-relevant state of a listing at the time it was last tracked.
+     */
+    private static class ListingSnapshot {
+        private final TagBitSet tags;
+        private final PriceRange priceRange;
+        private final boolean isAvailable;
+
+        ListingSnapshot(Listing listing) {
+            this.tags = listing.getTagBits();
+            this.priceRange = listing.getPriceRange();
+            this.isAvailable = listing.getAvailability();
+        }
+
+        /**
+         * Returns true if the snapshotted listing matched {@code preference}, taking its owners from
+         * {@code currentListing}, by the rules of {@code ListingMatchesPreferencePredicate}.
+         */
+        boolean matches(PropertyPreference preference, Listing currentListing) {
+            if (!isAvailable || currentListing.getOwners().contains(preference.getPerson())) {
+                return false;
+            }
+
+            return preference.getPriceRange().doPriceRangeOverlap(priceRange)
+                    || tags.intersects(preference.getTagBits());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.model.search;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.search.comparators.DefaultPersonComparator;
+
+/**
+ * Ranks the persons that match a {@code Listing}, testing and scoring them in parallel on the common fork-join pool.
+ * Persons are ranked by {@link MatchScorer#score(Person, Listing)}, best first, and persons with equal scores are
+ * ranked by {@link DefaultPersonComparator}. The sorted person list re-sorts from the default view, so this is how it
+ * ranks them too.
+ * The persons and the listing must not be modified while they are ranked.
+ */
+public class ParallelPersonRanker {
+
+    private ParallelPersonRanker() {
+    }
+
+    /**
+     * Returns the persons in {@code persons} that satisfy {@code predicate}, best match for {@code listing} first.
+     */
+    public static List<Person> rank(List<Person> persons, Predicate<Person> predicate, MatchScorer scorer,
+            Listing listing) {
+        requireAllNonNull(persons, predicate, scorer, listing);
+
+        Person[] candidates = persons.toArray(new Person[0]);
+        int[] matchedPositions = IntStream.range(0, candidates.length)
+                .parallel()
+                .filter(position -> predicate.test(candidates[position]))
+                .toArray();
+
+        // Each position is scored by one task, so the tasks never write to the same slot
+        double[] scores = new double[candidates.length];
+        Arrays.stream(matchedPositions)
+                .parallel()
+                .forEach(position -> scores[position] = scorer.score(candidates[position], listing));
+
+        Comparator<Integer> ranking = (position1, position2) -> Double.compare(scores[position2], scores[position1]);
+        Integer[] rankedPositions = Arrays.stream(matchedPositions).boxed().toArray(Integer[]::new);
+        Arrays.parallelSort(rankedPositions, ranking.thenComparing(position -> candidates[position],
+                new DefaultPersonComparator()));
+
+        List<Person> rankedPersons = new ArrayList<>(rankedPositions.length);
+        for (int position : rankedPositions) {
+            rankedPersons.add(candidates[position]);
+        }
+        return rankedPersons;
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.tag.TagBitSet;
+
+/**
+ * Matches every {@code PropertyPreference} of a {@code Person} against the listings in a single pass.
+ * A listing matches the person if it matches any of their preferences by the rules of
+ * {@code ListingMatchesPreferencePredicate}, and is scored by its best matching preference, so that a listing that
+ * matches several preferences is only found once.
+ * The availability and ownership of each listing are checked once rather than once per preference, and the price
+ * bounds and tags of the preferences are read once when the matcher is created.
+ * The preferences of the person must not be modified while the matcher is in use.
+ */
+public class PersonListingMatcher {
+
+    private final Person person;
+    private final List<PropertyPreference> preferences;
+    private final long[] budgetLowerBoundCents;
+    private final long[] budgetUpperBoundCents;
+    private final TagBitSet[] preferenceTagBits;
+    private final MatchScorer scorer;
+
+    /**
+     * Creates a {@code PersonListingMatcher} of the preferences of {@code person}, scored by {@code scorer}.
+     */
+    public PersonListingMatcher(Person person, MatchScorer scorer) {
+        requireAllNonNull(person, scorer);
+
+        this.person = person;
+        this.preferences = List.copyOf(person.getPropertyPreferences());
+        this.budgetLowerBoundCents = new long[preferences.size()];
+        this.budgetUpperBoundCents = new long[preferences.size()];
+        this.preferenceTagBits = new TagBitSet[preferences.size()];
+        this.scorer = scorer;
+
+        for (int i = 0; i < preferences.size(); i++) {
+            PriceRange budget = preferences.get(i).getPriceRange();
+            budgetLowerBoundCents[i] = budget.getLowerBoundCents();
+            budgetUpperBoundCents[i] = budget.getUpperBoundCents();
+            preferenceTagBits[i] = preferences.get(i).getTagBits();
+        }
+    }
+
+    /**
+     * Returns the listings in {@code listings} that match any preference of the person, mapped by reference to the
+     * score of their best matching preference.
+     */
+    public Map<Listing, Double> match(List<Listing> listings) {
+        requireNonNull(listings);
+
+        Map<Listing, Double> bestScores = new IdentityHashMap<>();
+        if (preferences.isEmpty()) {
+            return bestScores;
+        }
+
+        for (Listing listing : listings) {
+            if (!listing.getAvailability() || listing.getOwners().contains(person)) {
+                continue;
+            }
+
+            PriceRange listingPriceRange = listing.getPriceRange();
+            long listingLower = listingPriceRange.getLowerBoundCents();
+            long listingUpper = listingPriceRange.getUpperBoundCents();
+            TagBitSet listingTagBits = listing.getTagBits();
+
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < preferences.size(); i++) {
+                if (PriceRange.doPriceRangesOverlap(budgetLowerBoundCents[i], budgetUpperBoundCents[i],
+                        listingLower, listingUpper) || listingTagBits.intersects(preferenceTagBits[i])) {
+                    bestScore = Math.max(bestScore, scorer.score(preferences.get(i), listing));
+                }
+            }
+            if (bestScore != Double.NEGATIVE_INFINITY) {
+                bestScores.put(listing, bestScore);
+            }
+        }
+        return bestScores;
+    }
+
+    /**
+     * Returns a comparator that orders the listings in {@code bestScores} by their scores, best score first.
+     * Every compared listing must be in {@code bestScores}.
+     */
+    public static Comparator<Listing> byBestScore(Map<Listing, Double> bestScores) {
+        requireNonNull(bestScores);
+        return Comparator.comparingDouble((Listing listing) -> bestScores.get(listing)).reversed();
+    }
+}
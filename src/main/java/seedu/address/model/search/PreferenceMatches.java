@@ -0,0 +1,84 @@
+package seedu.address.model.search;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.PropertyPreference;
+
+/**
+ * The best matching listings found for a {@code PropertyPreference}, best match first, with their match scores.
+ * Guarantees: immutable.
+ */
+public class PreferenceMatches {
+
+    private final PropertyPreference preference;
+    private final List<Listing> listings;
+    private final List<Integer> scores;
+
+    /**
+     * Creates a {@code PreferenceMatches} of {@code listings} for {@code preference}.
+     *
+     * @param preference The matched preference.
+     * @param listings The matching listings, best match first.
+     * @param scores The match score of each of {@code listings}, in the same order.
+     */
+    public PreferenceMatches(PropertyPreference preference, List<Listing> listings, List<Integer> scores) {
+        requireAllNonNull(preference, listings, scores);
+        assert listings.size() == scores.size();
+
+        this.preference = preference;
+        this.listings = Collections.unmodifiableList(listings);
+        this.scores = Collections.unmodifiableList(scores);
+    }
+
+    public PropertyPreference getPreference() {
+        return preference;
+    }
+
+    public List<Listing> getListings() {
+        return listings;
+    }
+
+    public List<Integer> getScores() {
+        return scores;
+    }
+
+    public boolean isEmpty() {
+        return listings.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PreferenceMatches)) {
+            return false;
+        }
+
+        PreferenceMatches otherMatches = (PreferenceMatches) other;
+        return preference.equals(otherMatches.preference)
+                && listings.equals(otherMatches.listings)
+                && scores.equals(otherMatches.scores);
+    }
+
+    @Override
+    public int hashCode() {
+        return listings.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("preference", preference)
+                .add("listings", listings)
+                .add("scores", scores)
+                .toString();
+    }
+}
@@ -50,6 +50,16 @@ public class SearchContext {
                 Model.PREDICATE_SHOW_ALL_PROPERTY_PREFERENCES);
     }
 
+    /**
+     * Returns true if no search is active, as after {@link #clear()}.
+     */
+    public boolean isCleared() {
+        return searchType == SearchType.NONE
+                && activeTags.isEmpty()
+                && activePriceRange == null
+                && propertyPreferencePredicate == Model.PREDICATE_SHOW_ALL_PROPERTY_PREFERENCES;
+    }
+
     /* Filter Evaluation Methods */
 
     /**
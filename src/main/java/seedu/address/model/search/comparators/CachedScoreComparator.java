@@ -0,0 +1,83 @@
+package seedu.address.model.search.comparators;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+
+/**
+ * Compares candidates by a match score, best score first.
+ * Each candidate is scored once, the first time it is compared, and its score is cached for the lifetime of the
+ * comparator, so sorting costs one score computation per candidate rather than one per comparison.
+ * Candidates are cached by reference, as their scores can depend on fields that their {@code equals} ignores.
+ * Scores are not recomputed if a candidate changes, so a comparator should only be used for the candidates as they
+ * were when it was created.
+ * The cache is safe to use from multiple threads.
+ *
+ * @param <T> The type of the scored candidates.
+ */
+public abstract class CachedScoreComparator<T> implements Comparator<T> {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Open addressing table of the scored candidates and their scores, which avoids boxing the scores
+    private Object[] candidates = new Object[INITIAL_CAPACITY];
+    private double[] scores = new double[INITIAL_CAPACITY];
+    private int scoredCount = 0;
+
+    @Override
+    public synchronized int compare(T candidate1, T candidate2) {
+        return Double.compare(getScore(candidate2), getScore(candidate1));
+    }
+
+    /**
+     * Returns the match score of {@code candidate}, computing it if it has not been scored yet.
+     */
+    public synchronized double getScore(T candidate) {
+        requireNonNull(candidate);
+
+        int slot = findSlot(candidates, candidate);
+        if (candidates[slot] == candidate) {
+            return scores[slot];
+        }
+
+        double score = computeScore(candidate);
+        candidates[slot] = candidate;
+        scores[slot] = score;
+        if (++scoredCount * 2 > candidates.length) {
+            resize();
+        }
+        return score;
+    }
+
+    /**
+     * Returns the slot of {@code candidate} in {@code table}, or the empty slot where it would be added.
+     */
+    private static int findSlot(Object[] table, Object candidate) {
+        int mask = table.length - 1;
+        int hash = System.identityHashCode(candidate) * 0x9E3779B9;
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        while (table[slot] != null && table[slot] != candidate) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        Object[] oldCandidates = candidates;
+        double[] oldScores = scores;
+        candidates = new Object[oldCandidates.length * 2];
+        scores = new double[oldCandidates.length * 2];
+        for (int i = 0; i < oldCandidates.length; i++) {
+            if (oldCandidates[i] != null) {
+                int slot = findSlot(candidates, oldCandidates[i]);
+                candidates[slot] = oldCandidates[i];
+                scores[slot] = oldScores[i];
+            }
+        }
+    }
+
+    /**
+     * Computes the match score of {@code candidate}, where a higher score is a better match.
+     */
+    protected abstract double computeScore(T candidate);
+}
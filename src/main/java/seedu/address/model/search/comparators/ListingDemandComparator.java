@@ -0,0 +1,26 @@
+package seedu.address.model.search.comparators;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.listing.Listing;
+import seedu.address.model.search.ListingDemand;
+
+/**
+ * Compares two listings by their demand, i.e. the number of property preferences that they match, highest first.
+ */
+public class ListingDemandComparator extends CachedScoreComparator<Listing> {
+    private final ListingDemand listingDemand;
+
+    /**
+     * Creates a comparator that compares two listings by their demand in {@code listingDemand}.
+     */
+    public ListingDemandComparator(ListingDemand listingDemand) {
+        requireNonNull(listingDemand);
+        this.listingDemand = listingDemand;
+    }
+
+    @Override
+    protected double computeScore(Listing listing) {
+        return listingDemand.getDemand(listing);
+    }
+}
@@ -1,72 +1,47 @@
 package seedu.address.model.search.comparators;
 
-import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Comparator;
+import java.util.Map;
 
+import seedu.address.commons.core.ScoringWeights;
 import seedu.address.model.listing.Listing;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.PropertyPreference;
-import seedu.address.model.tag.Tag;
+import seedu.address.model.search.MatchScorer;
 
 /**
  * Compares two persons based on their how well they match a given listing.
+ * A person is scored by their best matching property preference.
  */
-public class PersonListingScoreComparator implements Comparator<Person> {
-    private static final int INITIAL_SCORE = 0;
-    private static final int PRICE_MATCH_SCORE = 1;
-    private static final int TAG_MATCH_SCORE = 1;
-
-    private static Listing listingToScore;
+public class PersonListingScoreComparator extends CachedScoreComparator<Person> {
+    private final Listing listingToScore;
+    private final MatchScorer scorer;
 
     /**
-     * Constructs a {@code PersonListingScoreComparator} with the given listing to score.
+     * Constructs a {@code PersonListingScoreComparator} with the given listing to score, scoring one point for an
+     * overlapping price range and one point for each shared tag.
      *
      * @param listingToScore The listing to score.
      */
     public PersonListingScoreComparator(Listing listingToScore) {
-        requireNonNull(listingToScore);
-
-        PersonListingScoreComparator.listingToScore = listingToScore;
-    }
-
-    @Override
-    public int compare(Person person1, Person person2) {
-        requireAllNonNull(person1, person2);
-
-        int person1Score = getBestMatchScore(person1);
-        int person2Score = getBestMatchScore(person2);
-
-        return Integer.compare(person2Score, person1Score);
+        this(listingToScore, new MatchScorer(ScoringWeights.UNWEIGHTED, Map.of()));
     }
 
-    private int getBestMatchScore(Person person) {
-        int bestScore = INITIAL_SCORE;
-
-        for (PropertyPreference preference : person.getPropertyPreferences()) {
-            int currentScore = getPreferenceScore(preference);
-            if (currentScore > bestScore) {
-                bestScore = currentScore;
-            }
-        }
+    /**
+     * Constructs a {@code PersonListingScoreComparator} with the given listing to score, as scored by {@code scorer}.
+     *
+     * @param listingToScore The listing to score.
+     * @param scorer The scorer of the listing against each property preference.
+     */
+    public PersonListingScoreComparator(Listing listingToScore, MatchScorer scorer) {
+        requireAllNonNull(listingToScore, scorer);
 
-        return bestScore;
+        this.listingToScore = listingToScore;
+        this.scorer = scorer;
     }
 
-    private int getPreferenceScore(PropertyPreference preference) {
-        int score = INITIAL_SCORE;
-
-        if (listingToScore.getPriceRange().doPriceRangeOverlap(preference.getPriceRange())) {
-            score += PRICE_MATCH_SCORE;
-        }
-
-        for (Tag tag : preference.getTags()) {
-            if (listingToScore.getTags().contains(tag)) {
-                score += TAG_MATCH_SCORE;
-            }
-        }
-
-        return score;
+    @Override
+    protected double computeScore(Person person) {
+        return scorer.score(person, listingToScore);
     }
 }
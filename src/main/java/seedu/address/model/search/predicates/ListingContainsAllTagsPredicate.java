@@ -1,6 +1,7 @@
 package seedu.address.model.search.predicates;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Set;
 import java.util.function.Predicate;
@@ -11,9 +12,13 @@ import seedu.address.model.tag.Tag;
 
 /**
  * Tests if a {@code Listing} contains all specified tags.
+ * The matching listings can be supplied up front, e.g. from the listing tag index, in which case testing a listing
+ * is a single set lookup.
  */
 public class ListingContainsAllTagsPredicate implements Predicate<Listing> {
     private final Set<String> tagsToMatch;
+    private final Set<String> upperCaseTagsToMatch;
+    private final Set<Listing> matchingListings;
 
     /**
      * Constructs a {@code ListingContainsAllTagsPredicate} with the specified tags to match.
@@ -24,18 +29,48 @@ public class ListingContainsAllTagsPredicate implements Predicate<Listing> {
         requireNonNull(tagsToMatch);
 
         this.tagsToMatch = tagsToMatch;
+        this.upperCaseTagsToMatch = tagsToMatch.stream().map(String::toUpperCase).collect(Collectors.toSet());
+        this.matchingListings = null;
+    }
+
+    /**
+     * Constructs a {@code ListingContainsAllTagsPredicate} with the specified tags to match and the listings already
+     * known to contain all of them.
+     *
+     * @param tagsToMatch The set of tags to match.
+     * @param matchingListings The listings that contain all of {@code tagsToMatch}.
+     */
+    public ListingContainsAllTagsPredicate(Set<String> tagsToMatch, Set<Listing> matchingListings) {
+        requireAllNonNull(tagsToMatch, matchingListings);
+
+        this.tagsToMatch = tagsToMatch;
+        this.upperCaseTagsToMatch = tagsToMatch.stream().map(String::toUpperCase).collect(Collectors.toSet());
+        this.matchingListings = matchingListings;
     }
 
     @Override
     public boolean test(Listing listing) {
         requireNonNull(listing);
 
-        Set<String> listingTags = listing.getTags().stream()
-                .map(Tag::getTagName)
-                .map(String::toLowerCase)
-                .collect(Collectors.toSet());
+        if (matchingListings != null) {
+            return matchingListings.contains(listing);
+        }
+
+        for (String tagName : upperCaseTagsToMatch) {
+            if (!hasTag(listing, tagName)) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-        return listingTags.containsAll(tagsToMatch.stream().map(String::toLowerCase).collect(Collectors.toSet()));
+    private static boolean hasTag(Listing listing, String upperCaseTagName) {
+        for (Tag tag : listing.getTags()) {
+            if (tag.getTagName().toUpperCase().equals(upperCaseTagName)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
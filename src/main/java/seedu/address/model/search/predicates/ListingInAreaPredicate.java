@@ -0,0 +1,62 @@
+package seedu.address.model.search.predicates;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.listing.Listing;
+import seedu.address.model.price.PriceRange;
+
+/**
+ * Tests if a {@code Listing} is in the searched area, i.e. its postal code starts with the searched prefix, it has
+ * all the searched tags and its price range overlaps the searched price range, if any.
+ * The matching listings are looked up from the listing indexes up front, so testing a listing is a single set lookup.
+ */
+public class ListingInAreaPredicate implements Predicate<Listing> {
+    private final String postalCodePrefix;
+    private final Set<String> tagsToMatch;
+    private final PriceRange priceRange;
+    private final Set<Listing> matchingListings;
+
+    /**
+     * Constructs a {@code ListingInAreaPredicate} for the given search and the listings that match it.
+     *
+     * @param postalCodePrefix The searched postal code prefix.
+     * @param tagsToMatch The searched tags. May be empty.
+     * @param priceRange The searched price range. May be null if the search is not limited by price.
+     * @param matchingListings The listings that match the search.
+     */
+    public ListingInAreaPredicate(String postalCodePrefix, Set<String> tagsToMatch, PriceRange priceRange,
+            Set<Listing> matchingListings) {
+        requireAllNonNull(postalCodePrefix, tagsToMatch, matchingListings);
+
+        this.postalCodePrefix = postalCodePrefix;
+        this.tagsToMatch = tagsToMatch;
+        this.priceRange = priceRange;
+        this.matchingListings = matchingListings;
+    }
+
+    @Override
+    public boolean test(Listing listing) {
+        return matchingListings.contains(listing);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListingInAreaPredicate)) {
+            return false;
+        }
+
+        ListingInAreaPredicate otherPredicate = (ListingInAreaPredicate) other;
+        return postalCodePrefix.equals(otherPredicate.postalCodePrefix)
+                && tagsToMatch.equals(otherPredicate.tagsToMatch)
+                && Objects.equals(priceRange, otherPredicate.priceRange);
+    }
+}
@@ -1,22 +1,24 @@
 package seedu.address.model.search.predicates;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
 import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.model.listing.Listing;
 import seedu.address.model.person.PropertyPreference;
-import seedu.address.model.tag.Tag;
 
 
 /**
  * Tests if a {@code Listing} matches a {@code PropertyPreference}.
  * Used for {@code MatchPreferenceCommand}.
+ * The listings with overlapping price ranges can be supplied up front, e.g. from the listing price range index, so
+ * that the price ranges do not have to be compared for every listing.
  */
 public class ListingMatchesPreferencePredicate implements Predicate<Listing> {
     private final PropertyPreference preferenceToMatch;
+    private final Set<Listing> priceMatchingListings;
 
     /**
      * Constructs a {@code ListingMatchesPreferencePredicate} with the given {@code PropertyPreference}.
@@ -27,25 +29,40 @@ public class ListingMatchesPreferencePredicate implements Predicate<Listing> {
         requireNonNull(preferenceToMatch);
 
         this.preferenceToMatch = preferenceToMatch;
+        this.priceMatchingListings = null;
+    }
+
+    /**
+     * Constructs a {@code ListingMatchesPreferencePredicate} with the given {@code PropertyPreference} and the
+     * listings with price ranges that overlap its price range.
+     *
+     * @param preferenceToMatch The {@code PropertyPreference} to match.
+     * @param priceMatchingListings The listings with price ranges that overlap that of {@code preferenceToMatch}.
+     */
+    public ListingMatchesPreferencePredicate(PropertyPreference preferenceToMatch,
+            Set<Listing> priceMatchingListings) {
+        requireAllNonNull(preferenceToMatch, priceMatchingListings);
+
+        this.preferenceToMatch = preferenceToMatch;
+        this.priceMatchingListings = priceMatchingListings;
     }
 
     @Override
     public boolean test(Listing listing) {
         requireNonNull(listing);
 
-        Set<Tag> tagsToMatch = preferenceToMatch.getTags();
-
         if (!listing.getAvailability() || listing.getOwners().contains(preferenceToMatch.getPerson())) {
             return false;
         }
 
-        boolean priceRangeOverlaps = preferenceToMatch.getPriceRange().doPriceRangeOverlap(listing.getPriceRange());
+        boolean priceRangeOverlaps = priceMatchingListings != null
+                ? priceMatchingListings.contains(listing)
+                : preferenceToMatch.getPriceRange().doPriceRangeOverlap(listing.getPriceRange());
         if (priceRangeOverlaps) {
             return true;
         }
 
-        Set<Tag> listingTags = listing.getTags();
-        return !Collections.disjoint(listingTags, tagsToMatch);
+        return listing.getTagBits().intersects(preferenceToMatch.getTagBits());
     }
 
     @Override
@@ -1,8 +1,10 @@
 package seedu.address.model.search.predicates;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -10,9 +12,12 @@ import seedu.address.model.person.Person;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * The matching persons can be supplied up front, e.g. from the name index, in which case testing a person is a
+ * single set lookup.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final Set<Person> matchingPersons;
 
     /**
      * Constructs a {@code NameContainsKeywordsPredicate} with the given keywords.
@@ -22,10 +27,28 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
     public NameContainsKeywordsPredicate(List<String> keywords) {
         requireNonNull(keywords);
         this.keywords = keywords;
+        this.matchingPersons = null;
+    }
+
+    /**
+     * Constructs a {@code NameContainsKeywordsPredicate} with the given keywords and the persons already known to
+     * have a name that contains any of them.
+     *
+     * @param keywords The list of keywords to search for in the person's name.
+     * @param matchingPersons The persons with a name that contains any of {@code keywords}.
+     */
+    public NameContainsKeywordsPredicate(List<String> keywords, Set<Person> matchingPersons) {
+        requireAllNonNull(keywords, matchingPersons);
+        this.keywords = keywords;
+        this.matchingPersons = matchingPersons;
     }
 
     @Override
     public boolean test(Person person) {
+        if (matchingPersons != null) {
+            return matchingPersons.contains(person);
+        }
+
         return keywords.stream()
                 .anyMatch(keyword -> person.getName().fullName.toLowerCase().contains(keyword.toLowerCase()));
     }
@@ -1,8 +1,8 @@
 package seedu.address.model.search.predicates;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -10,14 +10,17 @@ import java.util.function.Predicate;
 import seedu.address.model.listing.Listing;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PropertyPreference;
-import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagBitSet;
 
 /**
  * Tests that a {@code Person}'s property preferences matches a {@code Listing}.
  * Used for {@code MatchListingCommand}.
+ * The property preferences with overlapping price ranges can be supplied up front, e.g. from the preference price
+ * range index, so that the price ranges do not have to be compared for every preference.
  */
 public class PersonMatchesPropertyPredicate implements Predicate<Person> {
     private final Listing listingToMatch;
+    private final Set<PropertyPreference> priceMatchingPreferences;
 
     /**
      * Creates a predicate that tests if a {@code Person}'s property preferences matches a {@code Listing}.
@@ -28,6 +31,21 @@ public class PersonMatchesPropertyPredicate implements Predicate<Person> {
         requireNonNull(listingToMatch);
 
         this.listingToMatch = listingToMatch;
+        this.priceMatchingPreferences = null;
+    }
+
+    /**
+     * Creates a predicate that tests if a {@code Person}'s property preferences matches a {@code Listing}, given the
+     * property preferences with price ranges that overlap that of the {@code Listing}.
+     *
+     * @param listingToMatch The listing to match.
+     * @param priceMatchingPreferences The preferences with price ranges that overlap that of {@code listingToMatch}.
+     */
+    public PersonMatchesPropertyPredicate(Listing listingToMatch, Set<PropertyPreference> priceMatchingPreferences) {
+        requireAllNonNull(listingToMatch, priceMatchingPreferences);
+
+        this.listingToMatch = listingToMatch;
+        this.priceMatchingPreferences = priceMatchingPreferences;
     }
 
     @Override
@@ -44,13 +62,13 @@ public class PersonMatchesPropertyPredicate implements Predicate<Person> {
             return false;
         }
 
-        Set<Tag> tagsToMatch = listingToMatch.getTags();
+        TagBitSet tagsToMatch = listingToMatch.getTagBits();
         for (PropertyPreference pref : propertyPreferences) {
-            if (!Collections.disjoint(pref.getTags(), tagsToMatch)) {
+            if (pref.getTagBits().intersects(tagsToMatch)) {
                 return true;
             }
 
-            if (listingToMatch.getPriceRange().doPriceRangeOverlap(pref.getPriceRange())) {
+            if (isPriceRangeOverlapping(pref)) {
                 return true;
             }
         }
@@ -58,6 +76,13 @@ public class PersonMatchesPropertyPredicate implements Predicate<Person> {
         return false;
     }
 
+    private boolean isPriceRangeOverlapping(PropertyPreference pref) {
+        if (priceMatchingPreferences != null) {
+            return priceMatchingPreferences.contains(pref);
+        }
+        return listingToMatch.getPriceRange().doPriceRangeOverlap(pref.getPriceRange());
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this
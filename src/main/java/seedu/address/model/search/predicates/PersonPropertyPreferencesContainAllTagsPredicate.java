@@ -1,17 +1,25 @@
 package seedu.address.model.search.predicates;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.tag.Tag;
 
 /**
  * Tests that a {@code Person}'s property preferences contain all the specified tags.
+ * The matching persons can be supplied up front, e.g. from the preference tag index, in which case testing a person
+ * is a single set lookup.
  */
 public class PersonPropertyPreferencesContainAllTagsPredicate implements Predicate<Person> {
     private final Set<String> tagsToMatch;
+    private final Set<String> upperCaseTagsToMatch;
+    private final Set<Person> matchingPersons;
 
     /**
      * Constructs a predicate that tests if a person's property preferences contain all the specified tags.
@@ -22,6 +30,23 @@ public class PersonPropertyPreferencesContainAllTagsPredicate implements Predica
         requireNonNull(tagsToMatch);
 
         this.tagsToMatch = tagsToMatch;
+        this.upperCaseTagsToMatch = tagsToMatch.stream().map(String::toUpperCase).collect(Collectors.toSet());
+        this.matchingPersons = null;
+    }
+
+    /**
+     * Constructs a predicate that tests if a person's property preferences contain all the specified tags, given the
+     * persons already known to have a property preference that contains all of them.
+     *
+     * @param tagsToMatch The tags to match.
+     * @param matchingPersons The persons with a property preference that contains all of {@code tagsToMatch}.
+     */
+    public PersonPropertyPreferencesContainAllTagsPredicate(Set<String> tagsToMatch, Set<Person> matchingPersons) {
+        requireAllNonNull(tagsToMatch, matchingPersons);
+
+        this.tagsToMatch = tagsToMatch;
+        this.upperCaseTagsToMatch = tagsToMatch.stream().map(String::toUpperCase).collect(Collectors.toSet());
+        this.matchingPersons = matchingPersons;
     }
 
     @Override
@@ -31,10 +56,25 @@ public class PersonPropertyPreferencesContainAllTagsPredicate implements Predica
         if (tagsToMatch.isEmpty()) {
             return false;
         }
-        return person.getPropertyPreferences().stream()
-                .anyMatch(pref -> tagsToMatch.stream()
-                        .allMatch(tagToFind -> pref.getTags().stream()
-                                .anyMatch(tag -> tag.getTagName().equalsIgnoreCase(tagToFind))));
+
+        if (matchingPersons != null) {
+            return matchingPersons.contains(person);
+        }
+
+        for (PropertyPreference preference : person.getPropertyPreferences()) {
+            if (containsAllTags(preference)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean containsAllTags(PropertyPreference preference) {
+        Set<String> preferenceTagNames = preference.getTags().stream()
+                .map(Tag::getTagName)
+                .map(String::toUpperCase)
+                .collect(Collectors.toSet());
+        return preferenceTagNames.containsAll(upperCaseTagsToMatch);
     }
 
     @Override
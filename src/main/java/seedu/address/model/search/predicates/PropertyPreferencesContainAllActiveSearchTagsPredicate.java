@@ -7,13 +7,14 @@ import java.util.function.Predicate;
 
 import seedu.address.model.person.PropertyPreference;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagBitSet;
 
 /**
  * Tests that a {@code Person}'s property preferences contain all the specified tags.
  */
 public class PropertyPreferencesContainAllActiveSearchTagsPredicate implements Predicate<PropertyPreference> {
 
-    private final Set<Tag> tagsToMatch;
+    private final TagBitSet tagsToMatch;
 
     /**
      * Constructs a predicate that tests if a {@code Person}'s property preferences contain all the specified tags.
@@ -23,7 +24,7 @@ public class PropertyPreferencesContainAllActiveSearchTagsPredicate implements P
     public PropertyPreferencesContainAllActiveSearchTagsPredicate(Set<Tag> tagsToMatch) {
         requireNonNull(tagsToMatch);
 
-        this.tagsToMatch = tagsToMatch;
+        this.tagsToMatch = TagBitSet.of(tagsToMatch);
     }
 
     @Override
@@ -34,8 +35,7 @@ public class PropertyPreferencesContainAllActiveSearchTagsPredicate implements P
             return true;
         }
 
-        Set<Tag> preferenceTags = preference.getTags();
-        return preferenceTags.containsAll(tagsToMatch);
+        return preference.getTagBits().containsAll(tagsToMatch);
     }
 
     @Override
@@ -2,13 +2,11 @@ package seedu.address.model.search.predicates;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Collections;
-import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.model.listing.Listing;
 import seedu.address.model.person.PropertyPreference;
-import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagBitSet;
 
 /**
  * Tests that a {@code Person}'s property preferences contain all the specified tags.
@@ -32,7 +30,7 @@ public class PropertyPreferencesMatchesListingPredicate implements Predicate<Pro
     public boolean test(PropertyPreference preference) {
         requireNonNull(preference);
 
-        Set<Tag> tagsToMatch = listingToMatch.getTags();
+        TagBitSet tagsToMatch = listingToMatch.getTagBits();
 
         if (tagsToMatch.isEmpty()) {
             return true;
@@ -42,8 +40,7 @@ public class PropertyPreferencesMatchesListingPredicate implements Predicate<Pro
             return true;
         }
 
-        Set<Tag> preferenceTags = preference.getTags();
-        return !Collections.disjoint(preferenceTags, tagsToMatch);
+        return preference.getTagBits().intersects(tagsToMatch);
     }
 
     @Override
@@ -24,9 +24,14 @@ public class Tag {
             + "The tag cannot be blank and must not already exist (unless for deleting).";
     public static final String VALIDATION_REGEX = "^[a-zA-Z0-9' ._+&-]{2,30}$";
 
+    private static final int NO_ID = -1;
+
     // Identity fields
     public final String tagName;
 
+    // Dense ID of the tag name, given by the first tag map the tag is added to
+    private int id = NO_ID;
+
     // Associations
     private final List<PropertyPreference> propertyPreferences = new ArrayList<>();
     private final List<Listing> listings = new ArrayList<>();
@@ -61,6 +66,28 @@ public class Tag {
         return tagName;
     }
 
+    /**
+     * Returns the dense integer ID of the tag, given out by the {@code UniqueTagMap} it was added to in the order that
+     * tag names are first added. Tags with the same tag name in the same tag map always have the same ID.
+     *
+     * @throws IllegalStateException if the tag has not been added to a tag map.
+     */
+    public int getId() {
+        if (id == NO_ID) {
+            throw new IllegalStateException("Tag " + tagName + " has not been added to a tag map");
+        }
+        return id;
+    }
+
+    boolean hasId() {
+        return id != NO_ID;
+    }
+
+    void setId(int id) {
+        assert this.id == NO_ID || this.id == id : "A tag keeps the ID it was first given";
+        this.id = id;
+    }
+
     /**
      * Returns an immutable property preferences list, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
@@ -0,0 +1,195 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Represents a set of tags as a bitset of their IDs (see {@link Tag#getId()}), so that intersection, subset and
+ * shared tag count tests between two tag sets are word-wise ANDs and popcounts instead of hash lookups.
+ * Guarantees: immutable.
+ */
+public final class TagBitSet {
+    private static final int ADDRESS_BITS_PER_WORD = 6;
+
+    private final long[] words;
+
+    private TagBitSet(long[] words) {
+        this.words = words;
+    }
+
+    /**
+     * Creates a {@code TagBitSet} of {@code tags}.
+     */
+    public static TagBitSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+
+        int maxId = -1;
+        for (Tag tag : tags) {
+            maxId = Math.max(maxId, tag.getId());
+        }
+
+        long[] words = new long[wordIndex(maxId) + 1];
+        for (Tag tag : tags) {
+            words[wordIndex(tag.getId())] |= 1L << tag.getId();
+        }
+        return new TagBitSet(words);
+    }
+
+    /**
+     * Returns a copy of this set with {@code tag} added.
+     */
+    public TagBitSet with(Tag tag) {
+        requireNonNull(tag);
+
+        int wordIndex = wordIndex(tag.getId());
+        long[] newWords = Arrays.copyOf(words, Math.max(words.length, wordIndex + 1));
+        newWords[wordIndex] |= 1L << tag.getId();
+        return new TagBitSet(newWords);
+    }
+
+    /**
+     * Returns a copy of this set with {@code tag} removed.
+     */
+    public TagBitSet without(Tag tag) {
+        requireNonNull(tag);
+
+        int wordIndex = wordIndex(tag.getId());
+        if (wordIndex >= words.length) {
+            return this;
+        }
+
+        long[] newWords = words.clone();
+        newWords[wordIndex] &= ~(1L << tag.getId());
+        return new TagBitSet(newWords);
+    }
+
+    /**
+     * Returns true if the set contains {@code tag}.
+     */
+    public boolean contains(Tag tag) {
+        requireNonNull(tag);
+
+        int wordIndex = wordIndex(tag.getId());
+        return wordIndex < words.length && (words[wordIndex] & (1L << tag.getId())) != 0;
+    }
+
+    /**
+     * Returns the number of tags in the set.
+     */
+    public int size() {
+        int size = 0;
+        for (long word : words) {
+            size += Long.bitCount(word);
+        }
+        return size;
+    }
+
+    /**
+     * Returns true if the set contains no tags.
+     */
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if this set and {@code other} share at least one tag.
+     */
+    public boolean intersects(TagBitSet other) {
+        requireNonNull(other);
+
+        int commonWords = Math.min(words.length, other.words.length);
+        for (int i = 0; i < commonWords; i++) {
+            if ((words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of tags that this set shares with {@code other}.
+     */
+    public int countCommon(TagBitSet other) {
+        requireNonNull(other);
+
+        int count = 0;
+        int commonWords = Math.min(words.length, other.words.length);
+        for (int i = 0; i < commonWords; i++) {
+            count += Long.bitCount(words[i] & other.words[i]);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the total weight of the tags that this set shares with {@code other}.
+     *
+     * @param weightsById The weight of each tag, indexed by tag ID.
+     * @param defaultWeight The weight of tags with IDs beyond the end of {@code weightsById}.
+     */
+    public double sumCommonWeights(TagBitSet other, double[] weightsById, double defaultWeight) {
+        requireAllNonNull(other, weightsById);
+
+        double sum = 0;
+        int commonWords = Math.min(words.length, other.words.length);
+        for (int i = 0; i < commonWords; i++) {
+            long commonWord = words[i] & other.words[i];
+            while (commonWord != 0) {
+                int id = (i << ADDRESS_BITS_PER_WORD) + Long.numberOfTrailingZeros(commonWord);
+                sum += id < weightsById.length ? weightsById[id] : defaultWeight;
+                commonWord &= commonWord - 1;
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Returns true if this set contains every tag in {@code other}.
+     */
+    public boolean containsAll(TagBitSet other) {
+        requireNonNull(other);
+
+        for (int i = 0; i < other.words.length; i++) {
+            long word = i < words.length ? words[i] : 0L;
+            if ((other.words[i] & ~word) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int wordIndex(int id) {
+        return id >> ADDRESS_BITS_PER_WORD;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TagBitSet)) {
+            return false;
+        }
+
+        TagBitSet otherTagBitSet = (TagBitSet) other;
+        return countCommon(otherTagBitSet) == size() && size() == otherTagBitSet.size();
+    }
+
+    @Override
+    public int hashCode() {
+        long hash = 0;
+        for (long word : words) {
+            hash ^= word;
+        }
+        return Long.hashCode(hash);
+    }
+}
@@ -0,0 +1,196 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.model.util.Ordinals;
+
+/**
+ * Inverted index from tag names to the tagged elements (e.g. listings or property preferences) that carry them.
+ * Each tag name maps to a bitset posting list over the ordinals handed out by an {@code Ordinals}, so that
+ * finding the elements that carry all of a set of tags is an intersection of bitsets.
+ * Tag names are stored in upper case, matching the canonical form of {@code Tag#getTagName()}.
+ *
+ * @param <T> The type of the tagged elements.
+ */
+public class TagIndex<T> {
+
+    private final Ordinals<T> ordinals;
+    private final Function<T, Set<Tag>> tagsOf;
+    private final Map<String, BitSet> postings = new HashMap<>();
+
+    // The tag names each ordinal is currently posted under, used to diff re-indexed elements
+    private final List<Set<String>> indexedTagNames = new ArrayList<>();
+
+    /**
+     * Creates an empty {@code TagIndex} over the ordinals handed out by {@code ordinals}.
+     *
+     * @param ordinals The ordinals of the elements.
+     * @param tagsOf Returns the current tags of an element.
+     */
+    public TagIndex(Ordinals<T> ordinals, Function<T, Set<Tag>> tagsOf) {
+        requireNonNull(ordinals);
+        requireNonNull(tagsOf);
+        this.ordinals = ordinals;
+        this.tagsOf = tagsOf;
+    }
+
+    /**
+     * Posts the tags of {@code element} under its ordinal.
+     * {@code element} must already have an ordinal.
+     */
+    public void add(T element) {
+        requireNonNull(element);
+
+        int ordinal = ordinals.ordinalOf(element);
+        Set<String> tagNames = toTagNames(tagsOf.apply(element));
+        for (String tagName : tagNames) {
+            postings.computeIfAbsent(tagName, unused -> new BitSet()).set(ordinal);
+        }
+        setIndexedTagNames(ordinal, tagNames);
+    }
+
+    /**
+     * Brings the postings of {@code element} in line with its current tags.
+     * {@code element} must already have an ordinal.
+     */
+    public void update(T element) {
+        requireNonNull(element);
+
+        int ordinal = ordinals.ordinalOf(element);
+        Set<String> oldTagNames = getIndexedTagNames(ordinal);
+        Set<String> newTagNames = toTagNames(tagsOf.apply(element));
+
+        for (String tagName : oldTagNames) {
+            if (!newTagNames.contains(tagName)) {
+                unpost(tagName, ordinal);
+            }
+        }
+        for (String tagName : newTagNames) {
+            if (!oldTagNames.contains(tagName)) {
+                postings.computeIfAbsent(tagName, unused -> new BitSet()).set(ordinal);
+            }
+        }
+        setIndexedTagNames(ordinal, newTagNames);
+    }
+
+    /**
+     * Removes {@code element} from every posting list.
+     * {@code element} must still have its ordinal.
+     */
+    public void remove(T element) {
+        requireNonNull(element);
+
+        int ordinal = ordinals.ordinalOf(element);
+        for (String tagName : getIndexedTagNames(ordinal)) {
+            unpost(tagName, ordinal);
+        }
+        setIndexedTagNames(ordinal, Collections.emptySet());
+    }
+
+    /**
+     * Removes every posting.
+     */
+    public void clear() {
+        postings.clear();
+        indexedTagNames.clear();
+    }
+
+    /**
+     * Returns the ordinals of the elements that carry every one of {@code tagNames}, compared case-insensitively.
+     * An empty {@code tagNames} matches every element.
+     * The returned bitset is a fresh copy that the caller may modify.
+     */
+    public BitSet getOrdinalsWithAllTags(Collection<String> tagNames) {
+        requireNonNull(tagNames);
+
+        if (tagNames.isEmpty()) {
+            return ordinals.usedOrdinals();
+        }
+
+        List<BitSet> postingLists = new ArrayList<>();
+        for (String tagName : tagNames) {
+            BitSet postingList = postings.get(tagName.toUpperCase());
+            if (postingList == null) {
+                return new BitSet();
+            }
+            postingLists.add(postingList);
+        }
+
+        // Start from the rarest tag so that the running intersection shrinks as early as possible
+        postingLists.sort(Comparator.comparingInt(BitSet::cardinality));
+        BitSet result = (BitSet) postingLists.get(0).clone();
+        for (int i = 1; i < postingLists.size() && !result.isEmpty(); i++) {
+            result.and(postingLists.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the ordinals of the elements that carry at least one of {@code tagNames}, compared case-insensitively.
+     * The returned bitset is a fresh copy that the caller may modify.
+     */
+    public BitSet getOrdinalsWithAnyTag(Collection<String> tagNames) {
+        requireNonNull(tagNames);
+
+        BitSet result = new BitSet();
+        for (String tagName : tagNames) {
+            BitSet postingList = postings.get(tagName.toUpperCase());
+            if (postingList != null) {
+                result.or(postingList);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of elements posted under {@code tagName}, compared case-insensitively.
+     */
+    public int count(String tagName) {
+        requireNonNull(tagName);
+        BitSet postingList = postings.get(tagName.toUpperCase());
+        return postingList == null ? 0 : postingList.cardinality();
+    }
+
+    private void unpost(String tagName, int ordinal) {
+        BitSet postingList = postings.get(tagName);
+        if (postingList == null) {
+            return;
+        }
+
+        postingList.clear(ordinal);
+        if (postingList.isEmpty()) {
+            postings.remove(tagName);
+        }
+    }
+
+    private Set<String> getIndexedTagNames(int ordinal) {
+        return ordinal < indexedTagNames.size() ? indexedTagNames.get(ordinal) : Collections.emptySet();
+    }
+
+    private void setIndexedTagNames(int ordinal, Set<String> tagNames) {
+        while (indexedTagNames.size() <= ordinal) {
+            indexedTagNames.add(Collections.emptySet());
+        }
+        indexedTagNames.set(ordinal, tagNames);
+    }
+
+    private static Set<String> toTagNames(Set<Tag> tags) {
+        Set<String> tagNames = new HashSet<>();
+        for (Tag tag : tags) {
+            tagNames.add(tag.getTagName());
+        }
+        return tagNames;
+    }
+}
@@ -1,11 +1,15 @@
 package seedu.address.model.tag;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javafx.collections.FXCollections;
@@ -21,12 +25,22 @@ import seedu.address.model.tag.exceptions.TagNotFoundException;
  * intended tag is deleted.
  *
  * Supports a minimal set of hashmap operations.
+ * <p>
+ * Every tag name is also given a dense integer ID when it is first added to the map, so that sets of tags can be kept
+ * as bitsets (see {@link TagBitSet}). IDs belong to the map, so only tag sets built from the tags of the same map can
+ * be compared. A tag name keeps its ID after it is removed, in case tag sets still refer to it, until the tags of the
+ * map are replaced by {@link #setTags(List)}. A tag that is already in another map, e.g. the one an address book was
+ * copied from, keeps the ID it was given there.
  */
 public class UniqueTagMap implements Iterable<Tag> {
     private final ObservableMap<String, Tag> internalHashmap = FXCollections.observableHashMap();
     private final ObservableMap<String, Tag> internalUnmodifiableMap =
             FXCollections.unmodifiableObservableMap(internalHashmap);
 
+    // The ID of every tag name added to the map, and the tag name of every ID, indexed by ID
+    private final Map<String, Integer> tagIds = new HashMap<>();
+    private final List<String> tagNamesById = new ArrayList<>();
+
     /**
      * Checks if the hashmap contains an equivalent tag with the same tag name as the given argument.
      *
@@ -70,6 +84,7 @@ public class UniqueTagMap implements Iterable<Tag> {
         if (contains(toAdd)) {
             throw new DuplicateTagException();
         }
+        assignId(toAdd);
         internalHashmap.put(toAdd.getTagName(), toAdd);
     }
 
@@ -128,11 +143,52 @@ public class UniqueTagMap implements Iterable<Tag> {
         }
 
         internalHashmap.clear();
+        tagIds.clear();
+        tagNamesById.clear();
+        // Tags that already have IDs keep them, so new IDs are only given out once all of those are known
+        for (Tag tag : tags) {
+            if (tag.hasId()) {
+                assignId(tag);
+            }
+        }
         for (Tag tag : tags) {
+            assignId(tag);
             internalHashmap.put(tag.getTagName(), tag);
         }
     }
 
+    /**
+     * Gives {@code tag} the ID of its tag name in this map, giving the tag name the next unused ID if it does not have
+     * one yet. A tag that already has an ID keeps it, and its tag name is given that ID in this map.
+     *
+     * @throws IllegalArgumentException if the tag already has an ID that is given to another tag name in this map.
+     */
+    private void assignId(Tag tag) {
+        String tagName = tag.getTagName();
+        Integer id = tagIds.get(tagName);
+        if (!tag.hasId()) {
+            if (id == null) {
+                id = tagNamesById.size();
+                tagIds.put(tagName, id);
+                tagNamesById.add(tagName);
+            }
+            tag.setId(id);
+            return;
+        }
+
+        int existingId = tag.getId();
+        if (id != null) {
+            checkArgument(id == existingId, "Tag " + tagName + " already has a different ID in this map");
+            return;
+        }
+        while (tagNamesById.size() <= existingId) {
+            tagNamesById.add(null);
+        }
+        checkArgument(tagNamesById.get(existingId) == null, "Tag " + tagName + " has the ID of another tag");
+        tagIds.put(tagName, existingId);
+        tagNamesById.set(existingId, tagName);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableMap}.
      *
@@ -0,0 +1,143 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Assigns dense integer ordinals to the elements of a collection.
+ * Ordinals are stable for as long as an element stays in the collection, and the ordinals of removed elements are
+ * reused (smallest first), so that the ordinals in use always stay close to {@code [0, size)}.
+ * Indexes key their postings by these ordinals, which lets the results of several indexes over the same collection
+ * be combined with plain {@code BitSet} operations.
+ * Elements are compared by reference.
+ *
+ * @param <T> The type of the elements.
+ */
+public class Ordinals<T> {
+
+    public static final int NO_ORDINAL = -1;
+
+    private final Map<T, Integer> elementToOrdinal = new IdentityHashMap<>();
+    private final List<T> ordinalToElement = new ArrayList<>();
+    private final BitSet freeOrdinals = new BitSet();
+
+    /**
+     * Assigns an ordinal to {@code element}.
+     * {@code element} must not already have an ordinal.
+     *
+     * @param element The element to assign an ordinal to.
+     * @return the assigned ordinal.
+     */
+    public int assign(T element) {
+        requireNonNull(element);
+        assert !elementToOrdinal.containsKey(element);
+
+        int ordinal = freeOrdinals.nextSetBit(0);
+        if (ordinal == NO_ORDINAL) {
+            ordinal = ordinalToElement.size();
+            ordinalToElement.add(element);
+        } else {
+            freeOrdinals.clear(ordinal);
+            ordinalToElement.set(ordinal, element);
+        }
+
+        elementToOrdinal.put(element, ordinal);
+        return ordinal;
+    }
+
+    /**
+     * Hands the ordinal of {@code target} over to {@code replacement}.
+     * {@code target} must have an ordinal.
+     *
+     * @param target The element being replaced.
+     * @param replacement The element taking over the ordinal of {@code target}.
+     * @return the ordinal of {@code replacement}.
+     */
+    public int replace(T target, T replacement) {
+        requireNonNull(target);
+        requireNonNull(replacement);
+
+        int ordinal = elementToOrdinal.remove(target);
+        ordinalToElement.set(ordinal, replacement);
+        elementToOrdinal.put(replacement, ordinal);
+        return ordinal;
+    }
+
+    /**
+     * Releases the ordinal of {@code element} for reuse.
+     * {@code element} must have an ordinal.
+     *
+     * @param element The element to release the ordinal of.
+     * @return the released ordinal.
+     */
+    public int release(T element) {
+        requireNonNull(element);
+
+        int ordinal = elementToOrdinal.remove(element);
+        ordinalToElement.set(ordinal, null);
+        freeOrdinals.set(ordinal);
+        return ordinal;
+    }
+
+    /**
+     * Returns the ordinal of {@code element}, or {@link #NO_ORDINAL} if it has none.
+     */
+    public int ordinalOf(T element) {
+        Integer ordinal = elementToOrdinal.get(element);
+        return ordinal == null ? NO_ORDINAL : ordinal;
+    }
+
+    /**
+     * Returns the element with the given ordinal, or null if the ordinal is not in use.
+     */
+    public T get(int ordinal) {
+        return ordinal < ordinalToElement.size() ? ordinalToElement.get(ordinal) : null;
+    }
+
+    /**
+     * Returns one more than the largest ordinal that has ever been handed out.
+     */
+    public int capacity() {
+        return ordinalToElement.size();
+    }
+
+    /**
+     * Returns a bitset of all the ordinals currently in use.
+     */
+    public BitSet usedOrdinals() {
+        BitSet used = new BitSet(ordinalToElement.size());
+        used.set(0, ordinalToElement.size());
+        used.andNot(freeOrdinals);
+        return used;
+    }
+
+    /**
+     * Returns the elements with the ordinals set in {@code ordinals}, in ordinal order.
+     */
+    public List<T> toElements(BitSet ordinals) {
+        requireNonNull(ordinals);
+
+        List<T> elements = new ArrayList<>(ordinals.cardinality());
+        for (int i = ordinals.nextSetBit(0); i >= 0; i = ordinals.nextSetBit(i + 1)) {
+            T element = get(i);
+            if (element != null) {
+                elements.add(element);
+            }
+        }
+        return elements;
+    }
+
+    /**
+     * Releases every ordinal.
+     */
+    public void clear() {
+        elementToOrdinal.clear();
+        ordinalToElement.clear();
+        freeOrdinals.clear();
+    }
+}
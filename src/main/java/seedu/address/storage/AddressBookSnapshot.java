@@ -0,0 +1,18 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+
+/**
+ * An address book captured for saving, which does not change along with the address book it was captured from.
+ * It can thus be saved on another thread while the address book goes on changing.
+ */
+@FunctionalInterface
+public interface AddressBookSnapshot {
+
+    /**
+     * Saves the captured address book to the storage it was captured by.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void save() throws IOException;
+
+}
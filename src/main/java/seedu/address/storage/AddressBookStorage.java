@@ -17,6 +17,14 @@ public interface AddressBookStorage {
      */
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the file path that the saved address book is currently read from, which is the data file unless the
+     * address book is yet to be saved to it for the first time after moving from another file.
+     */
+    default Path getSavedAddressBookFilePath() {
+        return getAddressBookFilePath();
+    }
+
     /**
      * Returns AddressBook data as a {@link ReadOnlyAddressBook}.
      * Returns {@code Optional.empty()} if storage file is not found.
@@ -30,6 +38,15 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException;
 
+    /**
+     * Returns the snapshot ID of the saved address book, which is written into it by every save and so tells one save
+     * apart from another. Only as much of the file as holds the ID is read.
+     * Returns {@code Optional.empty()} if storage file is not found, or was saved without a snapshot ID.
+     *
+     * @throws IOException if there was any problem reading the file.
+     */
+    Optional<String> readSnapshotId() throws IOException;
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
@@ -42,4 +59,10 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Captures the given {@link ReadOnlyAddressBook} as it is now, to be saved to the storage later.
+     * @param addressBook cannot be null.
+     */
+    AddressBookSnapshot captureAddressBook(ReadOnlyAddressBook addressBook);
+
 }
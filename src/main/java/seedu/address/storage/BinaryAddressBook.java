@@ -0,0 +1,381 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.price.Price;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Converts an AddressBook to and from a compact binary form.
+ * <p>
+ * The binary form starts with {@link #MAGIC}, the format {@link #VERSION} and the snapshot ID of the save that wrote
+ * it, as the two halves of a UUID, followed by these sections, each starting with its number of entries:
+ * <ol>
+ * <li>the string table, of every distinct string in the address book, each as its length and UTF-8 bytes.</li>
+ * <li>the tags, each as a reference to its name in the string table.</li>
+ * <li>the persons, and then the listings, each as a record prefixed by its length in bytes.</li>
+ * </ol>
+ * Within records, strings are referred to by their index in the string table, tags by their index in the tags
+ * section, and owners by their index in the persons section, with {@code -1} for none. A record may be longer than
+ * the fields this version reads, so that fields can be added at the end of records without changing the version.
+ * <p>
+ * Records are decoded into the {@code JsonAdapted*} classes, so that they are checked and linked up exactly like the
+ * records of the json file.
+ */
+class BinaryAddressBook {
+
+    public static final int MAGIC = 0x4d454142; // "MEAB"
+    public static final int VERSION = 2;
+
+    // The length of the magic number, version and snapshot ID, which version 1 does not have
+    public static final int HEADER_LENGTH = 2 * Integer.BYTES + 2 * Long.BYTES;
+
+    public static final String MESSAGE_NOT_BINARY_ADDRESS_BOOK = "Data file is not a MatchEstate binary data file.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Data file version %d is not supported.";
+    public static final String MESSAGE_CORRUPTED = "Data file is corrupted.";
+
+    private static final int NONE = -1;
+
+    private BinaryAddressBook() {}
+
+    /**
+     * Returns the binary form of {@code addressBook}, stamped with {@code snapshotId}.
+     */
+    static byte[] encode(ReadOnlyAddressBook addressBook, UUID snapshotId) {
+        Encoder encoder = new Encoder();
+        try {
+            return encoder.encode(addressBook, snapshotId);
+        } catch (IOException e) {
+            // Only written to memory
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the address book in the binary form in {@code buffer}.
+     *
+     * @throws IllegalValueException if the binary form is corrupted, or there were any data constraints violated.
+     */
+    static AddressBook decode(ByteBuffer buffer) throws IllegalValueException {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY_ADDRESS_BOOK);
+            }
+            int version = buffer.getInt();
+            if (version < 1 || version > VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+            if (version >= 2) {
+                buffer.position(buffer.position() + 2 * Long.BYTES);
+            }
+            return new Decoder(buffer).decode();
+        } catch (BufferUnderflowException | NumberFormatException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+    }
+
+    /**
+     * Returns the snapshot ID in {@code header}, the first {@link #HEADER_LENGTH} bytes of a binary form, or
+     * {@code Optional.empty()} if it is not the header of a binary form with a snapshot ID.
+     */
+    static Optional<UUID> readSnapshotId(ByteBuffer header) {
+        if (header.remaining() < HEADER_LENGTH || header.getInt() != MAGIC) {
+            return Optional.empty();
+        }
+        int version = header.getInt();
+        if (version < 2 || version > VERSION) {
+            return Optional.empty();
+        }
+        return Optional.of(new UUID(header.getLong(), header.getLong()));
+    }
+
+    /**
+     * Writes the sections of an address book, collecting its strings and tags along the way.
+     */
+    private static class Encoder {
+        private final Map<String, Integer> stringRefs = new LinkedHashMap<>();
+        private final Map<String, Integer> tagRefs = new LinkedHashMap<>();
+        private final Map<String, Integer> personRefsByPhone = new HashMap<>();
+
+        private final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        private final DataOutputStream record = new DataOutputStream(recordBytes);
+
+        byte[] encode(ReadOnlyAddressBook addressBook, UUID snapshotId) throws IOException {
+            for (String tagName : addressBook.getTagMap().keySet()) {
+                getTagRef(tagName);
+            }
+
+            // The string table and tags are only complete once the records have been written
+            ByteArrayOutputStream recordSectionBytes = new ByteArrayOutputStream();
+            DataOutputStream recordSections = new DataOutputStream(recordSectionBytes);
+            List<Person> persons = addressBook.getPersonList();
+            recordSections.writeInt(persons.size());
+            for (Person person : persons) {
+                personRefsByPhone.put(person.getPhone().value, personRefsByPhone.size());
+                writePerson(person);
+                writeRecord(recordSections);
+            }
+            List<Listing> listings = addressBook.getListingList();
+            recordSections.writeInt(listings.size());
+            for (Listing listing : listings) {
+                writeListing(listing);
+                writeRecord(recordSections);
+            }
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(recordSectionBytes.size() + stringRefs.size() * 16);
+            DataOutputStream output = new DataOutputStream(bytes);
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeLong(snapshotId.getMostSignificantBits());
+            output.writeLong(snapshotId.getLeastSignificantBits());
+            output.writeInt(stringRefs.size());
+            for (String string : stringRefs.keySet()) {
+                byte[] stringBytes = string.getBytes(UTF_8);
+                output.writeInt(stringBytes.length);
+                output.write(stringBytes);
+            }
+            output.writeInt(tagRefs.size());
+            for (String tagName : tagRefs.keySet()) {
+                output.writeInt(stringRefs.get(tagName));
+            }
+            recordSectionBytes.writeTo(output);
+            return bytes.toByteArray();
+        }
+
+        private void writePerson(Person person) throws IOException {
+            writeString(person.getName().fullName);
+            writeString(person.getPhone().value);
+            writeString(person.getEmail().value);
+            List<PropertyPreference> preferences = person.getPropertyPreferences();
+            record.writeInt(preferences.size());
+            for (PropertyPreference preference : preferences) {
+                writePriceRange(preference.getPriceRange());
+                writeTags(preference.getTags());
+            }
+        }
+
+        private void writeListing(Listing listing) throws IOException {
+            writeString(listing.getPostalCode().postalCode);
+            writeString(listing.getUnitNumber() == null ? null : listing.getUnitNumber().unitNumber);
+            writeString(listing.getHouseNumber() == null ? null : listing.getHouseNumber().houseNumber);
+            writePriceRange(listing.getPriceRange());
+            writeString(listing.getPropertyName() == null ? null : listing.getPropertyName().propertyName);
+            record.writeBoolean(listing.getAvailability());
+            writeTags(listing.getTags());
+            List<Person> owners = listing.getOwners();
+            record.writeInt(owners.size());
+            for (Person owner : owners) {
+                Integer ownerRef = personRefsByPhone.get(owner.getPhone().value);
+                if (ownerRef == null) {
+                    throw new IllegalStateException("Listing owner is not in the address book: " + owner);
+                }
+                record.writeInt(ownerRef);
+            }
+        }
+
+        private void writePriceRange(PriceRange priceRange) throws IOException {
+            writePrice(priceRange.lowerBoundPrice);
+            writePrice(priceRange.upperBoundPrice);
+        }
+
+        private void writePrice(Price price) throws IOException {
+            writeString(price == null ? null : price.price.toString());
+        }
+
+        private void writeTags(Collection<Tag> tags) throws IOException {
+            record.writeInt(tags.size());
+            for (Tag tag : tags) {
+                record.writeInt(getTagRef(tag.getTagName()));
+            }
+        }
+
+        private void writeString(String string) throws IOException {
+            record.writeInt(string == null ? NONE : getStringRef(string));
+        }
+
+        /**
+         * Writes the record built so far to {@code section}, prefixed by its length, and starts a new record.
+         */
+        private void writeRecord(DataOutputStream section) throws IOException {
+            section.writeInt(recordBytes.size());
+            recordBytes.writeTo(section);
+            recordBytes.reset();
+        }
+
+        private int getStringRef(String string) {
+            return stringRefs.computeIfAbsent(string, unused -> stringRefs.size());
+        }
+
+        private int getTagRef(String tagName) {
+            getStringRef(tagName);
+            return tagRefs.computeIfAbsent(tagName, unused -> tagRefs.size());
+        }
+    }
+
+    /**
+     * Reads the sections of an address book, after its header.
+     */
+    private static class Decoder {
+        private final ByteBuffer buffer;
+        private String[] strings;
+        private String[] tagNames;
+        private String[] phones;
+
+        Decoder(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        AddressBook decode() throws IllegalValueException {
+            strings = new String[readCount(buffer)];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = UTF_8.decode(readBytes(buffer)).toString();
+            }
+
+            AddressBook addressBook = new AddressBook();
+            tagNames = new String[readCount(buffer)];
+            Set<String> tagNameSet = new LinkedHashSet<>();
+            for (int i = 0; i < tagNames.length; i++) {
+                tagNames[i] = readRequiredString(buffer);
+                tagNameSet.add(tagNames[i]);
+            }
+            addressBook.addTags(tagNameSet);
+
+            phones = new String[readCount(buffer)];
+            List<JsonAdaptedPerson> persons = new ArrayList<>(phones.length);
+            for (int i = 0; i < phones.length; i++) {
+                persons.add(readPerson(readBytes(buffer), i));
+            }
+            JsonSerializableAddressBook.addPersons(addressBook, persons);
+
+            Map<String, Person> personsByPhone = JsonSerializableAddressBook.getPersonsByPhone(addressBook);
+            int listingCount = readCount(buffer);
+            List<JsonAdaptedListing> listings = new ArrayList<>(listingCount);
+            for (int i = 0; i < listingCount; i++) {
+                listings.add(readListing(readBytes(buffer)));
+            }
+            JsonSerializableAddressBook.addListings(addressBook, listings, personsByPhone);
+
+            if (buffer.hasRemaining()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            return addressBook;
+        }
+
+        private JsonAdaptedPerson readPerson(ByteBuffer record, int index) throws IllegalValueException {
+            String name = readString(record);
+            phones[index] = readString(record);
+            String email = readString(record);
+            List<JsonAdaptedPreference> preferences = new ArrayList<>();
+            int preferenceCount = readCount(record);
+            for (int i = 0; i < preferenceCount; i++) {
+                preferences.add(new JsonAdaptedPreference(readPriceRange(record), readTags(record)));
+            }
+            return new JsonAdaptedPerson(name, phones[index], email, preferences);
+        }
+
+        private JsonAdaptedListing readListing(ByteBuffer record) throws IllegalValueException {
+            String postalCode = readString(record);
+            String unitNumber = readString(record);
+            String houseNumber = readString(record);
+            JsonAdaptedPriceRange priceRange = readPriceRange(record);
+            String propertyName = readString(record);
+            boolean isAvailable = record.get() != 0;
+            List<JsonAdaptedTag> tags = readTags(record);
+            List<String> ownerKeys = new ArrayList<>();
+            int ownerCount = readCount(record);
+            for (int i = 0; i < ownerCount; i++) {
+                ownerKeys.add(phones[readRef(record, phones.length)]);
+            }
+            return new JsonAdaptedListing(postalCode, unitNumber, houseNumber, priceRange, propertyName, tags,
+                    ownerKeys, isAvailable);
+        }
+
+        private JsonAdaptedPriceRange readPriceRange(ByteBuffer record) throws IllegalValueException {
+            String lower = readString(record);
+            String upper = readString(record);
+            return new JsonAdaptedPriceRange(upper == null ? null : new BigDecimal(upper),
+                    lower == null ? null : new BigDecimal(lower));
+        }
+
+        private List<JsonAdaptedTag> readTags(ByteBuffer record) throws IllegalValueException {
+            List<JsonAdaptedTag> tags = new ArrayList<>();
+            int tagCount = readCount(record);
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(new JsonAdaptedTag(tagNames[readRef(record, tagNames.length)]));
+            }
+            return tags;
+        }
+
+        private String readString(ByteBuffer source) throws IllegalValueException {
+            int ref = source.getInt();
+            if (ref == NONE) {
+                return null;
+            }
+            return strings[checkRef(ref, strings.length)];
+        }
+
+        private String readRequiredString(ByteBuffer source) throws IllegalValueException {
+            return strings[readRef(source, strings.length)];
+        }
+
+        private static int readRef(ByteBuffer source, int limit) throws IllegalValueException {
+            return checkRef(source.getInt(), limit);
+        }
+
+        private static int checkRef(int ref, int limit) throws IllegalValueException {
+            if (ref < 0 || ref >= limit) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            return ref;
+        }
+
+        /**
+         * Reads the number of entries that follow, each of which takes at least one byte.
+         */
+        private static int readCount(ByteBuffer source) throws IllegalValueException {
+            int count = source.getInt();
+            if (count < 0 || count > source.remaining()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            return count;
+        }
+
+        /**
+         * Reads a length-prefixed run of bytes, and returns a view of them.
+         */
+        private static ByteBuffer readBytes(ByteBuffer source) throws IllegalValueException {
+            int length = source.getInt();
+            if (length < 0 || length > source.remaining()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            ByteBuffer bytes = source.slice(source.position(), length);
+            source.position(source.position() + length);
+            return bytes;
+        }
+    }
+}
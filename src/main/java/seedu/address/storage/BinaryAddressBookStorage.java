@@ -0,0 +1,187 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a binary file on the hard disk, in the format of
+ * {@link BinaryAddressBook}.
+ * The file is loaded into a buffer in one read, and saved by writing a temporary file that then replaces it.
+ * <p>
+ * Until the binary file is first saved, the address book can be read from a legacy storage instead, such as the json
+ * file it is being migrated from, which is left as it is.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final AddressBookStorage legacyStorage;
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} for the binary file at {@code filePath}.
+     */
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, null);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} for the binary file at {@code filePath}, which reads from
+     * {@code legacyStorage} instead until the binary file is first saved.
+     */
+    public BinaryAddressBookStorage(Path filePath, AddressBookStorage legacyStorage) {
+        requireNonNull(filePath);
+
+        this.filePath = filePath;
+        this.legacyStorage = legacyStorage;
+    }
+
+    /**
+     * Returns true if {@code filePath} is the path of a binary address book file.
+     */
+    public static boolean isBinaryFilePath(Path filePath) {
+        return filePath.getFileName().toString().endsWith(FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the json file that the binary file at {@code filePath} is migrated from, which is next to it
+     * with the extension {@code .json}.
+     */
+    public static Path getDefaultJsonFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        String baseName = fileName.substring(0, fileName.length() - FILE_EXTENSION.length());
+        return filePath.resolveSibling(baseName + ".json");
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Path getSavedAddressBookFilePath() {
+        if (isReadingLegacyStorage()) {
+            return legacyStorage.getSavedAddressBookFilePath();
+        }
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        if (isReadingLegacyStorage()) {
+            logger.info("Reading data from " + legacyStorage.getAddressBookFilePath()
+                    + " until it is saved to " + filePath);
+            return legacyStorage.readAddressBook();
+        }
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            // Read onto the heap rather than mapped, as a file with a mapped section cannot be replaced on Windows
+            // until the mapping is garbage collected, which would fail the next save
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(filePath));
+            return Optional.of(BinaryAddressBook.decode(buffer));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        writeFile(BinaryAddressBook.encode(addressBook, UUID.randomUUID()), filePath);
+    }
+
+    /**
+     * Captures {@code addressBook} by encoding it right away, which is then only written to the file when the
+     * snapshot is saved.
+     */
+    @Override
+    public AddressBookSnapshot captureAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+
+        byte[] capturedBytes = BinaryAddressBook.encode(addressBook, UUID.randomUUID());
+        Path capturedFilePath = filePath;
+        return () -> writeFile(capturedBytes, capturedFilePath);
+    }
+
+    /**
+     * Reads the snapshot ID from the header of the binary file alone.
+     */
+    @Override
+    public Optional<String> readSnapshotId() throws IOException {
+        if (isReadingLegacyStorage()) {
+            return legacyStorage.readSnapshotId();
+        }
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (InputStream in = Files.newInputStream(filePath)) {
+            ByteBuffer header = ByteBuffer.wrap(in.readNBytes(BinaryAddressBook.HEADER_LENGTH));
+            return BinaryAddressBook.readSnapshotId(header).map(UUID::toString);
+        }
+    }
+
+    private boolean isReadingLegacyStorage() {
+        return legacyStorage != null && !Files.exists(filePath);
+    }
+
+    /**
+     * Replaces the file at {@code filePath} with {@code bytes}, so that it is never left half written.
+     */
+    private static void writeFile(byte[] bytes, Path filePath) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        Files.write(tempFilePath, bytes);
+        Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+}
@@ -0,0 +1,56 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.core.MatchSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
+
+/**
+ * Represents a storage for the journal of the commands executed since the address book was last saved.
+ * Replaying the journal onto the saved address book brings it up to date, so that a command only has to append to
+ * the journal rather than save the whole address book.
+ */
+public interface JournalStorage {
+
+    /**
+     * Returns the file path of the journal file.
+     */
+    Path getJournalFilePath();
+
+    /**
+     * Returns the command texts in the journal, oldest first.
+     * Returns an empty list if there is no journal, or it has no commands.
+     *
+     * @param matchSettings cannot be null.
+     * @throws DataLoadingException if reading the journal failed, or its commands cannot be replayed onto the saved
+     *     address book, as it was started for a different save of the address book than the one in storage, or with
+     *     match settings that rank listings differently from {@code matchSettings}, so that its commands could refer to
+     *     different rows of the displayed lists.
+     */
+    List<String> readJournal(MatchSettings matchSettings) throws DataLoadingException;
+
+    /**
+     * Appends the given command texts to the journal, starting a journal for the saved address book and
+     * {@code matchSettings} if there is none.
+     * @param commandTexts cannot be null.
+     * @param matchSettings cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendToJournal(List<String> commandTexts, MatchSettings matchSettings) throws IOException;
+
+    /**
+     * Deletes the journal, e.g. after its commands are saved as part of the address book.
+     * @throws IOException if there was any problem deleting the file.
+     */
+    void clearJournal() throws IOException;
+
+    /**
+     * Moves the journal to a new file, so that a journal that cannot be replayed is kept rather than deleted.
+     * @return the path of the file the journal was moved to.
+     * @throws IOException if there was any problem moving the file.
+     */
+    Path moveJournalAside() throws IOException;
+
+}
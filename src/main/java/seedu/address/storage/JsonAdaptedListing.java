@@ -3,12 +3,12 @@ package seedu.address.storage;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.listing.HouseNumber;
@@ -90,9 +90,24 @@ class JsonAdaptedListing {
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Listing} object.
      *
+     * @param addressBook The address book to look up tags in.
+     * @param personsByPhone The persons in {@code addressBook}, keyed by phone number, to resolve owners with.
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
-    public Listing toModelType(AddressBook addressBook) throws IllegalValueException {
+    public Listing toModelType(AddressBook addressBook, Map<String, Person> personsByPhone)
+            throws IllegalValueException {
+        Listing modelListing = toUnlinkedModelType();
+        link(modelListing, addressBook, personsByPhone);
+        return modelListing;
+    }
+
+    /**
+     * Converts this adapted listing into a {@code Listing} without its tags and owners, which does not touch any
+     * address book. The tags and owners are added by {@link #link(Listing, AddressBook, Map)}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted listing.
+     */
+    Listing toUnlinkedModelType() throws IllegalValueException {
         if (postalCode == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     PostalCode.class.getSimpleName()));
@@ -132,11 +147,29 @@ class JsonAdaptedListing {
                 priceRange.toModelType(),
                 modelPropertyName,
                 new HashSet<>(),
-                getModelOwners(addressBook.getPersonList()),
+                new ArrayList<>(),
                 modelIsAvailable);
 
         for (JsonAdaptedTag jsonAdaptedTag : tags) {
-            Tag tag = jsonAdaptedTag.toModelType(addressBook);
+            jsonAdaptedTag.checkTagName();
+        }
+
+        return modelListing;
+    }
+
+    /**
+     * Links {@code modelListing}, converted from this adapted listing, with its tags in {@code addressBook} and its
+     * owners in {@code personsByPhone}.
+     *
+     * @param personsByPhone The persons in {@code addressBook}, keyed by phone number, to resolve owners with.
+     */
+    void link(Listing modelListing, AddressBook addressBook, Map<String, Person> personsByPhone) {
+        for (Person owner : getModelOwners(personsByPhone)) {
+            modelListing.addOwner(owner);
+        }
+
+        for (JsonAdaptedTag jsonAdaptedTag : tags) {
+            Tag tag = jsonAdaptedTag.getModelTag(addressBook);
 
             modelListing.addTag(tag);
             tag.addListing(modelListing);
@@ -147,26 +180,15 @@ class JsonAdaptedListing {
         for (Person owner : modelListing.getOwners()) {
             owner.addListing(modelListing);
         }
-
-        return modelListing;
     }
 
 
-    private List<Person> getModelOwners(ObservableList<Person> personList) {
+    private List<Person> getModelOwners(Map<String, Person> personsByPhone) {
         List<Person> owners = new ArrayList<>();
         for (String key : ownerKeys) {
-
-            for (Person person : personList) {
-                if (person == null) {
-                    continue;
-                }
-
-                if (!person.getPhone().value.equals(key)) {
-                    continue;
-                }
-
-                owners.add(person);
-
+            Person owner = personsByPhone.get(key);
+            if (owner != null) {
+                owners.add(owner);
             }
         }
         return owners;
@@ -44,6 +44,18 @@ class JsonAdaptedPreference {
      * Converts this Jackson-friendly adapted preference object into the model's {@code PriceRange} object.
      */
     public PropertyPreference toModelType(AddressBook addressBook, Person person) throws IllegalValueException {
+        PropertyPreference modelPreference = toUnlinkedModelType(person);
+        linkTags(modelPreference, addressBook);
+        return modelPreference;
+    }
+
+    /**
+     * Converts this adapted preference into a {@code PropertyPreference} of {@code person} without its tags, which
+     * does not touch any address book. The tags are added by {@link #linkTags(PropertyPreference, AddressBook)}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted preference.
+     */
+    PropertyPreference toUnlinkedModelType(Person person) throws IllegalValueException {
         if (priceRange == null) {
             throw new IllegalValueException("PropertyPreference's priceRange cannot be null.");
         }
@@ -59,15 +71,24 @@ class JsonAdaptedPreference {
         PropertyPreference modelPreference = new PropertyPreference(priceRange.toModelType(), new HashSet<>(), person);
 
         for (JsonAdaptedTag jsonAdaptedTag : tags) {
-            Tag tag = jsonAdaptedTag.toModelType(addressBook);
+            jsonAdaptedTag.checkTagName();
+        }
+
+        return modelPreference;
+    }
+
+    /**
+     * Links {@code modelPreference}, converted from this adapted preference, with its tags in {@code addressBook}.
+     */
+    void linkTags(PropertyPreference modelPreference, AddressBook addressBook) {
+        for (JsonAdaptedTag jsonAdaptedTag : tags) {
+            Tag tag = jsonAdaptedTag.getModelTag(addressBook);
 
             modelPreference.addTag(tag);
             tag.addPropertyPreference(modelPreference);
 
             addressBook.setTag(tag, tag);
         }
-
-        return modelPreference;
     }
 
 }
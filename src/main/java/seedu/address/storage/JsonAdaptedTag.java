@@ -1,7 +1,5 @@
 package seedu.address.storage;
 
-import java.util.ArrayList;
-
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
@@ -42,17 +40,31 @@ class JsonAdaptedTag {
      * @throws IllegalValueException if there were any data constraints violated in the adapted tag.
      */
     public Tag toModelType(AddressBook addressBook) throws IllegalValueException {
+        checkTagName();
+        return getModelTag(addressBook);
+    }
+
+    /**
+     * Checks the tag name of this adapted tag, which does not touch any address book.
+     *
+     * @throws IllegalValueException if the tag name is invalid.
+     */
+    void checkTagName() throws IllegalValueException {
         if (!Tag.isValidTagName(tagName)) {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
+    }
 
-        Tag tag = new Tag(tagName, new ArrayList<>(), new ArrayList<>());
-        if (addressBook.hasTag(tagName)) {
-            tag = addressBook.getTagMap().get(tagName);
+    /**
+     * Returns the tag with the checked tag name of this adapted tag in {@code addressBook}, adding a new tag to
+     * {@code addressBook} if it has none, so that the tag has an ID in its tag map.
+     */
+    Tag getModelTag(AddressBook addressBook) {
+        if (!addressBook.hasTag(tagName)) {
+            addressBook.addTag(tagName);
         }
 
-        return tag;
+        return addressBook.getTagMap().get(tagName.toUpperCase());
     }
 
-
 }
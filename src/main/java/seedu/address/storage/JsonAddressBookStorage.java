@@ -3,6 +3,7 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -10,8 +11,6 @@ import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -38,6 +37,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * The file is read one record at a time with {@link StreamingJsonAddressBook}.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,20 +45,32 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return Optional.of(StreamingJsonAddressBook.read(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from json file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    /**
+     * Reads the snapshot ID from the start of the json file alone, where {@link StreamingJsonAddressBook} writes it.
+     */
+    @Override
+    public Optional<String> readSnapshotId() throws IOException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        return StreamingJsonAddressBook.readSnapshotId(filePath);
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -66,6 +78,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is written one record at a time with {@link StreamingJsonAddressBook}.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +86,22 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        StreamingJsonAddressBook.write(addressBook, filePath);
+    }
+
+    /**
+     * Captures {@code addressBook} by converting it into its json form right away, which is then only written to the
+     * file when the snapshot is saved.
+     */
+    @Override
+    public AddressBookSnapshot captureAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+
+        JsonSerializableAddressBook capturedAddressBook = new JsonSerializableAddressBook(addressBook);
+        Path capturedFilePath = filePath;
+        return () -> {
+            capturedAddressBook.writeTo(capturedFilePath);
+        };
     }
 
 }
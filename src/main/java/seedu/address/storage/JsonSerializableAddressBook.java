@@ -1,8 +1,12 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -60,40 +64,56 @@ class JsonSerializableAddressBook {
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
         addTags(addressBook);
-        addPersons(addressBook);
-        addListings(addressBook);
+        addPersons(addressBook, persons);
+        addListings(addressBook, listings, getPersonsByPhone(addressBook));
 
         return addressBook;
     }
 
     /**
-     * Creates and returns a list of Person objects from the JSON-adapted persons.
+     * Writes this address book to the json file at {@code filePath} one record at a time.
      *
-     * @throws IllegalValueException If there are duplicate persons.
+     * @throws IOException if there was any problem writing to the file.
      */
-    private void addPersons(AddressBook addressBook) throws IllegalValueException {
-
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType(addressBook);
+    public void writeTo(Path filePath) throws IOException {
+        StreamingJsonAddressBook.write(tags.iterator(), persons.iterator(), listings.iterator(), filePath);
+    }
 
+    /**
+     * Converts {@code jsonAdaptedPersons} and adds them to {@code addressBook} in order.
+     * The persons are checked and converted in parallel, and then linked with their tags and added one at a time.
+     *
+     * @throws IllegalValueException If a person is invalid or already in {@code addressBook}.
+     */
+    static void addPersons(AddressBook addressBook, List<JsonAdaptedPerson> jsonAdaptedPersons)
+            throws IllegalValueException {
+        ParallelConverter.Results<Person> persons =
+                ParallelConverter.convert(jsonAdaptedPersons, JsonAdaptedPerson::toUnlinkedModelType);
+        for (int i = 0; i < jsonAdaptedPersons.size(); i++) {
+            Person person = persons.get(i);
+            jsonAdaptedPersons.get(i).linkTags(person, addressBook);
             if (addressBook.hasPerson(person)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
-
             addressBook.addPerson(person);
         }
     }
 
     /**
-     * Creates Listing objects from the JSON-adapted listings and adds them to the AddressBook.
+     * Converts {@code jsonAdaptedListings}, with their owners looked up in {@code personsByPhone}, and adds them to
+     * {@code addressBook} in order.
+     * The listings are checked and converted in parallel, and then linked with their tags and owners and added one
+     * at a time.
      *
-     * @param addressBook The AddressBook to add the listings to and get owners.
-     * @throws IllegalValueException If there are duplicate listings.
+     * @throws IllegalValueException If a listing is invalid or already in {@code addressBook}.
      */
-    private void addListings(AddressBook addressBook)
-            throws IllegalValueException {
-        for (JsonAdaptedListing jsonAdaptedListing : listings) {
-            Listing listing = jsonAdaptedListing.toModelType(addressBook);
+    static void addListings(AddressBook addressBook, List<JsonAdaptedListing> jsonAdaptedListings,
+            Map<String, Person> personsByPhone) throws IllegalValueException {
+        ParallelConverter.Results<Listing> listings =
+                ParallelConverter.convert(jsonAdaptedListings, JsonAdaptedListing::toUnlinkedModelType);
+        for (int i = 0; i < jsonAdaptedListings.size(); i++) {
+            Listing listing = listings.get(i);
+            jsonAdaptedListings.get(i).link(listing, addressBook, personsByPhone);
             if (addressBook.hasListing(listing)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_LISTING);
             }
@@ -101,6 +121,17 @@ class JsonSerializableAddressBook {
         }
     }
 
+    /**
+     * Returns the persons in {@code addressBook} keyed by phone number, to resolve listing owners with.
+     */
+    static Map<String, Person> getPersonsByPhone(AddressBook addressBook) {
+        Map<String, Person> personsByPhone = new HashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            personsByPhone.put(person.getPhone().value, person);
+        }
+        return personsByPhone;
+    }
+
     /**
      * Adds tags from the JSON-adapted tags to the AddressBook.
      */
@@ -0,0 +1,135 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts Jackson-friendly records into model objects in chunks of consecutive records, in parallel on the common
+ * fork-join pool.
+ * Converting a record must only check its fields and build its value objects, without touching the address book, so
+ * that any record can be converted on any thread. The converted records are then linked into the address book one at
+ * a time on the calling thread, in order, through {@link Results#get(int)}, which fails on the first record that
+ * could not be converted just as converting the records one at a time would.
+ */
+final class ParallelConverter {
+
+    // The fewest records a task is split down to, below which forking costs more than it saves
+    static final int MIN_RECORDS_PER_TASK = 256;
+
+    private ParallelConverter() {}
+
+    /**
+     * Converts a record into a model object.
+     */
+    @FunctionalInterface
+    interface Converter<R, T> {
+        T convert(R record) throws IllegalValueException;
+    }
+
+    /**
+     * Converts each of {@code records} with {@code converter}.
+     * Records are converted on the calling thread if there are too few of them to be worth splitting up.
+     */
+    static <R, T> Results<T> convert(List<R> records, Converter<R, T> converter) {
+        requireNonNull(records);
+        requireNonNull(converter);
+
+        Results<T> results = new Results<>(records.size());
+        if (records.size() <= MIN_RECORDS_PER_TASK) {
+            results.convert(records, converter, 0, records.size());
+            return results;
+        }
+
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        int recordsPerTask = Math.max(MIN_RECORDS_PER_TASK, records.size() / (parallelism * 4));
+        ForkJoinPool.commonPool().invoke(new ConvertTask<>(records, converter, results, 0, records.size(),
+                recordsPerTask));
+        return results;
+    }
+
+    /**
+     * The converted records, in the same order as the records they were converted from.
+     */
+    static class Results<T> {
+        private final Object[] values;
+        private final Exception[] failures;
+
+        private Results(int size) {
+            values = new Object[size];
+            failures = new Exception[size];
+        }
+
+        /**
+         * Returns the record at {@code index} converted, or throws what converting it threw.
+         * The records of a chunk after one that could not be converted are left unconverted, so the results must be
+         * read in order, stopping at the first failure.
+         *
+         * @throws IllegalValueException if there were any data constraints violated in the record.
+         */
+        @SuppressWarnings("unchecked")
+        T get(int index) throws IllegalValueException {
+            Exception failure = failures[index];
+            if (failure instanceof IllegalValueException) {
+                throw (IllegalValueException) failure;
+            } else if (failure != null) {
+                throw (RuntimeException) failure;
+            }
+            return (T) values[index];
+        }
+
+        /**
+         * Converts the records in {@code [from, to)}, stopping at the first record that cannot be converted.
+         */
+        private <R> void convert(List<R> records, Converter<R, T> converter, int from, int to) {
+            for (int i = from; i < to; i++) {
+                try {
+                    values[i] = converter.convert(records.get(i));
+                } catch (IllegalValueException | RuntimeException e) {
+                    failures[i] = e;
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Converts the records in {@code [from, to)}, splitting the range in half until it is small enough to convert
+     * directly.
+     */
+    private static class ConvertTask<R, T> extends RecursiveAction {
+        private final List<R> records;
+        private final Converter<R, T> converter;
+        private final Results<T> results;
+        private final int from;
+        private final int to;
+        private final int recordsPerTask;
+
+        ConvertTask(List<R> records, Converter<R, T> converter, Results<T> results, int from, int to,
+                int recordsPerTask) {
+            this.records = records;
+            this.converter = converter;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.recordsPerTask = recordsPerTask;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= recordsPerTask) {
+                results.convert(records, converter, from, to);
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new ConvertTask<>(records, converter, results, from, mid, recordsPerTask),
+                    new ConvertTask<>(records, converter, results, mid, to, recordsPerTask));
+        }
+    }
+
+}
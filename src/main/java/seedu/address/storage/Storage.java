@@ -2,8 +2,12 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
+import seedu.address.commons.core.MatchSettings;
+import seedu.address.commons.core.SaveStatus;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -12,7 +16,7 @@ import seedu.address.model.UserPrefs;
 /**
  * API of the Storage component
  */
-public interface Storage extends AddressBookStorage, UserPrefsStorage {
+public interface Storage extends AddressBookStorage, UserPrefsStorage, JournalStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataLoadingException;
@@ -29,4 +33,39 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    @Override
+    List<String> readJournal(MatchSettings matchSettings) throws DataLoadingException;
+
+    @Override
+    void appendToJournal(List<String> commandTexts, MatchSettings matchSettings) throws IOException;
+
+    @Override
+    void clearJournal() throws IOException;
+
+    @Override
+    Path moveJournalAside() throws IOException;
+
+    /**
+     * Saves the given {@link ReadOnlyAddressBook} and clears the journal, whose commands the address book already holds
+     * the changes of.
+     * @throws IOException if there was any problem writing to the files.
+     */
+    void compactJournal(ReadOnlyAddressBook addressBook) throws IOException;
+
+    /**
+     * Returns whether the changes to the address book and journal have been written to the files.
+     */
+    SaveStatus getSaveStatus();
+
+    /**
+     * Adds a listener that is notified, on the thread that changed it, whenever the save status changes.
+     */
+    void addSaveStatusListener(Consumer<SaveStatus> listener);
+
+    /**
+     * Writes any changes still waiting to be saved in the background, and saves later changes right away.
+     * @throws IOException if there was any problem writing to the files.
+     */
+    void flush() throws IOException;
+
 }
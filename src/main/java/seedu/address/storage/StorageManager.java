@@ -1,31 +1,99 @@
 package seedu.address.storage;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MatchSettings;
+import seedu.address.commons.core.SaveStatus;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 
 /**
- * Manages storage of AddressBook data in local storage.
+ * Manages storage of AddressBook data in local storage, along with the journal of the commands executed since it was
+ * last saved.
+ * <p>
+ * Changes to the address book and journal are written right away, until {@link #startBackgroundSaving(long)} is
+ * called. After that, they are only marked as unsaved, and a single background writer thread writes all the changes
+ * made since its last write at most once per save interval, so that a burst of commands is written all at once.
+ * The address book is still captured on the thread that compacts the journal, so that the writer never reads the
+ * address book while it is being changed.
  */
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private JournalStorage journalStorage;
+
+    private final List<Consumer<SaveStatus>> saveStatusListeners = new CopyOnWriteArrayList<>();
+    private SaveStatus saveStatus = SaveStatus.SAVED;
+
+    // The background writer, which is null while changes are written right away
+    private ScheduledThreadPoolExecutor writer;
+    private long saveIntervalNanos;
+    private long lastWriteNanos;
+    private boolean isWriteScheduled = false;
+
+    // The changes waiting for the background writer, which are written in this order
+    private AddressBookSnapshot pendingSnapshot;
+    private boolean isJournalClearPending = false;
+    private final List<String> pendingCommandTexts = new ArrayList<>();
+    private MatchSettings pendingMatchSettings;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}, and a
+     * journal next to the address book file.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, new TextJournalStorage(
+                TextJournalStorage.getDefaultJournalFilePath(addressBookStorage.getAddressBookFilePath()),
+                addressBookStorage));
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage}, {@code UserPrefStorage} and
+     * {@code JournalStorage}.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            JournalStorage journalStorage) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.journalStorage = journalStorage;
+    }
+
+    /**
+     * Starts writing the changes to the address book and journal on a background thread, at most once every
+     * {@code saveIntervalMillis} milliseconds.
+     */
+    public synchronized void startBackgroundSaving(long saveIntervalMillis) {
+        checkArgument(saveIntervalMillis >= 0, "Save interval cannot be negative");
+        assert writer == null : "Background saving has already started";
+
+        writer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "MatchEstate data writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Delayed writes are replaced by the final write of flush()
+        writer.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        saveIntervalNanos = TimeUnit.MILLISECONDS.toNanos(saveIntervalMillis);
+        lastWriteNanos = System.nanoTime() - saveIntervalNanos;
     }
 
     // ================ UserPrefs methods ==============================
@@ -53,9 +121,15 @@ public class StorageManager implements Storage {
         return addressBookStorage.getAddressBookFilePath();
     }
 
+    @Override
+    public Path getSavedAddressBookFilePath() {
+        return addressBookStorage.getSavedAddressBookFilePath();
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
-        return readAddressBook(addressBookStorage.getAddressBookFilePath());
+        logger.fine("Attempting to read data from file: " + addressBookStorage.getSavedAddressBookFilePath());
+        return addressBookStorage.readAddressBook();
     }
 
     @Override
@@ -75,4 +149,217 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public Optional<String> readSnapshotId() throws IOException {
+        return addressBookStorage.readSnapshotId();
+    }
+
+    @Override
+    public AddressBookSnapshot captureAddressBook(ReadOnlyAddressBook addressBook) {
+        return addressBookStorage.captureAddressBook(addressBook);
+    }
+
+    // ================ Journal methods ==============================
+
+    @Override
+    public Path getJournalFilePath() {
+        return journalStorage.getJournalFilePath();
+    }
+
+    @Override
+    public List<String> readJournal(MatchSettings matchSettings) throws DataLoadingException {
+        logger.fine("Attempting to read journal: " + journalStorage.getJournalFilePath());
+        return journalStorage.readJournal(matchSettings);
+    }
+
+    @Override
+    public void appendToJournal(List<String> commandTexts, MatchSettings matchSettings) throws IOException {
+        synchronized (this) {
+            if (writer != null) {
+                pendingCommandTexts.addAll(commandTexts);
+                pendingMatchSettings = matchSettings;
+                scheduleWrite();
+                return;
+            }
+        }
+
+        try {
+            journalStorage.appendToJournal(commandTexts, matchSettings);
+            setSaveStatus(SaveStatus.SAVED);
+        } catch (IOException e) {
+            setSaveStatus(SaveStatus.FAILED);
+            throw e;
+        }
+    }
+
+    @Override
+    public void clearJournal() throws IOException {
+        synchronized (this) {
+            if (writer != null) {
+                isJournalClearPending = true;
+                pendingCommandTexts.clear();
+                scheduleWrite();
+                return;
+            }
+        }
+
+        journalStorage.clearJournal();
+    }
+
+    @Override
+    public Path moveJournalAside() throws IOException {
+        logger.fine("Attempting to move journal aside: " + journalStorage.getJournalFilePath());
+        return journalStorage.moveJournalAside();
+    }
+
+    @Override
+    public void compactJournal(ReadOnlyAddressBook addressBook) throws IOException {
+        synchronized (this) {
+            if (writer != null) {
+                // The snapshot already holds the changes of every command journaled before it
+                pendingSnapshot = captureAddressBook(addressBook);
+                isJournalClearPending = true;
+                pendingCommandTexts.clear();
+                scheduleWrite();
+                return;
+            }
+        }
+
+        try {
+            saveAddressBook(addressBook);
+            journalStorage.clearJournal();
+            setSaveStatus(SaveStatus.SAVED);
+        } catch (IOException e) {
+            setSaveStatus(SaveStatus.FAILED);
+            throw e;
+        }
+    }
+
+    // ================ Background saving methods ==============================
+
+    @Override
+    public synchronized SaveStatus getSaveStatus() {
+        return saveStatus;
+    }
+
+    @Override
+    public void addSaveStatusListener(Consumer<SaveStatus> listener) {
+        saveStatusListeners.add(listener);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        ScheduledThreadPoolExecutor stoppedWriter;
+        synchronized (this) {
+            if (writer == null) {
+                return;
+            }
+            stoppedWriter = writer;
+            writer = null;
+        }
+
+        Future<Void> finalWrite = stoppedWriter.submit(() -> {
+            writePendingChanges();
+            return null;
+        });
+        stoppedWriter.shutdown();
+        try {
+            finalWrite.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioe) {
+                throw ioe;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while saving data");
+        }
+    }
+
+    /**
+     * Marks the changes as unsaved, and schedules the background writer to write them once the save interval since
+     * its last write has passed, unless it is already scheduled to.
+     */
+    private synchronized void scheduleWrite() {
+        setSaveStatus(SaveStatus.UNSAVED);
+        if (isWriteScheduled) {
+            return;
+        }
+
+        isWriteScheduled = true;
+        long delayNanos = Math.max(0, lastWriteNanos + saveIntervalNanos - System.nanoTime());
+        writer.schedule(() -> {
+            try {
+                writePendingChanges();
+            } catch (IOException e) {
+                logger.warning("Failed to save data in the background: " + e.getMessage());
+            }
+        }, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Writes the changes waiting for the background writer. Changes that could not be written are kept waiting for the
+     * next write, unless they have been superseded by a newer snapshot of the address book by then.
+     */
+    private void writePendingChanges() throws IOException {
+        AddressBookSnapshot snapshot;
+        boolean isClearingJournal;
+        List<String> commandTexts;
+        MatchSettings matchSettings;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            isClearingJournal = isJournalClearPending;
+            commandTexts = new ArrayList<>(pendingCommandTexts);
+            matchSettings = pendingMatchSettings;
+            pendingSnapshot = null;
+            isJournalClearPending = false;
+            pendingCommandTexts.clear();
+            isWriteScheduled = false;
+            lastWriteNanos = System.nanoTime();
+            if (snapshot == null && !isClearingJournal && commandTexts.isEmpty()) {
+                return;
+            }
+            setSaveStatus(SaveStatus.SAVING);
+        }
+
+        try {
+            if (snapshot != null) {
+                logger.fine("Attempting to write to data file: " + addressBookStorage.getAddressBookFilePath());
+                snapshot.save();
+                snapshot = null;
+            }
+            if (isClearingJournal) {
+                journalStorage.clearJournal();
+                isClearingJournal = false;
+            }
+            if (!commandTexts.isEmpty()) {
+                journalStorage.appendToJournal(commandTexts, matchSettings);
+            }
+        } catch (IOException e) {
+            synchronized (this) {
+                if (!isJournalClearPending) {
+                    pendingSnapshot = snapshot;
+                    isJournalClearPending = isClearingJournal;
+                    pendingCommandTexts.addAll(0, commandTexts);
+                }
+                setSaveStatus(SaveStatus.FAILED);
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            if (!isWriteScheduled) {
+                setSaveStatus(SaveStatus.SAVED);
+            }
+        }
+    }
+
+    private synchronized void setSaveStatus(SaveStatus newSaveStatus) {
+        if (saveStatus == newSaveStatus) {
+            return;
+        }
+        saveStatus = newSaveStatus;
+        saveStatusListeners.forEach(listener -> listener.accept(newSaveStatus));
+    }
+
 }
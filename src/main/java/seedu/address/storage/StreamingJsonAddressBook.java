@@ -0,0 +1,209 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads and writes the AddressBook json file one tag, person or listing at a time, without holding the whole file, or
+ * a {@link JsonSerializableAddressBook} of it, in memory.
+ * The file is in the same format as {@link JsonSerializableAddressBook}, so either can read what the other writes.
+ * Tags are written ahead of persons, and persons ahead of listings, so that every record can be converted as soon as
+ * it is read. Every write starts with a new snapshot ID, so that the ID can be read without reading the records.
+ */
+class StreamingJsonAddressBook {
+
+    static final String SNAPSHOT_ID_FIELD = "snapshotId";
+    static final String TAGS_FIELD = "tags";
+    static final String PERSONS_FIELD = "persons";
+    static final String LISTINGS_FIELD = "listings";
+
+    // The most persons or listings held in memory at once before they are converted
+    static final int RECORDS_PER_CHUNK = 4096;
+
+    private StreamingJsonAddressBook() {}
+
+    /**
+     * Reads the address book in the json file at {@code filePath}.
+     * Persons and listings are read in chunks of {@link #RECORDS_PER_CHUNK}, each of which is converted in parallel
+     * before the next is read.
+     * Listings that come before the persons in the file are only converted once the persons have been read, as they
+     * need their owners.
+     *
+     * @throws IOException if the file could not be read, or is not in the format of an address book.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        boolean hasReadPersons = false;
+        Map<String, Person> personsByPhone = null;
+        List<JsonAdaptedListing> pendingListings = new ArrayList<>();
+
+        try (JsonParser parser = JsonUtil.createFileParser(filePath)) {
+            expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                if (parser.nextToken() == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+
+                switch (fieldName) {
+                case TAGS_FIELD:
+                    expectToken(parser, parser.getCurrentToken(), JsonToken.START_ARRAY);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        addressBook.addTag(parser.readValueAs(JsonAdaptedTag.class).getTagName());
+                    }
+                    break;
+                case PERSONS_FIELD:
+                    expectToken(parser, parser.getCurrentToken(), JsonToken.START_ARRAY);
+                    List<JsonAdaptedPerson> persons = new ArrayList<>();
+                    while (readChunk(parser, JsonAdaptedPerson.class, persons)) {
+                        JsonSerializableAddressBook.addPersons(addressBook, persons);
+                        persons.clear();
+                    }
+                    JsonSerializableAddressBook.addPersons(addressBook, persons);
+                    hasReadPersons = true;
+                    break;
+                case LISTINGS_FIELD:
+                    expectToken(parser, parser.getCurrentToken(), JsonToken.START_ARRAY);
+                    if (!hasReadPersons) {
+                        while (parser.nextToken() != JsonToken.END_ARRAY) {
+                            pendingListings.add(parser.readValueAs(JsonAdaptedListing.class));
+                        }
+                        break;
+                    }
+                    if (personsByPhone == null) {
+                        personsByPhone = JsonSerializableAddressBook.getPersonsByPhone(addressBook);
+                    }
+                    List<JsonAdaptedListing> listings = new ArrayList<>();
+                    while (readChunk(parser, JsonAdaptedListing.class, listings)) {
+                        JsonSerializableAddressBook.addListings(addressBook, listings, personsByPhone);
+                        listings.clear();
+                    }
+                    JsonSerializableAddressBook.addListings(addressBook, listings, personsByPhone);
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+                }
+            }
+            expectToken(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+        }
+
+        if (!pendingListings.isEmpty()) {
+            personsByPhone = JsonSerializableAddressBook.getPersonsByPhone(addressBook);
+            JsonSerializableAddressBook.addListings(addressBook, pendingListings, personsByPhone);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns the snapshot ID of the json file at {@code filePath}, reading no further than its first field.
+     * Returns {@code Optional.empty()} if the file does not start with a snapshot ID.
+     *
+     * @throws IOException if the file could not be read.
+     */
+    static Optional<String> readSnapshotId(Path filePath) throws IOException {
+        try (JsonParser parser = JsonUtil.createFileParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT || parser.nextToken() != JsonToken.FIELD_NAME
+                    || !parser.getCurrentName().equals(SNAPSHOT_ID_FIELD)
+                    || parser.nextToken() != JsonToken.VALUE_STRING) {
+                return Optional.empty();
+            }
+            return Optional.of(parser.getText());
+        } catch (JsonParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Reads the values of the array that {@code parser} is in as {@code valueType} into {@code chunk}, until the chunk
+     * has {@link #RECORDS_PER_CHUNK} more values or the end of the array is reached.
+     *
+     * @return true if the chunk was filled before the end of the array.
+     */
+    private static <T> boolean readChunk(JsonParser parser, Class<T> valueType, List<T> chunk) throws IOException {
+        for (int i = 0; i < RECORDS_PER_CHUNK; i++) {
+            if (parser.nextToken() == JsonToken.END_ARRAY) {
+                return false;
+            }
+            chunk.add(parser.readValueAs(valueType));
+        }
+        return true;
+    }
+
+    /**
+     * Writes {@code addressBook} to the json file at {@code filePath}, converting each record just before it is
+     * written.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    static void write(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        write(addressBook.getTagMap().keySet().stream().map(JsonAdaptedTag::new).iterator(),
+                addressBook.getPersonList().stream().map(JsonAdaptedPerson::new).iterator(),
+                addressBook.getListingList().stream().map(JsonAdaptedListing::new).iterator(),
+                filePath);
+    }
+
+    /**
+     * Writes the given records to the json file at {@code filePath}, after a new snapshot ID.
+     * The records are written to a temporary file next to it, which then replaces the file, so that a failure partway
+     * through never leaves the file half written.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    static void write(Iterator<JsonAdaptedTag> tags, Iterator<JsonAdaptedPerson> persons,
+            Iterator<JsonAdaptedListing> listings, Path filePath) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try {
+            try (JsonGenerator generator = JsonUtil.createFileGenerator(tempFilePath)) {
+                generator.writeStartObject();
+                generator.writeStringField(SNAPSHOT_ID_FIELD, UUID.randomUUID().toString());
+                writeArray(generator, TAGS_FIELD, tags);
+                writeArray(generator, PERSONS_FIELD, persons);
+                writeArray(generator, LISTINGS_FIELD, listings);
+                generator.writeEndObject();
+            }
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFilePath);
+        }
+    }
+
+    private static void writeArray(JsonGenerator generator, String fieldName, Iterator<?> values)
+            throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        while (values.hasNext()) {
+            generator.writeObject(values.next());
+        }
+        generator.writeEndArray();
+    }
+
+    private static void expectToken(JsonParser parser, JsonToken actualToken, JsonToken expectedToken)
+            throws JsonParseException {
+        if (actualToken != expectedToken) {
+            throw new JsonParseException(parser, "Expected " + expectedToken + " but found " + actualToken);
+        }
+    }
+
+}
@@ -0,0 +1,151 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.core.MatchSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * A class to access the command journal stored as a text file on the hard disk, with one command text per line.
+ * The first line of the journal stamps the snapshot ID of the saved address book when the journal was started, so
+ * that a journal left behind by an interrupted save can be told apart from the journal of the address book that
+ * replaced it. The second line stamps the {@link MatchSettings#getRankingKey() ranking key} of the match settings the
+ * journaled commands were executed with.
+ * A command text is only part of the journal once its line ends, so a line cut short by a crash is ignored.
+ */
+public class TextJournalStorage implements JournalStorage {
+
+    public static final String MESSAGE_DIFFERENT_SNAPSHOT = "The journal is not for the saved address book.";
+    public static final String MESSAGE_DIFFERENT_MATCH_SETTINGS =
+            "The match settings have changed since the journal was written.";
+
+    private static final String STAMP_PREFIX = "# snapshot ";
+    private static final String SETTINGS_STAMP_PREFIX = "# settings ";
+    private static final String NO_SNAPSHOT_ID = "none";
+    private static final String REJECTED_FILE_PREFIX = "rejected_";
+    private static final String LINE_SEPARATOR = "\n";
+
+    private final Path filePath;
+    private final AddressBookStorage addressBookStorage;
+
+    /**
+     * Creates a {@code TextJournalStorage} at {@code filePath}, for the address book saved by
+     * {@code addressBookStorage}.
+     */
+    public TextJournalStorage(Path filePath, AddressBookStorage addressBookStorage) {
+        requireNonNull(filePath);
+        requireNonNull(addressBookStorage);
+
+        this.filePath = filePath;
+        this.addressBookStorage = addressBookStorage;
+    }
+
+    /**
+     * Returns the path of the journal for the address book saved at {@code addressBookFilePath}, which is next to it
+     * with the extension {@code .journal}.
+     */
+    public static Path getDefaultJournalFilePath(Path addressBookFilePath) {
+        String fileName = addressBookFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return addressBookFilePath.resolveSibling(baseName + ".journal");
+    }
+
+    @Override
+    public Path getJournalFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public List<String> readJournal(MatchSettings matchSettings) throws DataLoadingException {
+        requireNonNull(matchSettings);
+
+        if (!Files.exists(filePath)) {
+            return new ArrayList<>();
+        }
+
+        String content;
+        String snapshotId;
+        try {
+            content = FileUtil.readFromFile(filePath);
+            snapshotId = readSnapshotId();
+        } catch (IOException ioe) {
+            throw new DataLoadingException(ioe);
+        }
+
+        List<String> lines = new ArrayList<>(List.of(content.split(LINE_SEPARATOR, -1)));
+        // The text after the last line separator is either empty or a line cut short
+        lines.remove(lines.size() - 1);
+        if (lines.size() <= 2) {
+            // Started, but without any command
+            return new ArrayList<>();
+        }
+        if (!lines.get(0).equals(STAMP_PREFIX + snapshotId)) {
+            throw new DataLoadingException(new IllegalValueException(MESSAGE_DIFFERENT_SNAPSHOT));
+        }
+        if (!lines.get(1).equals(SETTINGS_STAMP_PREFIX + matchSettings.getRankingKey())) {
+            throw new DataLoadingException(new IllegalValueException(MESSAGE_DIFFERENT_MATCH_SETTINGS));
+        }
+        return lines.subList(2, lines.size());
+    }
+
+    @Override
+    public void appendToJournal(List<String> commandTexts, MatchSettings matchSettings) throws IOException {
+        requireNonNull(commandTexts);
+        requireNonNull(matchSettings);
+
+        StringBuilder records = new StringBuilder();
+        if (!Files.exists(filePath) || Files.size(filePath) == 0) {
+            FileUtil.createIfMissing(filePath);
+            records.append(STAMP_PREFIX).append(readSnapshotId()).append(LINE_SEPARATOR);
+            records.append(SETTINGS_STAMP_PREFIX).append(matchSettings.getRankingKey()).append(LINE_SEPARATOR);
+        }
+        for (String commandText : commandTexts) {
+            assert !commandText.contains(LINE_SEPARATOR);
+            records.append(commandText).append(LINE_SEPARATOR);
+        }
+
+        // Written in one call so that the records of a command are not interleaved with those of another
+        Files.writeString(filePath, records, UTF_8, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public void clearJournal() throws IOException {
+        Files.deleteIfExists(filePath);
+    }
+
+    /**
+     * Moves the journal to {@code rejected_<journal file name>} next to it, numbered if there is one already.
+     */
+    @Override
+    public Path moveJournalAside() throws IOException {
+        String fileName = filePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = REJECTED_FILE_PREFIX + (extensionIndex > 0 ? fileName.substring(0, extensionIndex)
+                : fileName);
+        String extension = extensionIndex > 0 ? fileName.substring(extensionIndex) : "";
+
+        Path newFilePath = filePath.resolveSibling(baseName + extension);
+        int counter = 1;
+        while (Files.exists(newFilePath)) {
+            newFilePath = filePath.resolveSibling(baseName + "_" + counter + extension);
+            counter++;
+        }
+        Files.move(filePath, newFilePath);
+        return newFilePath;
+    }
+
+    private String readSnapshotId() throws IOException {
+        return addressBookStorage.readSnapshotId().orElse(NO_SNAPSHOT_ID);
+    }
+}
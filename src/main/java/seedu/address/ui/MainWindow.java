@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -16,6 +17,7 @@ import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.search.MatchSubscriptions;
 import seedu.address.model.search.SearchContext;
 
 /**
@@ -122,11 +124,13 @@ public class MainWindow extends UiPart<Stage> {
     void fillInnerParts() {
 
         SearchContext searchContext = logic.getSearchContext();
+        MatchSubscriptions matchSubscriptions = logic.getMatchSubscriptions();
 
         tagListPanel = new TagListPanel(logic.getSortedFilteredTagList(), searchContext);
         tagListPanelPlaceholder.getChildren().add(tagListPanel.getRoot());
 
-        personListPanel = new PersonListPanel(logic.getSortedFilteredPersonList(), searchContext);
+        personListPanel = new PersonListPanel(logic.getSortedFilteredPersonList(), searchContext,
+                matchSubscriptions);
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
         listingListPanel = new ListingListPanel(logic.getSortedFilteredListingList(), searchContext);
@@ -134,9 +138,15 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.getStartupMessage().ifPresent(resultDisplay::setFeedbackToUser);
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath(),
+                matchSubscriptions.newMatchCountProperty());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        // The status can change on the background writer, and is read again on the JavaFX thread to show the latest
+        logic.addSaveStatusListener(status -> Platform.runLater(() ->
+                statusBarFooter.setSaveStatus(logic.getSaveStatus())));
+        statusBarFooter.setSaveStatus(logic.getSaveStatus());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
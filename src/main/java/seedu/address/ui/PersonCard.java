@@ -12,6 +12,7 @@ import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.search.MatchSubscriptions;
 import seedu.address.model.search.SearchContext;
 
 /**
@@ -40,9 +41,10 @@ public class PersonCard extends UiPart<Region> {
     private StackPane preferenceListPanelPlaceholder;
 
     /**
-     * Creates a {@code PersonCode} with the given {@code Person}, index, and current search tags.
+     * Creates a {@code PersonCode} with the given {@code Person}, index, current search tags and match subscriptions.
      */
-    public PersonCard(Person person, int displayedIndex, SearchContext searchContext) {
+    public PersonCard(Person person, int displayedIndex, SearchContext searchContext,
+            MatchSubscriptions matchSubscriptions) {
         super(FXML);
         this.person = person;
         id.setText(displayedIndex + ". ");
@@ -68,7 +70,7 @@ public class PersonCard extends UiPart<Region> {
             buyerTag.getStyleClass().add("buyer");
             tags.getChildren().add(buyerTag);
 
-            preferenceListPanel = new PreferenceListPanel(filteredPreferences, searchContext);
+            preferenceListPanel = new PreferenceListPanel(filteredPreferences, searchContext, matchSubscriptions);
             preferenceListPanelPlaceholder.getChildren().add(preferenceListPanel.getRoot());
         }
     }
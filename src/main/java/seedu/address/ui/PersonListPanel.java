@@ -9,6 +9,7 @@ import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.MatchSubscriptions;
 import seedu.address.model.search.SearchContext;
 
 /**
@@ -20,18 +21,26 @@ public class PersonListPanel extends UiPart<Region> {
 
     private final Logger logger = LogsCenter.getLogger(PersonListPanel.class);
     private final SearchContext searchContext;
+    private final MatchSubscriptions matchSubscriptions;
 
     @FXML
     private ListView<Person> personListView;
 
     /**
-     * Creates a {@code PersonListPanel} with the given {@code ObservableList} and active filter tags.
+     * Creates a {@code PersonListPanel} with the given {@code ObservableList}, active filter tags and match
+     * subscriptions.
      */
-    public PersonListPanel(ObservableList<Person> personList, SearchContext searchContext) {
+    public PersonListPanel(ObservableList<Person> personList, SearchContext searchContext,
+            MatchSubscriptions matchSubscriptions) {
         super(FXML);
         this.searchContext = searchContext;
+        this.matchSubscriptions = matchSubscriptions;
         personListView.setItems(personList);
         personListView.setCellFactory(listView -> new PersonListViewCell());
+
+        // New matches come from listing changes, which do not change the person list, so redraw the visible cells
+        matchSubscriptions.newMatchCountProperty().addListener((observable, oldCount, newCount) ->
+                personListView.refresh());
     }
 
     /**
@@ -46,7 +55,8 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + INDEX_OFFSET, searchContext).getRoot());
+                setGraphic(new PersonCard(person, getIndex() + INDEX_OFFSET, searchContext, matchSubscriptions)
+                        .getRoot());
             }
         }
     }
@@ -41,9 +41,10 @@ public class PreferenceCard extends UiPart<Region> {
     private StackPane preferenceListPanelPlaceholder;
 
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Creates a {@code PersonCode} with the given {@code Person}, index and number of unseen new matches to display.
      */
-    public PreferenceCard(PropertyPreference propertyPreference, int displayedIndex, SearchContext searchContext) {
+    public PreferenceCard(PropertyPreference propertyPreference, int displayedIndex, SearchContext searchContext,
+            int newMatchCount) {
         super(FXML);
 
         this.propertyPreference = propertyPreference;
@@ -56,6 +57,12 @@ public class PreferenceCard extends UiPart<Region> {
             priceRange.getStyleClass().add("active");
         }
 
+        if (newMatchCount > 0) {
+            Label newMatchesLabel = new Label(newMatchCount + " NEW");
+            newMatchesLabel.getStyleClass().add("new-matches");
+            tags.getChildren().add(newMatchesLabel);
+        }
+
         propertyPreference.getTags().stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
                 .forEach(tag -> {
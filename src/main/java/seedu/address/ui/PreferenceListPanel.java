@@ -9,6 +9,7 @@ import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.search.MatchSubscriptions;
 import seedu.address.model.search.SearchContext;
 
 /**
@@ -20,6 +21,7 @@ public class PreferenceListPanel extends UiPart<Region> {
 
     private final Logger logger = LogsCenter.getLogger(PreferenceListPanel.class);
     private final SearchContext searchContext;
+    private final MatchSubscriptions matchSubscriptions;
 
     @FXML
     private ListView<PropertyPreference> preferenceListView;
@@ -27,9 +29,11 @@ public class PreferenceListPanel extends UiPart<Region> {
     /**
      * Creates a {@code PreferenceListPanel} with the given {@code ObservableList}.
      */
-    public PreferenceListPanel(ObservableList<PropertyPreference> preferenceList, SearchContext searchContext) {
+    public PreferenceListPanel(ObservableList<PropertyPreference> preferenceList, SearchContext searchContext,
+            MatchSubscriptions matchSubscriptions) {
         super(FXML);
         this.searchContext = searchContext;
+        this.matchSubscriptions = matchSubscriptions;
         preferenceListView.setItems(preferenceList);
         preferenceListView.setCellFactory(listView -> new PreferenceListViewCell());
     }
@@ -46,7 +50,8 @@ public class PreferenceListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PreferenceCard(preference, getIndex() + INDEX_OFFSET, searchContext).getRoot());
+                setGraphic(new PreferenceCard(preference, getIndex() + INDEX_OFFSET, searchContext,
+                        matchSubscriptions.getNewMatchCount(preference)).getRoot());
             }
         }
     }
@@ -3,9 +3,11 @@ package seedu.address.ui;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.SaveStatus;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -13,16 +15,31 @@ import javafx.scene.layout.Region;
 public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
+    private static final String NEW_MATCHES_FORMAT = "%d new matches";
 
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label saveStatus;
+
+    @FXML
+    private Label newMatchesStatus;
+
     /**
-     * Creates a {@code StatusBarFooter} with the given {@code Path}.
+     * Creates a {@code StatusBarFooter} with the given {@code Path} and count of unseen new matches.
      */
-    public StatusBarFooter(Path saveLocation) {
+    public StatusBarFooter(Path saveLocation, ReadOnlyIntegerProperty newMatchCount) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        newMatchesStatus.textProperty().bind(newMatchCount.asString(NEW_MATCHES_FORMAT));
+    }
+
+    /**
+     * Shows whether the changes to the address book have been saved.
+     */
+    public void setSaveStatus(SaveStatus status) {
+        saveStatus.setText(status.toString());
     }
 
 }
@@ -4,30 +4,40 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.MatchSettings;
 import seedu.address.logic.commands.AddPersonCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.DeletePersonCommand;
 import seedu.address.logic.commands.ListPersonCommand;
+import seedu.address.logic.commands.SearchPersonByNameCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.storage.BinaryAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -41,6 +51,7 @@ public class LogicManagerTest {
     public Path temporaryFolder;
 
     private Model model = new ModelManager();
+    private StorageManager storage;
     private Logic logic;
 
     @BeforeEach
@@ -48,7 +59,7 @@ public class LogicManagerTest {
         JsonAddressBookStorage addressBookStorage =
                 new JsonAddressBookStorage(temporaryFolder.resolve("matchestate.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -83,6 +94,93 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_commandsAfterFirstSave_journaledAndReplayed() throws Exception {
+        String addAmyCommand = AddPersonCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY;
+        String addBobCommand = AddPersonCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB;
+        String searchBobCommand = SearchPersonByNameCommand.COMMAND_WORD + " Bob";
+        String deleteFirstCommand = DeletePersonCommand.COMMAND_WORD + " 1";
+
+        logic.execute(addAmyCommand);
+        FileTime savedTime = Files.getLastModifiedTime(storage.getAddressBookFilePath());
+        logic.execute(addBobCommand);
+        logic.execute(ListPersonCommand.COMMAND_WORD);
+        logic.execute(searchBobCommand);
+        logic.execute(deleteFirstCommand);
+
+        // only the first command saves the whole address book, and the search is journaled for the delete
+        assertEquals(savedTime, Files.getLastModifiedTime(storage.getAddressBookFilePath()));
+        assertEquals(List.of(addBobCommand, searchBobCommand, deleteFirstCommand),
+                storage.readJournal(model.getMatchSettings()));
+
+        Model replayedModel = new ModelManager(storage.readAddressBook().get(), new UserPrefs());
+        assertEquals(3, new LogicManager(replayedModel, storage).replayJournal());
+        assertEquals(model.getAddressBook(), replayedModel.getAddressBook());
+        assertEquals(List.of(new PersonBuilder(AMY).build()), replayedModel.getAddressBook().getPersonList());
+
+        // replaying compacts the journal
+        assertEquals(List.of(), storage.readJournal(model.getMatchSettings()));
+        assertEquals(model.getAddressBook(), new ModelManager(storage.readAddressBook().get(), new UserPrefs())
+                .getAddressBook());
+    }
+
+    @Test
+    public void replayJournal_addressBookInLegacyFile_replayedAndMigrated() throws Exception {
+        String addAmyCommand = AddPersonCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY;
+        String addBobCommand = AddPersonCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB;
+        logic.execute(addAmyCommand);
+        logic.execute(addBobCommand);
+
+        // The next session moves to a binary file, which is migrated from the json file and its journal
+        Path binaryFilePath = temporaryFolder.resolve("matchestate.bin");
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(storage.getAddressBookFilePath());
+        StorageManager binaryStorage = new StorageManager(new BinaryAddressBookStorage(binaryFilePath, jsonStorage),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        Model migratedModel = new ModelManager(binaryStorage.readAddressBook().get(), new UserPrefs());
+        assertEquals(1, new LogicManager(migratedModel, binaryStorage).replayJournal());
+        assertEquals(model.getAddressBook(), migratedModel.getAddressBook());
+
+        assertEquals(binaryFilePath, binaryStorage.getSavedAddressBookFilePath());
+        assertEquals(List.of(), binaryStorage.readJournal(model.getMatchSettings()));
+        assertEquals(model.getAddressBook(),
+                new AddressBook(new BinaryAddressBookStorage(binaryFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void replayJournal_matchSettingsChanged_journalMovedAside() throws Exception {
+        String addAmyCommand = AddPersonCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY;
+        String addBobCommand = AddPersonCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB;
+        logic.execute(addAmyCommand);
+        logic.execute(addBobCommand);
+        String journalContent = Files.readString(storage.getJournalFilePath());
+
+        // The next session ranks listings differently, so the journal is kept rather than replayed or deleted
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setMatchSettings(new MatchSettings(10, MatchSettings.DEFAULT_RESULT_LIMIT_THRESHOLD));
+        Model nextModel = new ModelManager(storage.readAddressBook().get(), userPrefs);
+        LogicManager nextLogic = new LogicManager(nextModel, storage);
+        assertEquals(0, nextLogic.replayJournal());
+        assertEquals(List.of(new PersonBuilder(AMY).build()), nextModel.getAddressBook().getPersonList());
+
+        Path movedFilePath = temporaryFolder.resolve("rejected_matchestate.journal");
+        assertEquals(journalContent, Files.readString(movedFilePath));
+        assertEquals(String.format(LogicManager.MESSAGE_JOURNAL_MOVED_ASIDE, movedFilePath),
+                nextLogic.getStartupMessage().get());
+        assertEquals(List.of(), storage.readJournal(nextModel.getMatchSettings()));
+    }
+
+    @Test
+    public void compactJournal_journaledCommands_savedAndCleared() throws Exception {
+        String addAmyCommand = AddPersonCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY;
+        String addBobCommand = AddPersonCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB;
+        logic.execute(addAmyCommand);
+        logic.execute(addBobCommand);
+
+        logic.compactJournal();
+        assertEquals(List.of(), storage.readJournal(model.getMatchSettings()));
+        assertEquals(model.getAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getSortedFilteredPersonList().remove(0));
@@ -11,6 +11,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -19,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.MatchSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
@@ -28,6 +30,9 @@ import seedu.address.model.listing.Listing;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PropertyPreference;
 import seedu.address.model.price.PriceRange;
+import seedu.address.model.search.ListingDemand;
+import seedu.address.model.search.MatchResultCache;
+import seedu.address.model.search.MatchSubscriptions;
 import seedu.address.model.search.SearchContext;
 import seedu.address.model.search.SearchType;
 import seedu.address.model.tag.Tag;
@@ -94,6 +99,26 @@ public class AddPersonCommandTest {
             return searchContext;
         }
 
+        @Override
+        public MatchSubscriptions getMatchSubscriptions() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ListingDemand getListingDemand() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public MatchResultCache getMatchResultCache() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getAddressBookGeneration() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setSearch(Set<Tag> tags, PriceRange priceRange, SearchType searchType,
                               Predicate<PropertyPreference> propertyPreferencePredicate) {
@@ -143,6 +168,11 @@ public class AddPersonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public MatchSettings getMatchSettings() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Path getAddressBookFilePath() {
             throw new AssertionError("This method should not be called.");
@@ -213,6 +243,37 @@ public class AddPersonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Set<Listing> getListingsWithAllTags(Set<String> tagNames) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Listing> getListingsWithOverlappingPriceRange(PriceRange priceRange) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<PropertyPreference> getPreferencesWithOverlappingPriceRange(PriceRange priceRange) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPersonsWithPreferenceContainingAllTags(Set<String> tagNames) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPersonsWithNameContainingAny(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Listing> getListingsInArea(String postalCodePrefix, Set<String> tagNames,
+                PriceRange priceRange) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteListing(Listing target) {
             throw new AssertionError("This method should not be called.");
@@ -233,6 +294,22 @@ public class AddPersonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int updateTopSortedFilteredListingList(Predicate<Listing> predicate, Comparator<Listing> comparator,
+                int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateRankedFilteredPersonList(List<Person> rankedPersons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateRankedFilteredListingList(List<Listing> rankedListings) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableMap<String, Tag> getTagMap() {
             throw new AssertionError("This method should not be called.");
@@ -267,6 +344,11 @@ public class AddPersonCommandTest {
         public void resetAllLists() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public boolean isShowingDefaultView() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
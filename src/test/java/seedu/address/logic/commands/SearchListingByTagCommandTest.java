@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static seedu.address.testutil.TestUtil.getTag;
 
 import java.util.List;
 import java.util.Set;
@@ -47,8 +48,8 @@ public class SearchListingByTagCommandTest {
         }
 
         // Add tags
-        Tag petFriendly = new Tag("pet-friendly", List.of(), List.of());
-        Tag pool = new Tag("pool", List.of(), List.of());
+        Tag petFriendly = getTag("pet-friendly");
+        Tag pool = getTag("pool");
         model.addTags(Set.of(petFriendly.getTagName(), pool.getTagName()));
 
         // Add sample listing
@@ -0,0 +1,62 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.SearchListingByAreaCommand;
+import seedu.address.model.price.Price;
+import seedu.address.model.price.PriceRange;
+
+public class SearchListingByAreaCommandParserTest {
+
+    private final SearchListingByAreaCommandParser parser = new SearchListingByAreaCommandParser();
+
+    @Test
+    public void parse_sectorOnly_success() {
+        assertParseSuccess(parser, " pc/12", new SearchListingByAreaCommand("12", Set.of(), null));
+    }
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        SearchListingByAreaCommand expectedCommand = new SearchListingByAreaCommand("1234", Set.of("pool"),
+                new PriceRange(new Price("100"), new Price("200")));
+        assertParseSuccess(parser, " pc/1234 t/pool lbp/100 ubp/200", expectedCommand);
+    }
+
+    @Test
+    public void parse_emptyArguments_showsUsage() {
+        assertParseFailure(parser, " ", String.format(Messages.MESSAGE_ARGUMENTS_EMPTY,
+                SearchListingByAreaCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_preamblePresent_failure() {
+        assertParseFailure(parser, " pool pc/12", String.format(Messages.MESSAGE_SEARCH_LISTING_AREA_PREAMBLE_FOUND,
+                SearchListingByAreaCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_missingPostalCode_failure() {
+        assertParseFailure(parser, " t/pool", String.format(Messages.MESSAGE_POSTAL_CODE_REQUIRED,
+                SearchListingByAreaCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidPostalCodePrefix_failure() {
+        String expectedMessage = String.format(SearchListingByAreaCommandParser.MESSAGE_INVALID_POSTAL_CODE_PREFIX,
+                SearchListingByAreaCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " pc/1a", expectedMessage);
+        assertParseFailure(parser, " pc/1234567", expectedMessage);
+    }
+
+    @Test
+    public void parse_lowerBoundGreaterThanUpperBound_failure() {
+        assertParseFailure(parser, " pc/12 lbp/200 ubp/100", String.format(
+                Messages.MESSAGE_LOWER_GREATER_THAN_UPPER_FOR_PRICE, SearchListingByAreaCommand.MESSAGE_USAGE));
+    }
+}
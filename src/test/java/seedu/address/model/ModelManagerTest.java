@@ -11,12 +11,16 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.listing.Listing;
 import seedu.address.model.search.predicates.NameContainsKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.ListingBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +97,25 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getSortedFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateTopSortedFilteredListingList_moreMatchesThanLimit_showsTopMatchesOnly() {
+        Listing cheapListing = new ListingBuilder().withPostalCode("111111").withPriceRange("100", "100").build();
+        Listing expensiveListing = new ListingBuilder().withPostalCode("222222").withPriceRange("900", "900").build();
+        Listing middleListing = new ListingBuilder().withPostalCode("333333").withPriceRange("500", "500").build();
+        Listing unmatchedListing = new ListingBuilder().withPostalCode("444444").withPriceRange("50", "50").build();
+        for (Listing listing : List.of(cheapListing, expensiveListing, middleListing, unmatchedListing)) {
+            modelManager.addListing(listing);
+        }
+
+        Comparator<Listing> mostExpensiveFirst = Comparator.comparing((Listing listing) -> listing.getPriceRange()
+                .lowerBoundPrice.price).reversed();
+        int matchCount = modelManager.updateTopSortedFilteredListingList(listing -> listing != unmatchedListing,
+                mostExpensiveFirst, 2);
+
+        assertEquals(3, matchCount);
+        assertEquals(List.of(expensiveListing, middleListing), modelManager.getSortedFilteredListingList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
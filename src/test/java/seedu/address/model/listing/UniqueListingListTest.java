@@ -0,0 +1,185 @@
+package seedu.address.model.listing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.getTag;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.listing.exceptions.DuplicateListingException;
+import seedu.address.model.listing.exceptions.ListingNotFoundException;
+import seedu.address.model.price.Price;
+import seedu.address.model.price.PriceRange;
+import seedu.address.testutil.ListingBuilder;
+
+public class UniqueListingListTest {
+
+    private static final Listing UNIT_LISTING = new ListingBuilder().withPostalCode("111111")
+            .withUnitNumber("01-11").build();
+    private static final Listing HOUSE_LISTING = new ListingBuilder().withPostalCode("111111")
+            .withHouseNumber("11").build();
+    private static final Listing OTHER_LISTING = new ListingBuilder().withPostalCode("222222")
+            .withUnitNumber("01-11").build();
+
+    private final UniqueListingList uniqueListingList = new UniqueListingList();
+
+    @Test
+    public void contains_nullListing_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueListingList.contains(null));
+    }
+
+    @Test
+    public void contains_listingWithSameIdentityFieldsInList_returnsTrue() {
+        uniqueListingList.add(UNIT_LISTING);
+        Listing samePlaceDifferentPrice = new ListingBuilder().withPostalCode("111111").withUnitNumber("01-11")
+                .withPriceRange("100", "200").build();
+        assertTrue(uniqueListingList.contains(samePlaceDifferentPrice));
+    }
+
+    @Test
+    public void contains_unitAndHouseNumberAtSamePostalCode_distinct() {
+        uniqueListingList.add(UNIT_LISTING);
+        assertFalse(uniqueListingList.contains(HOUSE_LISTING));
+        uniqueListingList.add(HOUSE_LISTING);
+        assertTrue(uniqueListingList.contains(HOUSE_LISTING));
+    }
+
+    @Test
+    public void add_duplicateListing_throwsDuplicateListingException() {
+        uniqueListingList.add(UNIT_LISTING);
+        assertThrows(DuplicateListingException.class, () -> uniqueListingList.add(UNIT_LISTING));
+    }
+
+    @Test
+    public void setListing_targetListingNotInList_throwsListingNotFoundException() {
+        assertThrows(ListingNotFoundException.class, () -> uniqueListingList.setListing(UNIT_LISTING,
+                UNIT_LISTING));
+    }
+
+    @Test
+    public void setListing_editedListingHasNonUniqueIdentity_throwsDuplicateListingException() {
+        uniqueListingList.add(UNIT_LISTING);
+        uniqueListingList.add(OTHER_LISTING);
+        assertThrows(DuplicateListingException.class, () -> uniqueListingList.setListing(UNIT_LISTING,
+                OTHER_LISTING));
+    }
+
+    @Test
+    public void setListing_editedListingHasDifferentIdentity_oldIdentityReleased() {
+        uniqueListingList.add(UNIT_LISTING);
+        uniqueListingList.setListing(UNIT_LISTING, OTHER_LISTING);
+        assertFalse(uniqueListingList.contains(UNIT_LISTING));
+        assertTrue(uniqueListingList.contains(OTHER_LISTING));
+    }
+
+    @Test
+    public void remove_listingDoesNotExist_throwsListingNotFoundException() {
+        assertThrows(ListingNotFoundException.class, () -> uniqueListingList.remove(UNIT_LISTING));
+    }
+
+    @Test
+    public void remove_earlierListing_laterListingsStillFound() {
+        uniqueListingList.add(UNIT_LISTING);
+        uniqueListingList.add(HOUSE_LISTING);
+        uniqueListingList.add(OTHER_LISTING);
+        uniqueListingList.remove(UNIT_LISTING);
+
+        uniqueListingList.setListing(OTHER_LISTING, OTHER_LISTING);
+        uniqueListingList.remove(HOUSE_LISTING);
+
+        assertEquals(List.of(OTHER_LISTING), uniqueListingList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setListings_listWithDuplicateListings_throwsDuplicateListingException() {
+        List<Listing> listWithDuplicateListings = Arrays.asList(UNIT_LISTING, UNIT_LISTING);
+        assertThrows(DuplicateListingException.class, () -> uniqueListingList.setListings(
+                listWithDuplicateListings));
+    }
+
+    @Test
+    public void setListings_list_replacesOwnListWithProvidedList() {
+        uniqueListingList.add(UNIT_LISTING);
+        uniqueListingList.setListings(List.of(HOUSE_LISTING));
+        assertFalse(uniqueListingList.contains(UNIT_LISTING));
+        assertTrue(uniqueListingList.contains(HOUSE_LISTING));
+    }
+
+    @Test
+    public void getListingsWithAllTags_tagsEditedInPlace_reflectedAfterSetListing() {
+        Listing poolListing = new ListingBuilder().withTags("pool").build();
+        uniqueListingList.add(poolListing);
+        uniqueListingList.add(OTHER_LISTING);
+
+        poolListing.addTag(getTag("garden"));
+        uniqueListingList.setListing(poolListing, poolListing);
+
+        assertEquals(Set.of(poolListing), uniqueListingList.getListingsWithAllTags(Set.of("pool", "garden")));
+    }
+
+    @Test
+    public void getListingsWithAllTags_listingRemoved_notReturned() {
+        Listing poolListing = new ListingBuilder().withTags("pool").build();
+        Listing otherPoolListing = new ListingBuilder().withPostalCode("654321").withTags("pool").build();
+        uniqueListingList.setListings(List.of(poolListing, otherPoolListing));
+        uniqueListingList.remove(poolListing);
+
+        assertEquals(Set.of(otherPoolListing), uniqueListingList.getListingsWithAllTags(Set.of("POOL")));
+    }
+
+    @Test
+    public void getListingsInArea_sectorAndLongerPrefix_matchesPostalCodesWithPrefix() {
+        Listing sectorListing = new ListingBuilder().withPostalCode("123456").build();
+        Listing sameSectorListing = new ListingBuilder().withPostalCode("129999").build();
+        Listing otherSectorListing = new ListingBuilder().withPostalCode("134567").build();
+        uniqueListingList.setListings(List.of(sectorListing, sameSectorListing, otherSectorListing));
+
+        assertEquals(Set.of(sectorListing, sameSectorListing, otherSectorListing),
+                uniqueListingList.getListingsInArea("1", Set.of(), null));
+        assertEquals(Set.of(sectorListing, sameSectorListing),
+                uniqueListingList.getListingsInArea("12", Set.of(), null));
+        assertEquals(Set.of(sectorListing), uniqueListingList.getListingsInArea("1234", Set.of(), null));
+        assertEquals(Set.of(), uniqueListingList.getListingsInArea("99", Set.of(), null));
+    }
+
+    @Test
+    public void getListingsInArea_withTagsAndPriceRange_intersectsFilters() {
+        Listing cheapPoolListing = new ListingBuilder().withPostalCode("123456").withTags("pool")
+                .withPriceRange("100", "200").build();
+        Listing expensivePoolListing = new ListingBuilder().withPostalCode("123457").withTags("pool")
+                .withPriceRange("900", "1000").build();
+        Listing cheapListing = new ListingBuilder().withPostalCode("123458").withPriceRange("100", "200").build();
+        Listing otherAreaListing = new ListingBuilder().withPostalCode("654321").withTags("pool")
+                .withPriceRange("100", "200").build();
+        uniqueListingList.setListings(List.of(cheapPoolListing, expensivePoolListing, cheapListing,
+                otherAreaListing));
+
+        assertEquals(Set.of(cheapPoolListing, expensivePoolListing),
+                uniqueListingList.getListingsInArea("12", Set.of("pool"), null));
+        assertEquals(Set.of(cheapPoolListing, cheapListing), uniqueListingList.getListingsInArea("12", Set.of(),
+                new PriceRange(new Price("150"), new Price("300"))));
+        assertEquals(Set.of(cheapPoolListing), uniqueListingList.getListingsInArea("12", Set.of("pool"),
+                new PriceRange(new Price("150"), new Price("300"))));
+    }
+
+    @Test
+    public void getListingsInArea_postalCodeEditedOrListingRemoved_reflected() {
+        Listing listing = new ListingBuilder().withPostalCode("123456").build();
+        Listing otherListing = new ListingBuilder().withPostalCode("124000").build();
+        uniqueListingList.setListings(List.of(listing, otherListing));
+
+        Listing movedListing = new ListingBuilder().withPostalCode("654321").build();
+        uniqueListingList.setListing(listing, movedListing);
+        assertEquals(Set.of(otherListing), uniqueListingList.getListingsInArea("12", Set.of(), null));
+        assertEquals(Set.of(movedListing), uniqueListingList.getListingsInArea("65", Set.of(), null));
+
+        uniqueListingList.remove(otherListing);
+        assertEquals(Set.of(), uniqueListingList.getListingsInArea("12", Set.of(), null));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.listing.predicates;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TestUtil.getTag;
 
 import java.util.List;
 import java.util.Set;
@@ -19,7 +20,6 @@ import seedu.address.model.person.Phone;
 import seedu.address.model.price.Price;
 import seedu.address.model.price.PriceRange;
 import seedu.address.model.search.predicates.ListingContainsAllTagsPredicate;
-import seedu.address.model.tag.Tag;
 
 public class ListingContainsAllTagsPredicateTest {
 
@@ -35,8 +35,8 @@ public class ListingContainsAllTagsPredicateTest {
                     new PriceRange(new Price("500000"), new Price("700000")),
                     null,
                     Set.of(
-                            new Tag("Pool", List.of(), List.of()),
-                            new Tag("Pet-Friendly", List.of(), List.of())
+                            getTag("Pool"),
+                            getTag("Pet-Friendly")
                     ),
                     List.of(new Person(
                             new Name("John Doe"),
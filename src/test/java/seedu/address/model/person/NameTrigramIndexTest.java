@@ -0,0 +1,75 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.util.Ordinals;
+import seedu.address.testutil.PersonBuilder;
+
+public class NameTrigramIndexTest {
+
+    private final Person alexYeoh = new PersonBuilder().withName("Alex Yeoh").withPhone("11111111").build();
+    private final Person alexandra = new PersonBuilder().withName("Alexandra Tan").withPhone("22222222").build();
+    private final Person bernice = new PersonBuilder().withName("Bernice Yu").withPhone("33333333").build();
+
+    private final Ordinals<Person> ordinals = new Ordinals<>();
+    private final NameTrigramIndex nameIndex = new NameTrigramIndex(ordinals);
+
+    @Test
+    public void getOrdinalsWithNameContaining_substring_matchesIgnoringCase() {
+        add(alexYeoh, alexandra, bernice);
+
+        assertEquals(List.of(alexYeoh, alexandra), withNameContaining("ALEX"));
+        assertEquals(List.of(alexYeoh), withNameContaining("x yeo"));
+        assertEquals(List.of(bernice), withNameContaining("nice"));
+    }
+
+    @Test
+    public void getOrdinalsWithNameContaining_allTrigramsPresentButNotContiguous_noMatch() {
+        add(new PersonBuilder().withName("Abcd Bcde").build());
+        assertTrue(withNameContaining("abcde").isEmpty());
+    }
+
+    @Test
+    public void getOrdinalsWithNameContaining_shortKeyword_verifiedAgainstAllNames() {
+        add(alexYeoh, bernice);
+
+        assertEquals(List.of(alexYeoh), withNameContaining("ye"));
+        assertEquals(List.of(alexYeoh, bernice), withNameContaining("e"));
+    }
+
+    @Test
+    public void update_nameChanged_reindexed() {
+        add(alexYeoh);
+        Person renamed = new PersonBuilder(alexYeoh).withName("Alex Lim").build();
+        ordinals.replace(alexYeoh, renamed);
+        nameIndex.update(renamed);
+
+        assertTrue(withNameContaining("yeoh").isEmpty());
+        assertEquals(List.of(renamed), withNameContaining("lim"));
+    }
+
+    @Test
+    public void remove_person_noLongerMatched() {
+        add(alexYeoh, alexandra);
+        nameIndex.remove(alexYeoh);
+        ordinals.release(alexYeoh);
+
+        assertEquals(List.of(alexandra), withNameContaining("alex"));
+    }
+
+    private void add(Person... persons) {
+        for (Person person : persons) {
+            ordinals.assign(person);
+            nameIndex.add(person);
+        }
+    }
+
+    private List<Person> withNameContaining(String keyword) {
+        return ordinals.toElements(nameIndex.getOrdinalsWithNameContaining(keyword));
+    }
+}
@@ -4,17 +4,23 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.getTag;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -125,6 +131,38 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_earlierPerson_laterPersonsStillFound() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+
+        Person editedCarl = new PersonBuilder(CARL).withName("Carl Edited").build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        uniquePersonList.remove(BOB);
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(editedCarl);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Edited").build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_oldIdentityReleased() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -170,4 +208,47 @@ public class UniquePersonListTest {
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
     }
+
+    @Test
+    public void getPersonsWithPreferenceContainingAllTags_tagsSplitAcrossPreferences_noMatch() {
+        Person amy = new PersonBuilder().withPhone("11111111").build();
+        addPreference(amy, "pool");
+        addPreference(amy, "gym");
+        Person bob = new PersonBuilder().withPhone("22222222").build();
+        addPreference(bob, "pool", "gym");
+        uniquePersonList.add(amy);
+        uniquePersonList.add(bob);
+
+        assertEquals(Set.of(amy, bob), uniquePersonList.getPersonsWithPreferenceContainingAllTags(Set.of("pool")));
+        assertEquals(Set.of(bob), uniquePersonList.getPersonsWithPreferenceContainingAllTags(Set.of("Pool", "GYM")));
+    }
+
+    @Test
+    public void getPersonsWithPreferenceContainingAllTags_preferenceChangedThroughSetPerson_reindexed() {
+        Person amy = new PersonBuilder().withPhone("11111111").build();
+        PropertyPreference preference = addPreference(amy, "pool");
+        uniquePersonList.add(amy);
+
+        preference.addTag(getTag("gym"));
+        Person editedAmy = new PersonBuilder(amy).withName("Amy Choo").build();
+        editedAmy.addPropertyPreference(preference);
+        preference.setPerson(editedAmy);
+        uniquePersonList.setPerson(amy, editedAmy);
+
+        assertEquals(Set.of(editedAmy),
+                uniquePersonList.getPersonsWithPreferenceContainingAllTags(Set.of("pool", "gym")));
+
+        uniquePersonList.remove(editedAmy);
+        assertTrue(uniquePersonList.getPersonsWithPreferenceContainingAllTags(Set.of("pool")).isEmpty());
+    }
+
+    private static PropertyPreference addPreference(Person person, String... tagNames) {
+        Set<Tag> tags = new HashSet<>();
+        for (String tagName : tagNames) {
+            tags.add(getTag(tagName));
+        }
+        PropertyPreference preference = new PropertyPreference(new PriceRange(), tags, person);
+        person.addPropertyPreference(preference);
+        return preference;
+    }
 }
@@ -2,6 +2,7 @@ package seedu.address.model.person.predicates;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TestUtil.getTag;
 
 import java.util.List;
 import java.util.Set;
@@ -16,7 +17,6 @@ import seedu.address.model.person.PropertyPreference;
 import seedu.address.model.price.Price;
 import seedu.address.model.price.PriceRange;
 import seedu.address.model.search.predicates.PersonPropertyPreferencesContainAllTagsPredicate;
-import seedu.address.model.tag.Tag;
 
 public class PersonPropertyPreferencesContainAllTagsPredicateTest {
 
@@ -34,7 +34,7 @@ public class PersonPropertyPreferencesContainAllTagsPredicateTest {
             new Email("john@example.com"),
             List.of(new PropertyPreference(
                     new PriceRange(new Price("500000"), new Price("700000")),
-                    Set.of(new Tag("Pool", List.of(), List.of()), new Tag("Pet-Friendly", List.of(), List.of())),
+                    Set.of(getTag("Pool"), getTag("Pet-Friendly")),
                     dummyPerson
             )),
             List.of()
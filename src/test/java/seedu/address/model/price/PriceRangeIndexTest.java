@@ -0,0 +1,105 @@
+package seedu.address.model.price;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class PriceRangeIndexTest {
+
+    private static final PriceRange UNBOUNDED = new PriceRange();
+    private static final PriceRange UP_TO_100 = new PriceRange(new Price("100"), true);
+    private static final PriceRange FROM_200 = new PriceRange(new Price("200"), false);
+    private static final PriceRange BETWEEN_100_AND_200 = new PriceRange(new Price("100"), new Price("200"));
+    private static final PriceRange BETWEEN_300_AND_400 = new PriceRange(new Price("300"), new Price("400"));
+
+    private final PriceRangeIndex<String> index = new PriceRangeIndex<>();
+
+    @Test
+    public void getOverlapping_openBounds_matchesDoPriceRangeOverlap() {
+        index.add("unbounded", UNBOUNDED);
+        index.add("upTo100", UP_TO_100);
+        index.add("from200", FROM_200);
+        index.add("100To200", BETWEEN_100_AND_200);
+
+        assertEquals(Set.of("unbounded", "upTo100", "100To200"), new HashSet<>(index.getOverlapping(UP_TO_100)));
+        assertEquals(Set.of("unbounded", "from200"), new HashSet<>(index.getOverlapping(BETWEEN_300_AND_400)));
+        assertEquals(4, index.getOverlapping(UNBOUNDED).size());
+    }
+
+    @Test
+    public void getOverlapping_touchingBounds_overlap() {
+        index.add("100To200", BETWEEN_100_AND_200);
+        assertEquals(List.of("100To200"), index.getOverlapping(FROM_200));
+        assertEquals(List.of("100To200"), index.getOverlapping(UP_TO_100));
+    }
+
+    @Test
+    public void remove_element_noLongerReturned() {
+        index.add("upTo100", UP_TO_100);
+        index.add("100To200", BETWEEN_100_AND_200);
+        index.remove("upTo100");
+
+        assertEquals(List.of("100To200"), index.getOverlapping(UNBOUNDED));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void update_newPriceRange_reindexed() {
+        index.add("listing", UP_TO_100);
+        index.update("listing", BETWEEN_300_AND_400);
+
+        assertTrue(index.getOverlapping(UP_TO_100).isEmpty());
+        assertEquals(List.of("listing"), index.getOverlapping(FROM_200));
+    }
+
+    @Test
+    public void getOverlapping_randomRanges_matchesFullScan() {
+        Random random = new Random(2103);
+        List<String> elements = new ArrayList<>();
+        List<PriceRange> ranges = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            PriceRange range = randomPriceRange(random);
+            elements.add("range" + i);
+            ranges.add(range);
+            index.add(elements.get(i), range);
+        }
+
+        // Elements are compared by reference, so remove the same instances that were added
+        for (int i = 0; i < 500; i += 3) {
+            index.remove(elements.get(i));
+        }
+
+        for (int query = 0; query < 100; query++) {
+            PriceRange queryRange = randomPriceRange(random);
+            Set<String> expected = new HashSet<>();
+            for (int i = 0; i < ranges.size(); i++) {
+                if (i % 3 != 0 && queryRange.doPriceRangeOverlap(ranges.get(i))) {
+                    expected.add(elements.get(i));
+                }
+            }
+            assertEquals(expected, new HashSet<>(index.getOverlapping(queryRange)));
+        }
+    }
+
+    private static PriceRange randomPriceRange(Random random) {
+        int lower = random.nextInt(1000);
+        int upper = lower + random.nextInt(200);
+        switch (random.nextInt(5)) {
+        case 0:
+            return new PriceRange();
+        case 1:
+            return new PriceRange(new Price(String.valueOf(upper)), true);
+        case 2:
+            return new PriceRange(new Price(String.valueOf(lower)), false);
+        default:
+            return new PriceRange(new Price(String.valueOf(lower)), new Price(String.valueOf(upper)));
+        }
+    }
+}
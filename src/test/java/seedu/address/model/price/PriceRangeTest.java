@@ -0,0 +1,64 @@
+package seedu.address.model.price;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class PriceRangeTest {
+
+    private static final PriceRange UNBOUNDED = new PriceRange();
+    private static final PriceRange UP_TO_100 = new PriceRange(new Price("100"), true);
+    private static final PriceRange FROM_100 = new PriceRange(new Price("100"), false);
+    private static final PriceRange BETWEEN_50_AND_150 = new PriceRange(new Price("50"), new Price("150"));
+    private static final PriceRange BETWEEN_500_AND_600 = new PriceRange(new Price("500"), new Price("600"));
+
+    @Test
+    public void doPriceRangeOverlap_overlappingRanges_returnsTrue() {
+        assertTrue(BETWEEN_50_AND_150.doPriceRangeOverlap(UP_TO_100));
+        assertTrue(UP_TO_100.doPriceRangeOverlap(FROM_100));
+        assertTrue(UNBOUNDED.doPriceRangeOverlap(BETWEEN_500_AND_600));
+        assertTrue(BETWEEN_500_AND_600.doPriceRangeOverlap(UNBOUNDED));
+        assertTrue(FROM_100.doPriceRangeOverlap(BETWEEN_500_AND_600));
+    }
+
+    @Test
+    public void doPriceRangeOverlap_disjointRanges_returnsFalse() {
+        assertFalse(BETWEEN_50_AND_150.doPriceRangeOverlap(BETWEEN_500_AND_600));
+        assertFalse(BETWEEN_500_AND_600.doPriceRangeOverlap(UP_TO_100));
+        assertFalse(UP_TO_100.doPriceRangeOverlap(BETWEEN_500_AND_600));
+    }
+
+    @Test
+    public void doPriceRangeOverlap_centBoundaries() {
+        PriceRange upTo99Point99 = new PriceRange(new Price("99.99"), true);
+        PriceRange from100 = new PriceRange(new Price("100.00"), false);
+        PriceRange maxPrice = new PriceRange(new Price("9999999999999999.99"), false);
+
+        assertFalse(upTo99Point99.doPriceRangeOverlap(from100));
+        assertTrue(new PriceRange(new Price("99.99"), new Price("100")).doPriceRangeOverlap(from100));
+        assertTrue(maxPrice.doPriceRangeOverlap(FROM_100));
+        assertFalse(maxPrice.doPriceRangeOverlap(UP_TO_100));
+    }
+
+    @Test
+    public void isPriceWithinRange() {
+        assertTrue(UNBOUNDED.isPriceWithinRange(new Price("0")));
+        assertTrue(UP_TO_100.isPriceWithinRange(new Price("100.00")));
+        assertFalse(UP_TO_100.isPriceWithinRange(new Price("100.01")));
+        assertTrue(FROM_100.isPriceWithinRange(new Price("9999999999999999.99")));
+        assertFalse(BETWEEN_50_AND_150.isPriceWithinRange(new Price("49.99")));
+    }
+
+    @Test
+    public void cents_sentinelsForMissingBounds() {
+        assertEquals(PriceRange.NO_LOWER_BOUND, UP_TO_100.getLowerBoundCents());
+        assertEquals(10000, UP_TO_100.getUpperBoundCents());
+        assertEquals(10000, FROM_100.getLowerBoundCents());
+        assertEquals(PriceRange.NO_UPPER_BOUND, FROM_100.getUpperBoundCents());
+        assertEquals(999999999999999999L, new Price("9999999999999999.99").getCents());
+        assertEquals(new Price("100"), new Price("100.00"));
+        assertEquals(FROM_100, new PriceRange(new Price("100.0"), false));
+    }
+}
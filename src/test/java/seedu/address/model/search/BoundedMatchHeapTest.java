@@ -0,0 +1,63 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class BoundedMatchHeapTest {
+
+    @Test
+    public void offer_fewerThanCapacity_keepsAllInRankedOrder() {
+        BoundedMatchHeap<Integer> heap = new BoundedMatchHeap<>(5, Comparator.reverseOrder());
+        heap.offer(3);
+        heap.offer(7);
+        heap.offer(5);
+
+        assertEquals(List.of(7, 5, 3), heap.toSortedList());
+        assertEquals(3, heap.getOfferedCount());
+    }
+
+    @Test
+    public void offer_moreThanCapacity_keepsBestOnly() {
+        BoundedMatchHeap<Integer> heap = new BoundedMatchHeap<>(3, Comparator.reverseOrder());
+        for (int i : List.of(4, 9, 1, 7, 3, 8)) {
+            heap.offer(i);
+        }
+
+        assertEquals(List.of(9, 8, 7), heap.toSortedList());
+        assertEquals(6, heap.getOfferedCount());
+    }
+
+    @Test
+    public void offer_equallyRanked_keepsEarliestOffered() {
+        // Ranks strings by length only, so equally long strings tie
+        BoundedMatchHeap<String> heap = new BoundedMatchHeap<>(2, Comparator.comparingInt(String::length));
+        for (String s : List.of("bb", "aa", "c", "dd")) {
+            heap.offer(s);
+        }
+
+        assertEquals(List.of("c", "bb"), heap.toSortedList());
+    }
+
+    @Test
+    public void toSortedList_randomInput_matchesPrefixOfStableSort() {
+        Random random = new Random(2103);
+        Comparator<Integer> byTens = Comparator.comparingInt(i -> i / 10);
+        List<Integer> offered = new ArrayList<>();
+        BoundedMatchHeap<Integer> heap = new BoundedMatchHeap<>(20, byTens);
+        for (int i = 0; i < 500; i++) {
+            int value = random.nextInt(1000);
+            offered.add(value);
+            heap.offer(value);
+        }
+
+        List<Integer> expected = new ArrayList<>(offered);
+        expected.sort(byTens);
+        assertEquals(expected.subList(0, 20), heap.toSortedList());
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TestUtil.getTag;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.price.Price;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.search.comparators.ListingPreferenceScoreComparator;
+import seedu.address.model.search.predicates.ListingMatchesPreferencePredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.ListingBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class BulkMatcherTest {
+
+    private static final String[] TAG_NAMES = {"pool", "garden", "gym", "pet-friendly", "seaview"};
+
+    private final Person owner = new PersonBuilder().withName("Owner").withPhone("91111111").build();
+    private final Person buyer = new PersonBuilder().withName("Buyer").withPhone("92222222").build();
+
+    @Test
+    public void match_excludesUnavailableAndOwnedListings() {
+        Listing ownedListing = new ListingBuilder().withPostalCode("111111").withTags("pool").withOwners(owner)
+                .build();
+        Listing unavailableListing = new ListingBuilder().withPostalCode("222222").withTags("pool")
+                .withAvailability(false).build();
+        Listing availableListing = new ListingBuilder().withPostalCode("333333").withTags("pool").build();
+        PropertyPreference preference = createPreference(owner, null, null, "pool");
+
+        List<PreferenceMatches> matches = new BulkMatcher(List.of(ownedListing, unavailableListing,
+                availableListing), 3).match(List.of(preference));
+
+        assertEquals(List.of(availableListing), matches.get(0).getListings());
+        assertEquals(List.of(2), matches.get(0).getScores());
+    }
+
+    @Test
+    public void match_priceOnlyMatchesRankedAfterTagMatches() {
+        Listing priceOnlyListing = new ListingBuilder().withPostalCode("111111").withPriceRange("100", "200")
+                .build();
+        Listing tagOnlyListing = new ListingBuilder().withPostalCode("222222").withTags("pool")
+                .withPriceRange("900", "1000").build();
+        Listing tagAndPriceListing = new ListingBuilder().withPostalCode("333333").withTags("pool")
+                .withPriceRange("100", "200").build();
+        Listing noMatchListing = new ListingBuilder().withPostalCode("444444").withPriceRange("900", "1000")
+                .build();
+        PropertyPreference preference = createPreference(buyer, "150", "300", "pool");
+
+        List<PreferenceMatches> matches = new BulkMatcher(List.of(priceOnlyListing, tagOnlyListing,
+                tagAndPriceListing, noMatchListing), 5).match(List.of(preference));
+
+        // Equal scores keep address book order
+        assertEquals(List.of(tagAndPriceListing, priceOnlyListing, tagOnlyListing), matches.get(0).getListings());
+        assertEquals(List.of(2, 1, 1), matches.get(0).getScores());
+    }
+
+    @Test
+    public void match_randomBook_sameAsMatchingEachPreference() {
+        Random random = new Random(2103);
+        List<Listing> listings = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            ListingBuilder builder = new ListingBuilder().withPostalCode(String.format("%06d", i))
+                    .withTags(randomTagNames(random)).withAvailability(random.nextInt(10) > 0);
+            int lower = random.nextInt(1000);
+            builder.withPriceRange(String.valueOf(lower), String.valueOf(lower + random.nextInt(200)));
+            if (random.nextInt(10) == 0) {
+                builder.withOwners(buyer);
+            }
+            listings.add(builder.build());
+        }
+
+        List<PropertyPreference> preferences = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            int lower = random.nextInt(1000);
+            preferences.add(createPreference(buyer, String.valueOf(lower), String.valueOf(lower + random.nextInt(50)),
+                    randomTagNames(random)));
+        }
+
+        int matchesPerPreference = 5;
+        List<PreferenceMatches> allMatches = new BulkMatcher(listings, matchesPerPreference).match(preferences);
+
+        assertEquals(preferences.size(), allMatches.size());
+        for (int i = 0; i < preferences.size(); i++) {
+            PropertyPreference preference = preferences.get(i);
+            ListingMatchesPreferencePredicate predicate = new ListingMatchesPreferencePredicate(preference);
+            ListingPreferenceScoreComparator comparator = new ListingPreferenceScoreComparator(preference);
+            List<Listing> expected = new ArrayList<>(listings.stream().filter(predicate).toList());
+            expected.sort(comparator);
+
+            PreferenceMatches matches = allMatches.get(i);
+            assertEquals(expected.subList(0, Math.min(matchesPerPreference, expected.size())),
+                    matches.getListings());
+            for (int j = 0; j < matches.getListings().size(); j++) {
+                assertEquals(comparator.getScore(matches.getListings().get(j)), matches.getScores().get(j).intValue());
+            }
+        }
+    }
+
+    @Test
+    public void match_noListings_returnsEmptyMatches() {
+        List<PreferenceMatches> matches = new BulkMatcher(List.of(), 3)
+                .match(List.of(createPreference(buyer, null, null, "pool")));
+        assertTrue(matches.get(0).isEmpty());
+    }
+
+    private static String[] randomTagNames(Random random) {
+        Set<String> tagNames = new HashSet<>();
+        int tagCount = random.nextInt(3);
+        for (int i = 0; i < tagCount; i++) {
+            tagNames.add(TAG_NAMES[random.nextInt(TAG_NAMES.length)]);
+        }
+        return tagNames.toArray(new String[0]);
+    }
+
+    private static PropertyPreference createPreference(Person person, String lowerBound, String upperBound,
+            String... tagNames) {
+        PriceRange priceRange;
+        if (lowerBound == null && upperBound == null) {
+            priceRange = new PriceRange();
+        } else {
+            priceRange = new PriceRange(new Price(lowerBound), new Price(upperBound));
+        }
+
+        Set<Tag> tags = new HashSet<>();
+        for (String tagName : tagNames) {
+            tags.add(getTag(tagName));
+        }
+        return new PropertyPreference(priceRange, tags, person);
+    }
+}
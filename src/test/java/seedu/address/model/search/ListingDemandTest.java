@@ -0,0 +1,129 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TestUtil.getTag;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RankDemandCommand;
+import seedu.address.model.ModelManager;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.price.Price;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.search.predicates.ListingMatchesPreferencePredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.ListingBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class ListingDemandTest {
+
+    private static final Tag POOL = getTag("pool");
+    private static final Tag GYM = getTag("gym");
+
+    private final ModelManager model = new ModelManager();
+    private final ListingDemand listingDemand = model.getListingDemand();
+    private final Person buyer = new PersonBuilder().withName("Buyer").withPhone("91234567").build();
+    private final Person otherBuyer = new PersonBuilder().withName("Other Buyer").withPhone("98765432").build();
+    private final PropertyPreference cheapPreference = new PropertyPreference(
+            new PriceRange(new Price("100"), new Price("200")), Set.of(), buyer);
+    private final PropertyPreference poolPreference = new PropertyPreference(
+            new PriceRange(new Price("5000"), new Price("6000")), Set.of(POOL), otherBuyer);
+    private final Listing cheapListing = new ListingBuilder().withPostalCode("111111")
+            .withPriceRange("150", "250").build();
+    private final Listing poolListing = new ListingBuilder().withPostalCode("222222")
+            .withPriceRange("900", "1000").withTags("pool").build();
+    private final Listing unwantedListing = new ListingBuilder().withPostalCode("333333")
+            .withPriceRange("900", "1000").build();
+
+    public ListingDemandTest() {
+        buyer.addPropertyPreference(cheapPreference);
+        otherBuyer.addPropertyPreference(poolPreference);
+        model.addPerson(buyer);
+        model.addPerson(otherBuyer);
+        model.addListing(unwantedListing);
+        model.addListing(poolListing);
+        model.addListing(cheapListing);
+    }
+
+    @Test
+    public void getDemand_countsMatchingPreferences() {
+        assertEquals(1, listingDemand.getDemand(cheapListing));
+        assertEquals(1, listingDemand.getDemand(poolListing));
+        assertEquals(0, listingDemand.getDemand(unwantedListing));
+        assertDemandMatchesPredicate();
+    }
+
+    @Test
+    public void updateListing_listingChanges_demandRecounted() {
+        listingDemand.getDemand(cheapListing);
+
+        poolListing.markUnavailable();
+        model.setListing(poolListing, poolListing);
+        assertEquals(0, listingDemand.getDemand(poolListing));
+
+        Listing newListing = new ListingBuilder().withPostalCode("444444").withPriceRange("5500", "7000").build();
+        model.addListing(newListing);
+        assertEquals(1, listingDemand.getDemand(newListing));
+
+        cheapListing.addOwner(buyer);
+        model.setListing(cheapListing, cheapListing);
+        assertEquals(0, listingDemand.getDemand(cheapListing));
+        assertDemandMatchesPredicate();
+    }
+
+    @Test
+    public void updatePerson_preferenceChanges_demandRecounted() {
+        listingDemand.getDemand(cheapListing);
+
+        cheapPreference.addTag(POOL);
+        model.setPerson(buyer, buyer);
+        assertEquals(2, listingDemand.getDemand(poolListing));
+
+        PropertyPreference gymPreference = new PropertyPreference(
+                new PriceRange(new Price("900"), new Price("950")), Set.of(GYM), buyer);
+        buyer.addPropertyPreference(gymPreference);
+        model.setPerson(buyer, buyer);
+        assertEquals(1, listingDemand.getDemand(unwantedListing));
+        assertEquals(3, listingDemand.getDemand(poolListing));
+
+        buyer.removePropertyPreference(cheapPreference);
+        model.setPerson(buyer, buyer);
+        assertEquals(0, listingDemand.getDemand(cheapListing));
+
+        model.deletePerson(otherBuyer);
+        assertEquals(1, listingDemand.getDemand(poolListing));
+        assertDemandMatchesPredicate();
+    }
+
+    @Test
+    public void execute_rankDemand_mostWantedFirst() {
+        cheapPreference.addTag(POOL);
+        model.setPerson(buyer, buyer);
+
+        new RankDemandCommand().execute(model);
+        assertEquals(List.of(poolListing, cheapListing, unwantedListing), model.getSortedFilteredListingList());
+    }
+
+    /**
+     * Asserts that the demand of every listing equals the number of preferences that match it by
+     * {@code ListingMatchesPreferencePredicate}.
+     */
+    private void assertDemandMatchesPredicate() {
+        for (Listing listing : model.getAddressBook().getListingList()) {
+            int expectedDemand = 0;
+            for (Person person : model.getAddressBook().getPersonList()) {
+                for (PropertyPreference preference : person.getPropertyPreferences()) {
+                    if (new ListingMatchesPreferencePredicate(preference).test(listing)) {
+                        expectedDemand++;
+                    }
+                }
+            }
+            assertEquals(expectedDemand, listingDemand.getDemand(listing));
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TestUtil.getTag;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.MatchListingCommand;
+import seedu.address.logic.commands.MatchPreferenceCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.price.Price;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.search.MatchExplanation.MatchStage;
+import seedu.address.model.search.predicates.ListingMatchesPreferencePredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.ListingBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class MatchExplanationTest {
+
+    private static final Tag POOL = getTag("pool");
+
+    private final ModelManager model = new ModelManager();
+    private final Person buyer = new PersonBuilder().withName("Buyer").withPhone("91234567").build();
+    private final PropertyPreference preference = new PropertyPreference(
+            new PriceRange(new Price("100"), new Price("200")), Set.of(POOL), buyer);
+    private final Listing priceListing = new ListingBuilder().withPostalCode("111111")
+            .withPriceRange("150", "250").build();
+    private final Listing poolListing = new ListingBuilder().withPostalCode("222222")
+            .withPriceRange("900", "1000").withTags("pool").build();
+    private final Listing unwantedListing = new ListingBuilder().withPostalCode("333333")
+            .withPriceRange("900", "1000").build();
+    private final Listing unavailableListing = new ListingBuilder().withPostalCode("444444")
+            .withPriceRange("150", "250").build();
+    private final Listing ownedListing = new ListingBuilder().withPostalCode("555555")
+            .withPriceRange("150", "250").build();
+
+    public MatchExplanationTest() {
+        buyer.addPropertyPreference(preference);
+        unavailableListing.markUnavailable();
+        ownedListing.addOwner(buyer);
+        model.addPerson(buyer);
+        model.addListing(unwantedListing);
+        model.addListing(poolListing);
+        model.addListing(priceListing);
+        model.addListing(unavailableListing);
+        model.addListing(ownedListing);
+    }
+
+    @Test
+    public void classify_listing_agreesWithPredicate() {
+        assertEquals(MatchStage.PRICE_MATCH, MatchExplanation.classify(priceListing, preference));
+        assertEquals(MatchStage.TAG_MATCH, MatchExplanation.classify(poolListing, preference));
+        assertEquals(MatchStage.NO_MATCH, MatchExplanation.classify(unwantedListing, preference));
+        assertEquals(MatchStage.UNAVAILABLE, MatchExplanation.classify(unavailableListing, preference));
+        assertEquals(MatchStage.OWNED, MatchExplanation.classify(ownedListing, preference));
+
+        ListingMatchesPreferencePredicate predicate = new ListingMatchesPreferencePredicate(preference);
+        for (Listing listing : model.getAddressBook().getListingList()) {
+            assertEquals(predicate.test(listing), MatchExplanation.classify(listing, preference).isMatch());
+        }
+    }
+
+    @Test
+    public void classify_person_bestPreferenceStage() {
+        assertEquals(MatchStage.TAG_MATCH, MatchExplanation.classify(buyer, poolListing));
+        assertEquals(MatchStage.OWNED, MatchExplanation.classify(buyer, ownedListing));
+
+        buyer.addPropertyPreference(new PropertyPreference(
+                new PriceRange(new Price("950"), new Price("980")), Set.of(), buyer));
+        assertEquals(MatchStage.PRICE_MATCH, MatchExplanation.classify(buyer, poolListing));
+    }
+
+    @Test
+    public void scores_sortedStatistics() {
+        MatchExplanation explanation = new MatchExplanation();
+        explanation.setScores(new double[] {3, 1, 2, 6});
+
+        assertEquals(1, explanation.getMinScore());
+        assertEquals(3, explanation.getMedianScore());
+        assertEquals(6, explanation.getMaxScore());
+        assertEquals(3, explanation.getMeanScore());
+    }
+
+    @Test
+    public void execute_matchPreferenceExplain_sameResultsAsWithout() throws CommandException {
+        new MatchPreferenceCommand(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON).execute(model);
+        List<Listing> expectedListings = List.copyOf(model.getSortedFilteredListingList());
+
+        ModelManager explainModel = new ModelManager(model.getAddressBook(), model.getUserPrefs());
+        String feedback = new MatchPreferenceCommand(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON, true)
+                .execute(explainModel).getFeedbackToUser();
+
+        assertEquals(List.of(priceListing, poolListing), expectedListings);
+        assertEquals(expectedListings, explainModel.getSortedFilteredListingList());
+        assertTrue(feedback.contains("scanned 5 listings; 1 unavailable, 1 excluded by ownership, "
+                + "1 matched on price, 1 matched on tags only, 1 did not match."));
+    }
+
+    @Test
+    public void execute_matchListingExplain_sameResultsAsWithout() throws CommandException {
+        Person otherBuyer = new PersonBuilder().withName("Other Buyer").withPhone("98765432").build();
+        model.addPerson(otherBuyer);
+        Index poolListingIndex = Index.fromZeroBased(model.getSortedFilteredListingList().indexOf(poolListing));
+
+        new MatchListingCommand(poolListingIndex).execute(model);
+        List<Person> expectedPersons = List.copyOf(model.getSortedFilteredPersonList());
+
+        ModelManager explainModel = new ModelManager(model.getAddressBook(), model.getUserPrefs());
+        String feedback = new MatchListingCommand(poolListingIndex, true).execute(explainModel).getFeedbackToUser();
+
+        assertEquals(List.of(buyer), expectedPersons);
+        assertEquals(expectedPersons, explainModel.getSortedFilteredPersonList());
+        assertTrue(feedback.contains("scanned 2 persons;"));
+    }
+
+    @Test
+    public void parseCommand_explainKeyword_parsed() throws ParseException {
+        AddressBookParser parser = new AddressBookParser();
+        assertEquals(new MatchPreferenceCommand(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON, true),
+                parser.parseCommand("matchPreference 1 1 explain"));
+        assertEquals(new MatchPreferenceCommand(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON),
+                parser.parseCommand("matchPreference 1 1"));
+        assertEquals(new MatchListingCommand(INDEX_FIRST_PERSON, true), parser.parseCommand("matchListing 1 explain"));
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TestUtil.getTag;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.MatchSettings;
+import seedu.address.logic.commands.MatchPreferenceCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.price.Price;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.ListingBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class MatchResultCacheTest {
+
+    private static final Tag POOL = getTag("pool");
+
+    private final Person buyer = new PersonBuilder().build();
+    private final PropertyPreference poolPreference = new PropertyPreference(
+            new PriceRange(new Price("100"), new Price("200")), Set.of(POOL), buyer);
+    private final PropertyPreference otherPreference = new PropertyPreference(
+            new PriceRange(new Price("100"), new Price("200")), Set.of(POOL), buyer);
+    private final List<Listing> rankedListings = List.of(new ListingBuilder().build());
+
+    @Test
+    public void get_sameGenerationAndSettings_returnsResult() {
+        MatchResultCache cache = new MatchResultCache();
+        cache.put(poolPreference, 3, new MatchSettings(), rankedListings, 5);
+
+        MatchResultCache.MatchResult result = cache.get(poolPreference, 3, new MatchSettings()).get();
+        assertEquals(rankedListings, result.getRankedListings());
+        assertEquals(5, result.getMatchCount());
+
+        // preferences are compared by reference
+        assertTrue(cache.get(otherPreference, 3, new MatchSettings()).isEmpty());
+    }
+
+    @Test
+    public void get_staleResult_dropsResult() {
+        MatchResultCache cache = new MatchResultCache();
+        cache.put(poolPreference, 3, new MatchSettings(), rankedListings, 5);
+        cache.put(otherPreference, 3, new MatchSettings(), rankedListings, 5);
+
+        assertTrue(cache.get(poolPreference, 4, new MatchSettings()).isEmpty());
+        assertTrue(cache.get(otherPreference, 3, new MatchSettings(1, 0)).isEmpty());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void put_full_evictsLeastRecentlyUsed() {
+        MatchResultCache cache = new MatchResultCache(2);
+        PropertyPreference thirdPreference = new PropertyPreference(
+                new PriceRange(new Price("100"), new Price("200")), Set.of(POOL), buyer);
+        cache.put(poolPreference, 0, new MatchSettings(), rankedListings, 1);
+        cache.put(otherPreference, 0, new MatchSettings(), rankedListings, 1);
+        cache.get(poolPreference, 0, new MatchSettings());
+        cache.put(thirdPreference, 0, new MatchSettings(), rankedListings, 1);
+
+        assertFalse(cache.get(poolPreference, 0, new MatchSettings()).isEmpty());
+        assertTrue(cache.get(otherPreference, 0, new MatchSettings()).isEmpty());
+        assertFalse(cache.get(thirdPreference, 0, new MatchSettings()).isEmpty());
+    }
+
+    @Test
+    public void matchPreference_listingChanges_resultInvalidated() throws CommandException {
+        ModelManager model = new ModelManager();
+        buyer.addPropertyPreference(poolPreference);
+        model.addPerson(buyer);
+        Listing listing = new ListingBuilder().withPriceRange("150", "250").build();
+        model.addListing(listing);
+
+        MatchPreferenceCommand command = new MatchPreferenceCommand(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON);
+        command.execute(model);
+        long generation = model.getAddressBookGeneration();
+        assertEquals(List.of(listing), model.getSortedFilteredListingList());
+        assertEquals(1, model.getMatchResultCache().size());
+
+        // a repeated match is served from the cache
+        command.execute(model);
+        assertEquals(List.of(listing), model.getSortedFilteredListingList());
+
+        listing.markUnavailable();
+        model.setListing(listing, listing);
+        assertNotEquals(generation, model.getAddressBookGeneration());
+
+        command.execute(model);
+        assertEquals(List.of(), model.getSortedFilteredListingList());
+    }
+}
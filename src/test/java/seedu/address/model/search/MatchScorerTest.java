@@ -0,0 +1,79 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TestUtil.getTag;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.ScoringWeights;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.price.Price;
+import seedu.address.model.price.PriceRange;
+import seedu.address.testutil.ListingBuilder;
+
+public class MatchScorerTest {
+
+    private static final double DELTA = 1e-9;
+
+    private final PropertyPreference preference = new PropertyPreference(
+            new PriceRange(new Price("100"), new Price("200")),
+            Set.of(getTag("pool"),
+                    getTag("garden")),
+            ALICE);
+
+    @Test
+    public void score_unweighted_countsPriceOverlapAndSharedTags() {
+        MatchScorer scorer = new MatchScorer(ScoringWeights.UNWEIGHTED, Map.of());
+
+        assertEquals(3, scorer.score(preference, createListing("150", "250", true, "pool", "garden")), DELTA);
+        assertEquals(1, scorer.score(preference, createListing("500", "600", true, "pool", "gym")), DELTA);
+        assertEquals(0, scorer.score(preference, createListing("500", "600", false, "gym")), DELTA);
+    }
+
+    @Test
+    public void score_tagWeights_weighsSharedTags() {
+        // no listing can have a tag that is not in the tag map
+        MatchScorer scorer = new MatchScorer(new ScoringWeights(1, 0, 0.5, Map.of("Pool", 3.0, "Sauna", 5.0), 0),
+                Map.of("POOL", getTag("pool")));
+
+        assertEquals(4, scorer.score(preference, createListing("150", "250", true, "pool")), DELTA);
+        assertEquals(1.5, scorer.score(preference, createListing("150", "250", true, "garden")), DELTA);
+        assertEquals(3.5, scorer.score(preference, createListing("500", "600", true, "pool", "garden")), DELTA);
+    }
+
+    @Test
+    public void score_priceDistance_closerRangesScoreHigher() {
+        MatchScorer scorer = new MatchScorer(new ScoringWeights(1, 1, 1, Map.of(), 0), Map.of());
+
+        // overlapping ranges are as close as possible
+        assertEquals(2, scorer.score(preference, createListing("200", "300", true)), DELTA);
+        // 100 above a budget of up to 200
+        assertEquals(1 / 1.5, scorer.score(preference, createListing("300", "400", true)), DELTA);
+        // 50 below a budget of at least 100
+        assertEquals(1 / 1.5, scorer.score(preference, createListing("10", "50", true)), DELTA);
+
+        double nearScore = scorer.score(preference, createListing("210", "400", true));
+        double farScore = scorer.score(preference, createListing("2000", "4000", true));
+        assertTrue(nearScore > farScore);
+        assertTrue(farScore > 0);
+    }
+
+    @Test
+    public void score_unavailableListing_penalised() {
+        MatchScorer scorer = new MatchScorer(new ScoringWeights(1, 0, 1, Map.of(), 2.5), Map.of());
+
+        assertEquals(-0.5, scorer.score(preference, createListing("150", "250", false, "pool")), DELTA);
+    }
+
+    private static Listing createListing(String lowerBoundPrice, String upperBoundPrice, boolean isAvailable,
+            String... tagNames) {
+        return new ListingBuilder().withPriceRange(lowerBoundPrice, upperBoundPrice).withAvailability(isAvailable)
+                .withTags(tagNames).build();
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TestUtil.getTag;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ModelManager;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.price.Price;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.ListingBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class MatchSubscriptionsTest {
+
+    private static final Tag POOL = getTag("pool");
+
+    private final ModelManager model = new ModelManager();
+    private final MatchSubscriptions matchSubscriptions = model.getMatchSubscriptions();
+    private final Person buyer = new PersonBuilder().build();
+    private final PropertyPreference poolPreference = new PropertyPreference(
+            new PriceRange(new Price("100"), new Price("200")), Set.of(POOL), buyer);
+
+    public MatchSubscriptionsTest() {
+        buyer.addPropertyPreference(poolPreference);
+        model.addPerson(buyer);
+    }
+
+    @Test
+    public void addListing_matchingListing_newMatch() {
+        Listing listing = new ListingBuilder().withPriceRange("150", "250").build();
+        model.addListing(listing);
+
+        assertEquals(Set.of(listing), matchSubscriptions.getNewMatches(poolPreference));
+        assertEquals(1, matchSubscriptions.newMatchCountProperty().get());
+    }
+
+    @Test
+    public void addListing_nonMatchingListing_noNewMatch() {
+        model.addListing(new ListingBuilder().withPriceRange("900", "1000").build());
+        model.addListing(new ListingBuilder().withPostalCode("654321").withPriceRange("150", "250")
+                .withAvailability(false).build());
+
+        assertEquals(0, matchSubscriptions.getNewMatchCount(poolPreference));
+        assertEquals(0, matchSubscriptions.newMatchCountProperty().get());
+    }
+
+    @Test
+    public void setListing_tagAddedInPlace_newMatchOnlyIfNotMatchingBefore() {
+        Listing listing = new ListingBuilder().withPriceRange("900", "1000").build();
+        model.addListing(listing);
+
+        listing.addTag(POOL);
+        model.setListing(listing, listing);
+        assertEquals(Set.of(listing), matchSubscriptions.getNewMatches(poolPreference));
+
+        // Already matched on price before the tag was added
+        matchSubscriptions.clearNewMatches(poolPreference);
+        Listing priceMatchingListing = new ListingBuilder().withPostalCode("654321").withPriceRange("150", "250")
+                .build();
+        model.addListing(priceMatchingListing);
+        matchSubscriptions.clearNewMatches(poolPreference);
+        priceMatchingListing.addTag(POOL);
+        model.setListing(priceMatchingListing, priceMatchingListing);
+        assertEquals(0, matchSubscriptions.getNewMatchCount(poolPreference));
+    }
+
+    @Test
+    public void setListing_markedAvailable_newMatch() {
+        Listing listing = new ListingBuilder().withPriceRange("150", "250").withAvailability(false).build();
+        model.addListing(listing);
+        assertEquals(0, matchSubscriptions.getNewMatchCount(poolPreference));
+
+        listing.markAvailable();
+        model.setListing(listing, listing);
+        assertEquals(Set.of(listing), matchSubscriptions.getNewMatches(poolPreference));
+
+        listing.markUnavailable();
+        model.setListing(listing, listing);
+        assertEquals(0, matchSubscriptions.getNewMatchCount(poolPreference));
+    }
+
+    @Test
+    public void deleteListingOrPreference_newMatchesDropped() {
+        Listing listing = new ListingBuilder().withPriceRange("150", "250").build();
+        Listing otherListing = new ListingBuilder().withPostalCode("654321").withPriceRange("150", "250").build();
+        model.addListing(listing);
+        model.addListing(otherListing);
+        assertEquals(2, matchSubscriptions.newMatchCountProperty().get());
+
+        model.deleteListing(listing);
+        assertEquals(Set.of(otherListing), matchSubscriptions.getNewMatches(poolPreference));
+
+        buyer.removePropertyPreference(poolPreference);
+        model.setPerson(buyer, buyer);
+        assertEquals(0, matchSubscriptions.newMatchCountProperty().get());
+    }
+
+    @Test
+    public void setAddressBook_existingListings_notNewMatches() {
+        Listing listing = new ListingBuilder().withPriceRange("150", "250").build();
+        model.addListing(listing);
+        model.setAddressBook(model.getAddressBook());
+
+        assertEquals(0, matchSubscriptions.newMatchCountProperty().get());
+    }
+}
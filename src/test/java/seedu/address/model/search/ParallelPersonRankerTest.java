@@ -0,0 +1,79 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TestUtil.getTag;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.MatchSettings;
+import seedu.address.commons.core.ScoringWeights;
+import seedu.address.logic.commands.MatchListingCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.price.Price;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.ListingBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelPersonRankerTest {
+
+    private static final String[] TAG_NAMES = {"pool", "gym", "garden", "balcony"};
+    private static final int PERSON_COUNT = 300;
+
+    @Test
+    public void execute_matchListing_parallelRankingSameAsSequential() throws CommandException {
+        Random random = new Random(18);
+        Listing listing = new ListingBuilder().withPriceRange("300", "600").withTags("pool", "gym").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addListing(listing);
+
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            Person person = new PersonBuilder().withName("Buyer " + (char) ('A' + i % 26) + (char) ('a' + i / 26))
+                    .withPhone(String.valueOf(90000000 + i)).build();
+            int preferenceCount = random.nextInt(3);
+            for (int j = 0; j < preferenceCount; j++) {
+                // Coarse prices and few tags, so that many persons tie
+                int lowerBound = random.nextInt(10) * 100;
+                Set<Tag> tags = new HashSet<>();
+                for (String tagName : TAG_NAMES) {
+                    if (random.nextInt(4) == 0) {
+                        tags.add(getTag(tagName));
+                    }
+                }
+                person.addPropertyPreference(new PropertyPreference(new PriceRange(new Price(
+                        String.valueOf(lowerBound)), new Price(String.valueOf(lowerBound + 100))), tags, person));
+            }
+            if (i % 50 == 0) {
+                listing.addOwner(person);
+            }
+            addressBook.addPerson(person);
+        }
+
+        ModelManager sequentialModel = new ModelManager(addressBook, new UserPrefs());
+        UserPrefs parallelUserPrefs = new UserPrefs();
+        parallelUserPrefs.setMatchSettings(new MatchSettings(MatchSettings.DEFAULT_RESULT_LIMIT,
+                MatchSettings.DEFAULT_RESULT_LIMIT_THRESHOLD, new ScoringWeights(), 1));
+        ModelManager parallelModel = new ModelManager(addressBook, parallelUserPrefs);
+
+        new MatchListingCommand(INDEX_FIRST_PERSON).execute(sequentialModel);
+        new MatchListingCommand(INDEX_FIRST_PERSON).execute(parallelModel);
+
+        List<Person> sequentialRanking = List.copyOf(sequentialModel.getSortedFilteredPersonList());
+        assertTrue(sequentialRanking.size() > 0);
+        assertTrue(sequentialRanking.size() < PERSON_COUNT);
+        assertEquals(sequentialRanking, List.copyOf(parallelModel.getSortedFilteredPersonList()));
+    }
+}
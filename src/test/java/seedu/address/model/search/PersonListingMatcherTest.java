@@ -0,0 +1,98 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static seedu.address.testutil.TestUtil.getTag;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.MatchPersonCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.price.Price;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.search.predicates.ListingMatchesPreferencePredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.ListingBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonListingMatcherTest {
+
+    private static final Tag POOL = getTag("pool");
+
+    private final ModelManager model = new ModelManager();
+    private final MatchScorer scorer = new MatchScorer();
+    private final Person buyer = new PersonBuilder().withName("Buyer").withPhone("91234567").build();
+    private final PropertyPreference cheapPreference = new PropertyPreference(
+            new PriceRange(new Price("100"), new Price("200")), Set.of(), buyer);
+    private final PropertyPreference poolPreference = new PropertyPreference(
+            new PriceRange(new Price("5000"), new Price("6000")), Set.of(POOL), buyer);
+    private final Listing cheapPoolListing = new ListingBuilder().withPostalCode("111111")
+            .withPriceRange("150", "250").withTags("pool").build();
+    private final Listing poolListing = new ListingBuilder().withPostalCode("222222")
+            .withPriceRange("900", "1000").withTags("pool").build();
+    private final Listing unwantedListing = new ListingBuilder().withPostalCode("333333")
+            .withPriceRange("900", "1000").build();
+    private final Listing ownedListing = new ListingBuilder().withPostalCode("444444")
+            .withPriceRange("150", "250").build();
+
+    public PersonListingMatcherTest() {
+        buyer.addPropertyPreference(cheapPreference);
+        buyer.addPropertyPreference(poolPreference);
+        ownedListing.addOwner(buyer);
+        model.addPerson(buyer);
+        model.addListing(unwantedListing);
+        model.addListing(poolListing);
+        model.addListing(ownedListing);
+        model.addListing(cheapPoolListing);
+    }
+
+    @Test
+    public void match_listingsMatchingSeveralPreferences_deduplicatedWithBestScore() {
+        Map<Listing, Double> bestScores = new PersonListingMatcher(buyer, scorer)
+                .match(model.getAddressBook().getListingList());
+
+        assertEquals(Set.of(cheapPoolListing, poolListing), bestScores.keySet());
+        for (Listing listing : model.getAddressBook().getListingList()) {
+            double expectedScore = Double.NEGATIVE_INFINITY;
+            for (PropertyPreference preference : buyer.getPropertyPreferences()) {
+                if (new ListingMatchesPreferencePredicate(preference).test(listing)) {
+                    expectedScore = Math.max(expectedScore, scorer.score(preference, listing));
+                }
+            }
+            if (expectedScore != Double.NEGATIVE_INFINITY) {
+                assertEquals(expectedScore, (double) bestScores.get(listing));
+            }
+        }
+    }
+
+    @Test
+    public void execute_matchPerson_bestMatchFirst() throws CommandException {
+        new MatchPersonCommand(INDEX_FIRST_PERSON).execute(model);
+        assertEquals(List.of(cheapPoolListing, poolListing), model.getSortedFilteredListingList());
+    }
+
+    @Test
+    public void execute_noPreferences_throwsCommandException() {
+        Person otherBuyer = new PersonBuilder().withName("Other Buyer").withPhone("98765432").build();
+        ModelManager otherModel = new ModelManager();
+        otherModel.addPerson(otherBuyer);
+        assertThrows(CommandException.class, () -> new MatchPersonCommand(INDEX_FIRST_PERSON).execute(otherModel));
+    }
+
+    @Test
+    public void parseCommand_matchPerson() throws ParseException {
+        assertEquals(new MatchPersonCommand(INDEX_FIRST_PERSON), new AddressBookParser().parseCommand("matchPerson 1"));
+        assertThrows(ParseException.class, () -> new AddressBookParser().parseCommand("matchPerson 1 2"));
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.model.search.comparators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TestUtil.getTag;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.price.Price;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.ListingBuilder;
+
+public class ListingPreferenceScoreComparatorTest {
+
+    private static final Tag POOL = getTag("pool");
+    private static final Tag GARDEN = getTag("garden");
+
+    private final Listing poolListing = new ListingBuilder().withPostalCode("111111").withTags("pool")
+            .withPriceRange("100", "200").build();
+    private final Listing gardenListing = new ListingBuilder().withPostalCode("222222").withTags("garden")
+            .withPriceRange("100", "200").build();
+    private final Listing poolAndGardenListing = new ListingBuilder().withPostalCode("333333")
+            .withTags("pool", "garden").withPriceRange("900", "1000").build();
+
+    @Test
+    public void compare_higherScoreFirst() {
+        PropertyPreference preference = createPreference(Set.of(POOL, GARDEN));
+        ListingPreferenceScoreComparator comparator = new ListingPreferenceScoreComparator(preference);
+
+        // pool and garden tags, price out of range
+        assertEquals(2, comparator.getScore(poolAndGardenListing));
+        // pool tag, price in range
+        assertEquals(2, comparator.getScore(poolListing));
+
+        List<Listing> listings = new ArrayList<>(List.of(gardenListing, poolListing, poolAndGardenListing));
+        Listing cheapUntaggedListing = new ListingBuilder().withPostalCode("444444").withPriceRange("100", "100")
+                .build();
+        listings.add(0, cheapUntaggedListing);
+        listings.sort(comparator);
+        assertEquals(cheapUntaggedListing, listings.get(3));
+    }
+
+    @Test
+    public void compare_twoComparatorsInFlight_scoreIndependently() {
+        ListingPreferenceScoreComparator poolComparator =
+                new ListingPreferenceScoreComparator(createPreference(Set.of(POOL)));
+        ListingPreferenceScoreComparator gardenComparator =
+                new ListingPreferenceScoreComparator(createPreference(Set.of(GARDEN)));
+
+        List<Listing> sortedByPool = new ArrayList<>(List.of(gardenListing, poolListing));
+        List<Listing> sortedByGarden = new ArrayList<>(List.of(poolListing, gardenListing));
+        sortedByPool.sort(poolComparator);
+        sortedByGarden.sort(gardenComparator);
+
+        assertEquals(List.of(poolListing, gardenListing), sortedByPool);
+        assertEquals(List.of(gardenListing, poolListing), sortedByGarden);
+    }
+
+    @Test
+    public void getScore_listingChangedAfterScoring_returnsCachedScore() {
+        ListingPreferenceScoreComparator comparator =
+                new ListingPreferenceScoreComparator(createPreference(Set.of(POOL, GARDEN)));
+        assertEquals(2, comparator.getScore(poolListing));
+
+        Listing listing = new ListingBuilder().withPostalCode("555555").withTags("pool")
+                .withPriceRange("100", "200").build();
+        assertEquals(2, comparator.getScore(listing));
+        listing.addTag(GARDEN);
+        assertEquals(2, comparator.getScore(listing));
+        assertEquals(3, new ListingPreferenceScoreComparator(createPreference(Set.of(POOL, GARDEN)))
+                .getScore(listing));
+    }
+
+    private static PropertyPreference createPreference(Set<Tag> tags) {
+        return new PropertyPreference(new PriceRange(new Price("150"), new Price("300")), tags, ALICE);
+    }
+}
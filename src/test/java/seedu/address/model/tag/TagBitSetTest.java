@@ -0,0 +1,79 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TestUtil.getTag;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagBitSetTest {
+
+    @Test
+    public void of_tags_containsExactlyThoseTags() {
+        TagBitSet tagBits = TagBitSet.of(Set.of(getTag("bitset hdb"), getTag("bitset condo")));
+
+        assertEquals(2, tagBits.size());
+        assertTrue(tagBits.contains(getTag("bitset hdb")));
+        assertTrue(tagBits.contains(getTag("bitset condo")));
+        assertFalse(tagBits.contains(getTag("bitset landed")));
+        assertTrue(TagBitSet.of(Set.of()).isEmpty());
+    }
+
+    @Test
+    public void withAndWithout_updatesCopy() {
+        TagBitSet tagBits = TagBitSet.of(Set.of(getTag("bitset hdb")));
+        TagBitSet added = tagBits.with(getTag("bitset condo"));
+
+        assertFalse(tagBits.contains(getTag("bitset condo")));
+        assertEquals(TagBitSet.of(Set.of(getTag("bitset hdb"), getTag("bitset condo"))), added);
+        assertEquals(tagBits, added.without(getTag("bitset condo")));
+        assertEquals(tagBits, tagBits.without(getTag("bitset landed")));
+    }
+
+    @Test
+    public void intersectsCountCommonContainsAll() {
+        TagBitSet first = TagBitSet.of(Set.of(getTag("bitset hdb"), getTag("bitset condo"), getTag("bitset pool")));
+        TagBitSet second = TagBitSet.of(Set.of(getTag("bitset condo"), getTag("bitset pool"), getTag("bitset gym")));
+        TagBitSet disjoint = TagBitSet.of(Set.of(getTag("bitset landed")));
+
+        assertTrue(first.intersects(second));
+        assertFalse(first.intersects(disjoint));
+        assertEquals(2, first.countCommon(second));
+        assertEquals(0, first.countCommon(disjoint));
+
+        assertTrue(first.containsAll(TagBitSet.of(Set.of(getTag("bitset condo"), getTag("bitset hdb")))));
+        assertFalse(first.containsAll(second));
+        assertTrue(first.containsAll(TagBitSet.of(Set.of())));
+        assertFalse(TagBitSet.of(Set.of()).containsAll(first));
+    }
+
+    @Test
+    public void countCommon_manyTags_sameAsSetIntersection() {
+        List<Tag> tags = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            tags.add(getTag("bitset tag " + i));
+        }
+
+        Set<Tag> firstTags = new HashSet<>();
+        Set<Tag> secondTags = new HashSet<>();
+        for (int i = 0; i < tags.size(); i++) {
+            if (i % 3 == 0) {
+                firstTags.add(tags.get(i));
+            }
+            if (i % 5 == 0) {
+                secondTags.add(tags.get(i));
+            }
+        }
+
+        Set<Tag> commonTags = new HashSet<>(firstTags);
+        commonTags.retainAll(secondTags);
+        assertEquals(commonTags.size(), TagBitSet.of(firstTags).countCommon(TagBitSet.of(secondTags)));
+        assertEquals(firstTags.size(), TagBitSet.of(firstTags).size());
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TestUtil.getTag;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.listing.Listing;
+import seedu.address.model.util.Ordinals;
+import seedu.address.testutil.ListingBuilder;
+
+public class TagIndexTest {
+
+    private final Listing poolGym = new ListingBuilder().withPostalCode("111111")
+            .withTags("pool", "gym").build();
+    private final Listing poolOnly = new ListingBuilder().withPostalCode("222222")
+            .withTags("pool").build();
+    private final Listing untagged = new ListingBuilder().withPostalCode("333333").build();
+
+    private final Ordinals<Listing> ordinals = new Ordinals<>();
+    private final TagIndex<Listing> tagIndex = new TagIndex<>(ordinals, Listing::getTags);
+
+    @Test
+    public void getOrdinalsWithAllTags_intersectsPostings() {
+        add(poolGym, poolOnly, untagged);
+
+        assertEquals(List.of(poolGym, poolOnly), withAllTags("pool"));
+        assertEquals(List.of(poolGym), withAllTags("pool", "gym"));
+        assertEquals(2, tagIndex.count("pool"));
+    }
+
+    @Test
+    public void getOrdinalsWithAllTags_differentCase_matches() {
+        add(poolGym);
+        assertEquals(List.of(poolGym), withAllTags("PoOl", "GYM"));
+    }
+
+    @Test
+    public void getOrdinalsWithAllTags_unknownTag_returnsEmpty() {
+        add(poolGym);
+        assertTrue(withAllTags("pool", "garden").isEmpty());
+    }
+
+    @Test
+    public void getOrdinalsWithAllTags_noTags_returnsAllElements() {
+        add(poolGym, untagged);
+        assertEquals(List.of(poolGym, untagged), withAllTags());
+    }
+
+    @Test
+    public void update_tagsEditedInPlace_postingsFollow() {
+        add(poolOnly);
+
+        Tag garden = getTag("garden");
+        poolOnly.addTag(garden);
+        tagIndex.update(poolOnly);
+        assertEquals(List.of(poolOnly), withAllTags("pool", "garden"));
+
+        poolOnly.removeTag(garden);
+        tagIndex.update(poolOnly);
+        assertTrue(withAllTags("garden").isEmpty());
+    }
+
+    @Test
+    public void remove_tagsEditedSinceIndexed_previousPostingsRemoved() {
+        add(poolGym, poolOnly);
+        poolGym.removeTag(getTag("gym"));
+
+        tagIndex.remove(poolGym);
+        ordinals.release(poolGym);
+
+        assertEquals(List.of(poolOnly), withAllTags("pool"));
+        assertEquals(0, tagIndex.count("gym"));
+    }
+
+    @Test
+    public void ordinals_removedOrdinalReusedFirst() {
+        assertEquals(0, ordinals.assign(poolGym));
+        assertEquals(1, ordinals.assign(poolOnly));
+        assertEquals(0, ordinals.release(poolGym));
+        assertEquals(Ordinals.NO_ORDINAL, ordinals.ordinalOf(poolGym));
+        assertEquals(0, ordinals.assign(untagged));
+        assertEquals(2, ordinals.capacity());
+    }
+
+    private void add(Listing... listings) {
+        for (Listing listing : listings) {
+            ordinals.assign(listing);
+            tagIndex.add(listing);
+        }
+    }
+
+    private List<Listing> withAllTags(String... tagNames) {
+        return ordinals.toElements(tagIndex.getOrdinalsWithAllTags(Set.of(tagNames)));
+    }
+}
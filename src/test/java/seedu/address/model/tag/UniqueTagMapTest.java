@@ -2,6 +2,7 @@ package seedu.address.model.tag;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -106,6 +107,48 @@ public class UniqueTagMapTest {
         assertThrows(DuplicateTagException.class, () -> uniqueTagMap.setTag(tag1, tag2));
     }
 
+    @Test
+    public void add_sameTagName_sameId() {
+        uniqueTagMap.add(tag1);
+        uniqueTagMap.add(tag2);
+        uniqueTagMap.remove(tag1);
+
+        Tag readdedTag = new Tag("hdb", new ArrayList<>(), new ArrayList<>());
+        uniqueTagMap.add(readdedTag);
+        assertEquals(tag1.getId(), readdedTag.getId());
+        assertNotEquals(tag1.getId(), tag2.getId());
+    }
+
+    @Test
+    public void add_separateMaps_idsGivenPerMap() {
+        UniqueTagMap firstMap = new UniqueTagMap();
+        UniqueTagMap secondMap = new UniqueTagMap();
+        Tag pool = new Tag("POOL", new ArrayList<>(), new ArrayList<>());
+        Tag gym = new Tag("GYM", new ArrayList<>(), new ArrayList<>());
+
+        firstMap.add(pool);
+        secondMap.add(gym);
+        assertEquals(0, pool.getId());
+        assertEquals(0, gym.getId());
+
+        // A tag copied from another map keeps its ID, and new tags are given the IDs after it
+        UniqueTagMap copiedMap = new UniqueTagMap();
+        copiedMap.setTags(List.of(pool));
+        Tag landed = new Tag("LANDED", new ArrayList<>(), new ArrayList<>());
+        copiedMap.add(landed);
+        assertEquals(0, pool.getId());
+        assertEquals(1, landed.getId());
+
+        // Tags with the same ID from different maps cannot be put in one map
+        assertThrows(IllegalArgumentException.class, () -> secondMap.setTags(List.of(gym, pool)));
+    }
+
+    @Test
+    public void getId_tagNotInMap_throwsIllegalStateException() {
+        Tag tag = new Tag("LANDED", new ArrayList<>(), new ArrayList<>());
+        assertThrows(IllegalStateException.class, tag::getId);
+    }
+
     @Test
     public void addPropertyPreferenceToTag_success() {
         uniqueTagMap.add(tag1);
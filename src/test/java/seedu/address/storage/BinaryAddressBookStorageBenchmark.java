@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.AddressBookGenerator;
+
+/**
+ * Compares {@code BinaryAddressBookStorage} against {@code JsonAddressBookStorage} on address books of increasing
+ * size, by the median time to load and to save them, and by the size of their files.
+ * The address books are generated as in {@link JsonAddressBookLoadBenchmark}.
+ *
+ * This is not run as part of the test suite. Run it from the IDE, or with the test classpath, e.g.
+ * {@code java -cp <test classpath> seedu.address.storage.BinaryAddressBookStorageBenchmark [sizes...]}.
+ */
+public class BinaryAddressBookStorageBenchmark {
+
+    private static final int[] DEFAULT_SIZES = {1_000, 4_000, 16_000};
+    private static final int WARM_UP_RUNS = 2;
+    private static final int MEASURED_RUNS = 5;
+
+    /**
+     * An action on a storage that is timed.
+     */
+    @FunctionalInterface
+    private interface StorageAction {
+        void run(AddressBookStorage storage) throws Exception;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int[] sizes = args.length == 0
+                ? DEFAULT_SIZES
+                : Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+
+        Path tempDir = Files.createTempDirectory("addressbook-storage-benchmark");
+        System.out.printf("%10s %8s %12s %12s %12s%n", "persons", "format", "file (KB)", "load (ms)", "save (ms)");
+        for (int size : sizes) {
+            AddressBook addressBook = AddressBookGenerator.generate(size);
+            AddressBookStorage[] storages = {
+                new JsonAddressBookStorage(tempDir.resolve("addressbook-" + size + ".json")),
+                new BinaryAddressBookStorage(tempDir.resolve("addressbook-" + size + ".bin"))
+            };
+            for (AddressBookStorage storage : storages) {
+                double saveMillis = time(storage, s -> s.saveAddressBook(addressBook));
+                double loadMillis = time(storage, AddressBookStorage::readAddressBook);
+                Path filePath = storage.getAddressBookFilePath();
+                String format = storage instanceof BinaryAddressBookStorage ? "binary" : "json";
+                System.out.printf("%10d %8s %12d %12.1f %12.1f%n", size, format, Files.size(filePath) / 1024,
+                        loadMillis, saveMillis);
+                Files.delete(filePath);
+            }
+        }
+        Files.delete(tempDir);
+    }
+
+    /**
+     * Returns the median time in milliseconds that {@code action} takes on {@code storage}, after warming up.
+     */
+    private static double time(AddressBookStorage storage, StorageAction action) throws Exception {
+        for (int i = 0; i < WARM_UP_RUNS; i++) {
+            action.run(storage);
+        }
+
+        long[] runTimes = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            action.run(storage);
+            runTimes[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(runTimes);
+        return runTimes[MEASURED_RUNS / 2] / 1e6;
+    }
+}
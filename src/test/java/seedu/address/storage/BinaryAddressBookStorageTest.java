@@ -0,0 +1,138 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BinaryAddressBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "BinaryAddressBookStorageTest");
+    private static final Path JSON_FILE = TEST_DATA_FOLDER.resolve("matchestate.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        ReadOnlyAddressBook original = readJsonAddressBook();
+        Path filePath = testFolder.resolve("matchestate.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        assertFalse(storage.readAddressBook().isPresent());
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(new AddressBook(original), new AddressBook(readBack));
+        // Every field and link comes back, as it would through the json file
+        assertEquals(toJsonString(original), toJsonString(readBack));
+
+        // Encoded again from what was read back, the binary form is the same
+        UUID snapshotId = UUID.randomUUID();
+        assertTrue(Arrays.equals(BinaryAddressBook.encode(original, snapshotId),
+                BinaryAddressBook.encode(readBack, snapshotId)));
+    }
+
+    @Test
+    public void readSnapshotId_savedAgain_changes() throws Exception {
+        Path filePath = testFolder.resolve("matchestate.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        assertFalse(storage.readSnapshotId().isPresent());
+
+        storage.saveAddressBook(readJsonAddressBook());
+        String snapshotId = storage.readSnapshotId().get();
+        storage.captureAddressBook(readJsonAddressBook()).save();
+        assertNotEquals(snapshotId, storage.readSnapshotId().get());
+    }
+
+    @Test
+    public void readAddressBook_versionOneFile_success() throws Exception {
+        // Version 1 is the current form without the snapshot ID
+        ReadOnlyAddressBook original = readJsonAddressBook();
+        byte[] bytes = BinaryAddressBook.encode(original, UUID.randomUUID());
+        ByteBuffer versionOneBytes = ByteBuffer.allocate(bytes.length - 2 * Long.BYTES)
+                .putInt(BinaryAddressBook.MAGIC).putInt(1)
+                .put(bytes, BinaryAddressBook.HEADER_LENGTH, bytes.length - BinaryAddressBook.HEADER_LENGTH);
+        Path filePath = testFolder.resolve("matchestate.bin");
+        Files.write(filePath, versionOneBytes.array());
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        assertEquals(toJsonString(original), toJsonString(storage.readAddressBook().get()));
+        assertFalse(storage.readSnapshotId().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_notSavedYet_readFromLegacyStorage() throws Exception {
+        Path jsonFilePath = testFolder.resolve("matchestate.json");
+        Files.copy(JSON_FILE, jsonFilePath);
+        Path filePath = testFolder.resolve("matchestate.bin");
+        assertEquals(jsonFilePath, BinaryAddressBookStorage.getDefaultJsonFilePath(filePath));
+        BinaryAddressBookStorage storage =
+                new BinaryAddressBookStorage(filePath, new JsonAddressBookStorage(jsonFilePath));
+
+        assertEquals(jsonFilePath, storage.getSavedAddressBookFilePath());
+        ReadOnlyAddressBook migrated = storage.readAddressBook().get();
+        assertEquals(toJsonString(readJsonAddressBook()), toJsonString(migrated));
+
+        storage.saveAddressBook(migrated);
+        assertEquals(filePath, storage.getSavedAddressBookFilePath());
+        assertEquals(toJsonString(migrated), toJsonString(storage.readAddressBook().get()));
+        // The json file is left as it was
+        assertEquals(Files.readString(JSON_FILE), Files.readString(jsonFilePath));
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("matchestate.bin");
+        Files.copy(JSON_FILE, filePath);
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("matchestate.bin");
+        byte[] bytes = BinaryAddressBook.encode(readJsonAddressBook(), UUID.randomUUID());
+        ByteBuffer.wrap(bytes).putInt(Integer.BYTES, BinaryAddressBook.VERSION + 1);
+        Files.write(filePath, bytes);
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("matchestate.bin");
+        byte[] bytes = BinaryAddressBook.encode(readJsonAddressBook(), UUID.randomUUID());
+        for (int length : new int[] {0, 6, bytes.length / 2, bytes.length - 1}) {
+            Files.write(filePath, Arrays.copyOf(bytes, length));
+            assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+        }
+    }
+
+    @Test
+    public void isBinaryFilePath() {
+        assertTrue(BinaryAddressBookStorage.isBinaryFilePath(Paths.get("data", "matchestate.bin")));
+        assertFalse(BinaryAddressBookStorage.isBinaryFilePath(Paths.get("data", "matchestate.json")));
+    }
+
+    private ReadOnlyAddressBook readJsonAddressBook() throws Exception {
+        return new JsonAddressBookStorage(JSON_FILE).readAddressBook().get();
+    }
+
+    private String toJsonString(ReadOnlyAddressBook addressBook) throws Exception {
+        return JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+    }
+
+}
@@ -0,0 +1,64 @@
+package seedu.address.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.testutil.AddressBookGenerator;
+
+/**
+ * Measures how long it takes to load address book files of increasing size through {@code JsonAddressBookStorage}.
+ * Every generated address book has as many listings as persons, and every listing has two owners, so load time
+ * should grow linearly with the number of persons. The time per record in the output should therefore stay roughly
+ * constant as the size doubles.
+ *
+ * This is not run as part of the test suite. Run it from the IDE, or with the test classpath, e.g.
+ * {@code java -cp <test classpath> seedu.address.storage.JsonAddressBookLoadBenchmark [sizes...]}.
+ */
+public class JsonAddressBookLoadBenchmark {
+
+    private static final int[] DEFAULT_SIZES = {1_000, 2_000, 4_000, 8_000, 16_000};
+    private static final int WARM_UP_ROUNDS = 5;
+    private static final int MEASURED_RUNS = 5;
+
+    public static void main(String[] args) throws Exception {
+        int[] sizes = args.length == 0
+                ? DEFAULT_SIZES
+                : Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+
+        Path tempDir = Files.createTempDirectory("addressbook-load-benchmark");
+        Path[] filePaths = new Path[sizes.length];
+        for (int i = 0; i < sizes.length; i++) {
+            filePaths[i] = tempDir.resolve("addressbook-" + sizes[i] + ".json");
+            JsonUtil.saveJsonFile(new JsonSerializableAddressBook(AddressBookGenerator.generate(sizes[i])),
+                    filePaths[i]);
+        }
+
+        // Load every file a few times before timing any of them, so that the JIT has compiled the load path before
+        // the first measurement. Otherwise the smaller sizes, which are measured first, also time the warm-up.
+        for (int round = 0; round < WARM_UP_ROUNDS; round++) {
+            for (Path filePath : filePaths) {
+                new JsonAddressBookStorage(filePath).readAddressBook();
+            }
+        }
+
+        System.out.printf("%10s %12s %12s %16s%n", "persons", "file (KB)", "load (ms)", "us per person");
+        for (int i = 0; i < sizes.length; i++) {
+            JsonAddressBookStorage storage = new JsonAddressBookStorage(filePaths[i]);
+            long[] runTimes = new long[MEASURED_RUNS];
+            for (int run = 0; run < MEASURED_RUNS; run++) {
+                long start = System.nanoTime();
+                storage.readAddressBook();
+                runTimes[run] = System.nanoTime() - start;
+            }
+            Arrays.sort(runTimes);
+            long medianNanos = runTimes[MEASURED_RUNS / 2];
+
+            System.out.printf("%10d %12d %12.1f %16.2f%n", sizes[i], Files.size(filePaths[i]) / 1024,
+                    medianNanos / 1e6, medianNanos / 1e3 / sizes[i]);
+            Files.delete(filePaths[i]);
+        }
+        Files.delete(tempDir);
+    }
+}
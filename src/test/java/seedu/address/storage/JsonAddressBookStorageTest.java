@@ -2,6 +2,9 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,15 +12,24 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.ListingBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +98,94 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAddressBook_listingsBeforePersons_ownersResolved() throws Exception {
+        ReadOnlyAddressBook readBack = readAddressBook("listingsBeforePersonsAddressBook.json").get();
+
+        assertEquals(1, readBack.getListingList().size());
+        Person owner = readBack.getPersonList().get(0);
+        assertEquals(List.of(owner), readBack.getListingList().get(0).getOwners());
+        assertTrue(readBack.getTagMap().containsKey("GARDEN"));
+        assertSame(readBack.getTagMap().get("POOL"), readBack.getListingList().get(0).getTags().iterator().next());
+    }
+
+    @Test
+    public void saveAddressBook_sameFormatAsJsonSerializableAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getAddressBookWithListings();
+
+        // Saved one record at a time, and read back as a whole
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        assertEquals(original, JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get().toModelType());
+
+        // Saved as a whole, with listings and tags after persons, and read back one record at a time
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(original), filePath);
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readSnapshotId_savedAgain_changes() throws Exception {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("TempAddressBook.json"));
+        assertFalse(storage.readSnapshotId().isPresent());
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        String snapshotId = storage.readSnapshotId().get();
+        storage.captureAddressBook(getTypicalAddressBook()).save();
+        assertNotEquals(snapshotId, storage.readSnapshotId().get());
+
+        // Saved without a snapshot ID, e.g. by an earlier version
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(getTypicalAddressBook()),
+                storage.getAddressBookFilePath());
+        assertFalse(storage.readSnapshotId().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_failsPartway_previousFileKept() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getAddressBookWithListings();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        // e.g. a record that cannot be serialised, after the records before it have been written
+        Iterator<JsonAdaptedPerson> failingPersons = new Iterator<>() {
+            private boolean hasWrittenPerson = false;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public JsonAdaptedPerson next() {
+                if (hasWrittenPerson) {
+                    throw new IllegalStateException("dummy serialisation error");
+                }
+                hasWrittenPerson = true;
+                return new JsonAdaptedPerson(ALICE);
+            }
+        };
+        assertThrows(IllegalStateException.class, () -> StreamingJsonAddressBook.write(
+                Collections.emptyIterator(), failingPersons, Collections.emptyIterator(), filePath));
+
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(List.of(filePath), Files.list(testFolder).toList());
+    }
+
+    /**
+     * Returns an address book with tagged listings owned by its persons.
+     */
+    private AddressBook getAddressBookWithListings() {
+        AddressBook addressBook = new AddressBook();
+        Person alice = new PersonBuilder().withName("Alice Pauline").withPhone("94351253").build();
+        Person benson = new PersonBuilder().withName("Benson Meier").withPhone("98765432").build();
+        addressBook.addPerson(alice);
+        addressBook.addPerson(benson);
+        Listing listing = new ListingBuilder().withPostalCode("123456").withUnitNumber("01-01")
+                .withOwners(alice, benson).build();
+        addressBook.addListing(listing);
+        addressBook.addTag("garden");
+        return addressBook;
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
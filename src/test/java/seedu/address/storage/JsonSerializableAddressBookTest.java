@@ -1,16 +1,28 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.math.BigDecimal;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.AddressBookGenerator;
+import seedu.address.testutil.ListingBuilder;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -20,6 +32,10 @@ public class JsonSerializableAddressBookTest {
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
 
+    // Enough persons and listings to be converted in parallel
+    private static final int MANY = ParallelConverter.MIN_RECORDS_PER_TASK * 8;
+    private static final List<String> TAG_NAMES = List.of("POOL", "GARDEN");
+
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
@@ -44,4 +60,103 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_listingWithOwners_ownersResolvedByPhone() throws Exception {
+        Person amy = new PersonBuilder().withName("Amy Bee").withPhone("11111111").build();
+        Person bob = new PersonBuilder().withName("Bob Choo").withPhone("22222222").build();
+        Listing listing = new ListingBuilder().withOwners(bob, amy).build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(amy);
+        addressBook.addPerson(bob);
+        addressBook.addListing(listing);
+
+        AddressBook loadedAddressBook = new JsonSerializableAddressBook(addressBook).toModelType();
+
+        Person loadedAmy = loadedAddressBook.getPersonList().get(0);
+        Person loadedBob = loadedAddressBook.getPersonList().get(1);
+        Listing loadedListing = loadedAddressBook.getListingList().get(0);
+        assertEquals(List.of(bob, amy), loadedListing.getOwners());
+        assertSame(loadedBob, loadedListing.getOwners().get(0));
+        assertSame(loadedAmy, loadedListing.getOwners().get(1));
+        assertEquals(List.of(loadedListing), loadedAmy.getListings());
+    }
+
+    @Test
+    public void toModelType_manyPersonsAndListings_sameAsConvertedOneAtATime() throws Exception {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        List<JsonAdaptedListing> listings = new ArrayList<>();
+        JsonSerializableAddressBook source = getManyPersonsAndListings(persons, listings);
+
+        AddressBook expectedAddressBook = new AddressBook();
+        expectedAddressBook.addTags(new HashSet<>(TAG_NAMES));
+        for (JsonAdaptedPerson person : persons) {
+            expectedAddressBook.addPerson(person.toModelType(expectedAddressBook));
+        }
+        Map<String, Person> personsByPhone = JsonSerializableAddressBook.getPersonsByPhone(expectedAddressBook);
+        for (JsonAdaptedListing listing : listings) {
+            expectedAddressBook.addListing(listing.toModelType(expectedAddressBook, personsByPhone));
+        }
+
+        AddressBook loadedAddressBook = source.toModelType();
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(expectedAddressBook)),
+                JsonUtil.toJsonString(new JsonSerializableAddressBook(loadedAddressBook)));
+        for (String tagName : TAG_NAMES) {
+            assertEquals(MANY / TAG_NAMES.size(),
+                    loadedAddressBook.getTagMap().get(tagName).getNumPropertyPreferences());
+            assertEquals(MANY / TAG_NAMES.size(), loadedAddressBook.getTagMap().get(tagName).getNumListings());
+        }
+    }
+
+    @Test
+    public void toModelType_manyPersonsWithInvalidAndDuplicatePerson_firstFailureThrown() throws Exception {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        List<JsonAdaptedListing> listings = new ArrayList<>();
+        JsonSerializableAddressBook source = getManyPersonsAndListings(persons, listings);
+        List<JsonAdaptedTag> tags = TAG_NAMES.stream().map(JsonAdaptedTag::new).toList();
+        JsonAdaptedPerson invalidPerson = new JsonAdaptedPerson("Invalid Phone", "+65 1234", "invalid@example.com",
+                List.of());
+
+        // The duplicate comes first, in a different chunk from the invalid person
+        List<JsonAdaptedPerson> duplicateFirst = new ArrayList<>(persons);
+        duplicateFirst.set(MANY / 4, persons.get(0));
+        duplicateFirst.set(MANY * 3 / 4, invalidPerson);
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                new JsonSerializableAddressBook(duplicateFirst, listings, tags).toModelType());
+
+        List<JsonAdaptedPerson> invalidFirst = new ArrayList<>(persons);
+        invalidFirst.set(MANY / 4, invalidPerson);
+        invalidFirst.set(MANY * 3 / 4, persons.get(0));
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () ->
+                new JsonSerializableAddressBook(invalidFirst, listings, tags).toModelType());
+
+        // Still loads once both are fixed
+        assertEquals(MANY, source.toModelType().getPersonList().size());
+    }
+
+    /**
+     * Returns an address book of {@code MANY} persons and listings, each with one of {@code TAG_NAMES}, adding its
+     * persons and listings to {@code persons} and {@code listings}.
+     */
+    private static JsonSerializableAddressBook getManyPersonsAndListings(List<JsonAdaptedPerson> persons,
+            List<JsonAdaptedListing> listings) {
+        AddressBook addressBook = AddressBookGenerator.generate(MANY);
+        for (int i = 0; i < MANY; i++) {
+            Person person = addressBook.getPersonList().get(i);
+            JsonAdaptedTag tag = new JsonAdaptedTag(TAG_NAMES.get(i % TAG_NAMES.size()));
+            JsonAdaptedPreference preference = new JsonAdaptedPreference(
+                    new JsonAdaptedPriceRange(BigDecimal.valueOf(200_000 + i), BigDecimal.valueOf(100_000)),
+                    List.of(tag));
+            persons.add(new JsonAdaptedPerson(person.getName().fullName, person.getPhone().value,
+                    person.getEmail().value, List.of(preference)));
+
+            Listing listing = addressBook.getListingList().get(i);
+            listings.add(new JsonAdaptedListing(listing.getPostalCode().postalCode,
+                    listing.getUnitNumber().unitNumber, null, new JsonAdaptedPriceRange(listing.getPriceRange()),
+                    null, List.of(tag), listing.getOwners().stream().map(owner -> owner.getPhone().value).toList(),
+                    true));
+        }
+        return new JsonSerializableAddressBook(persons, listings,
+                TAG_NAMES.stream().map(JsonAdaptedTag::new).toList());
+    }
+
 }
@@ -2,15 +2,25 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.MatchSettings;
+import seedu.address.commons.core.SaveStatus;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
@@ -65,4 +75,85 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void startBackgroundSaving_burstOfChanges_writtenTogether() throws Exception {
+        AtomicInteger saveCount = new AtomicInteger();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public AddressBookSnapshot captureAddressBook(ReadOnlyAddressBook addressBook) {
+                AddressBookSnapshot snapshot = super.captureAddressBook(addressBook);
+                return () -> {
+                    saveCount.incrementAndGet();
+                    snapshot.save();
+                };
+            }
+        };
+        StorageManager storageManager = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        storageManager.startBackgroundSaving(TimeUnit.HOURS.toMillis(1));
+
+        // The first write is not held back
+        AddressBook addressBook = new AddressBook();
+        storageManager.compactJournal(addressBook);
+        awaitSaveStatus(storageManager, SaveStatus.SAVED);
+        assertEquals(1, saveCount.get());
+
+        // Later writes wait for the save interval, which only ends on flush
+        addressBook.addPerson(ALICE);
+        storageManager.compactJournal(addressBook);
+        addressBook.addPerson(BENSON);
+        storageManager.compactJournal(addressBook);
+        storageManager.appendToJournal(List.of("listPerson"), new MatchSettings());
+        assertEquals(SaveStatus.UNSAVED, storageManager.getSaveStatus());
+        assertEquals(1, saveCount.get());
+
+        AddressBook expectedAddressBook = new AddressBook(addressBook);
+        addressBook.addPerson(CARL);
+        storageManager.flush();
+        assertEquals(2, saveCount.get());
+        assertEquals(SaveStatus.SAVED, storageManager.getSaveStatus());
+        assertEquals(expectedAddressBook, new AddressBook(storageManager.readAddressBook().get()));
+        assertEquals(List.of("listPerson"), storageManager.readJournal(new MatchSettings()));
+    }
+
+    @Test
+    public void startBackgroundSaving_failedWrite_retriedWithNextWrite() throws Exception {
+        AtomicBoolean isFailing = new AtomicBoolean(true);
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public AddressBookSnapshot captureAddressBook(ReadOnlyAddressBook addressBook) {
+                AddressBookSnapshot snapshot = super.captureAddressBook(addressBook);
+                return () -> {
+                    if (isFailing.get()) {
+                        throw new IOException("dummy IO exception");
+                    }
+                    snapshot.save();
+                };
+            }
+        };
+        StorageManager storageManager = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        storageManager.startBackgroundSaving(0);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.compactJournal(addressBook);
+        awaitSaveStatus(storageManager, SaveStatus.FAILED);
+
+        isFailing.set(false);
+        storageManager.appendToJournal(List.of("listPerson"), new MatchSettings());
+        storageManager.flush();
+        assertEquals(SaveStatus.SAVED, storageManager.getSaveStatus());
+        assertEquals(addressBook, new AddressBook(storageManager.readAddressBook().get()));
+        assertEquals(List.of("listPerson"), storageManager.readJournal(new MatchSettings()));
+    }
+
+    private void awaitSaveStatus(StorageManager storageManager, SaveStatus expectedSaveStatus)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (storageManager.getSaveStatus() != expectedSaveStatus && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expectedSaveStatus, storageManager.getSaveStatus());
+    }
+
 }
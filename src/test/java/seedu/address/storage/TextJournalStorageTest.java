@@ -0,0 +1,117 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.MatchSettings;
+import seedu.address.commons.core.ScoringWeights;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class TextJournalStorageTest {
+
+    private static final MatchSettings MATCH_SETTINGS = new MatchSettings();
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getDefaultJournalFilePath_replacesExtension() {
+        assertEquals(Path.of("data", "matchestate.journal"),
+                TextJournalStorage.getDefaultJournalFilePath(Path.of("data", "matchestate.json")));
+    }
+
+    @Test
+    public void readJournal_appendedCommands_returnsCommandsInOrder() throws Exception {
+        TextJournalStorage journal = createJournalOfSavedAddressBook();
+        journal.appendToJournal(List.of("listPerson", "deletePerson 1"), MATCH_SETTINGS);
+        journal.appendToJournal(List.of("deletePerson 2"), MATCH_SETTINGS);
+
+        assertEquals(List.of("listPerson", "deletePerson 1", "deletePerson 2"), journal.readJournal(MATCH_SETTINGS));
+
+        journal.clearJournal();
+        assertEquals(List.of(), journal.readJournal(MATCH_SETTINGS));
+    }
+
+    @Test
+    public void readJournal_lineCutShort_ignoresLine() throws Exception {
+        TextJournalStorage journal = createJournalOfSavedAddressBook();
+        journal.appendToJournal(List.of("deletePerson 1"), MATCH_SETTINGS);
+        Files.writeString(journal.getJournalFilePath(), "deletePerson 1", StandardOpenOption.APPEND);
+
+        assertEquals(List.of("deletePerson 1"), journal.readJournal(MATCH_SETTINGS));
+    }
+
+    @Test
+    public void readJournal_addressBookSavedAgain_throwsDataLoadingException() throws Exception {
+        TextJournalStorage journal = createJournalOfSavedAddressBook();
+        journal.appendToJournal(List.of("deletePerson 1"), MATCH_SETTINGS);
+
+        // e.g. the journal was not deleted after its commands were saved as part of the address book
+        new JsonAddressBookStorage(testFolder.resolve("ab.json")).saveAddressBook(getTypicalAddressBook());
+        assertJournalRejected(TextJournalStorage.MESSAGE_DIFFERENT_SNAPSHOT, journal, MATCH_SETTINGS);
+    }
+
+    @Test
+    public void readJournal_matchSettingsChanged_throwsDataLoadingException() throws Exception {
+        TextJournalStorage journal = createJournalOfSavedAddressBook();
+        journal.appendToJournal(List.of("matchPreference 1 1", "deleteListing 2"), MATCH_SETTINGS);
+
+        assertJournalRejected(TextJournalStorage.MESSAGE_DIFFERENT_MATCH_SETTINGS, journal,
+                new MatchSettings(10, MatchSettings.DEFAULT_RESULT_LIMIT_THRESHOLD));
+        assertJournalRejected(TextJournalStorage.MESSAGE_DIFFERENT_MATCH_SETTINGS, journal, new MatchSettings(
+                MatchSettings.DEFAULT_RESULT_LIMIT, MatchSettings.DEFAULT_RESULT_LIMIT_THRESHOLD,
+                ScoringWeights.UNWEIGHTED));
+        assertEquals(List.of("matchPreference 1 1", "deleteListing 2"), journal.readJournal(new MatchSettings()));
+    }
+
+    @Test
+    public void readJournal_matchThresholdsChanged_returnsCommands() throws Exception {
+        TextJournalStorage journal = createJournalOfSavedAddressBook();
+        journal.appendToJournal(List.of("matchPreference 1 1", "deleteListing 2"), MATCH_SETTINGS);
+
+        // The thresholds only decide how the matches are found, and not which matches are shown
+        MatchSettings otherThresholds = new MatchSettings(MatchSettings.DEFAULT_RESULT_LIMIT, 1,
+                new ScoringWeights(), 1);
+        assertEquals(List.of("matchPreference 1 1", "deleteListing 2"), journal.readJournal(otherThresholds));
+    }
+
+    @Test
+    public void moveJournalAside_journalKeptUnderNewName() throws Exception {
+        TextJournalStorage journal = createJournalOfSavedAddressBook();
+        journal.appendToJournal(List.of("deletePerson 1"), MATCH_SETTINGS);
+        String content = Files.readString(journal.getJournalFilePath());
+
+        assertEquals(testFolder.resolve("rejected_ab.journal"), journal.moveJournalAside());
+        journal.appendToJournal(List.of("deletePerson 2"), MATCH_SETTINGS);
+        assertEquals(testFolder.resolve("rejected_ab_1.journal"), journal.moveJournalAside());
+
+        assertFalse(Files.exists(journal.getJournalFilePath()));
+        assertEquals(content, Files.readString(testFolder.resolve("rejected_ab.journal")));
+    }
+
+    /**
+     * Asserts that {@code journal} cannot be replayed under {@code matchSettings}, for {@code expectedReason}.
+     */
+    private static void assertJournalRejected(String expectedReason, TextJournalStorage journal,
+            MatchSettings matchSettings) {
+        assertThrows(DataLoadingException.class, new IllegalValueException(expectedReason).toString(), () ->
+                journal.readJournal(matchSettings));
+    }
+
+    private TextJournalStorage createJournalOfSavedAddressBook() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json"));
+        addressBookStorage.saveAddressBook(getTypicalAddressBook());
+        return new TextJournalStorage(testFolder.resolve("ab.journal"), addressBookStorage);
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.testutil;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+
+/**
+ * A utility class to generate large address books, e.g. for tests and benchmarks of loading and saving.
+ */
+public class AddressBookGenerator {
+
+    private AddressBookGenerator() {} // prevents instantiation
+
+    /**
+     * Returns an address book with {@code size} persons and {@code size} listings, each owned by two persons.
+     */
+    public static AddressBook generate(int size) {
+        AddressBook addressBook = new AddressBook();
+        Person[] persons = new Person[size];
+        for (int i = 0; i < size; i++) {
+            persons[i] = new PersonBuilder()
+                    .withName("Person " + toLetters(i))
+                    .withPhone(String.format("8%07d", i))
+                    .withEmail("person" + i + "@example.com")
+                    .build();
+            addressBook.addPerson(persons[i]);
+        }
+
+        for (int i = 0; i < size; i++) {
+            Person firstOwner = persons[i];
+            Person secondOwner = persons[(i + size / 2) % size];
+            Listing listing = new ListingBuilder()
+                    .withPostalCode(String.format("%06d", i))
+                    .withUnitNumber("01-" + (10 + i % 90))
+                    .withPriceRange(String.valueOf(100_000 + i), String.valueOf(200_000 + i))
+                    .withOwners(firstOwner, secondOwner)
+                    .build();
+            addressBook.addListing(listing);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns a name-safe encoding of {@code number}, since names cannot contain digits.
+     */
+    private static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.append((char) ('a' + number % 26));
+            number /= 26;
+        } while (number > 0);
+        return letters.toString();
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.address.testutil;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.listing.HouseNumber;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.listing.PostalCode;
+import seedu.address.model.listing.UnitNumber;
+import seedu.address.model.person.Person;
+import seedu.address.model.price.Price;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A utility class to help with building Listing objects.
+ */
+public class ListingBuilder {
+
+    public static final String DEFAULT_POSTAL_CODE = "123456";
+    public static final String DEFAULT_UNIT_NUMBER = "10-12";
+
+    private PostalCode postalCode;
+    private UnitNumber unitNumber;
+    private HouseNumber houseNumber;
+    private PriceRange priceRange;
+    private Set<Tag> tags;
+    private List<Person> owners;
+    private boolean isAvailable;
+
+    /**
+     * Creates a {@code ListingBuilder} with the default details.
+     */
+    public ListingBuilder() {
+        postalCode = new PostalCode(DEFAULT_POSTAL_CODE);
+        unitNumber = new UnitNumber(DEFAULT_UNIT_NUMBER);
+        houseNumber = null;
+        priceRange = new PriceRange();
+        tags = new HashSet<>();
+        owners = new ArrayList<>();
+        isAvailable = true;
+    }
+
+    /**
+     * Sets the {@code PostalCode} of the {@code Listing} that we are building.
+     */
+    public ListingBuilder withPostalCode(String postalCode) {
+        this.postalCode = new PostalCode(postalCode);
+        return this;
+    }
+
+    /**
+     * Sets the {@code UnitNumber} of the {@code Listing} that we are building and clears its house number.
+     */
+    public ListingBuilder withUnitNumber(String unitNumber) {
+        this.unitNumber = new UnitNumber(unitNumber);
+        this.houseNumber = null;
+        return this;
+    }
+
+    /**
+     * Sets the {@code HouseNumber} of the {@code Listing} that we are building and clears its unit number.
+     */
+    public ListingBuilder withHouseNumber(String houseNumber) {
+        this.houseNumber = new HouseNumber(houseNumber);
+        this.unitNumber = null;
+        return this;
+    }
+
+    /**
+     * Sets the {@code PriceRange} of the {@code Listing} that we are building.
+     * A null bound leaves that side of the range unbounded.
+     */
+    public ListingBuilder withPriceRange(String lowerBoundPrice, String upperBoundPrice) {
+        if (lowerBoundPrice != null && upperBoundPrice != null) {
+            this.priceRange = new PriceRange(new Price(lowerBoundPrice), new Price(upperBoundPrice));
+        } else if (lowerBoundPrice != null) {
+            this.priceRange = new PriceRange(new Price(lowerBoundPrice), false);
+        } else if (upperBoundPrice != null) {
+            this.priceRange = new PriceRange(new Price(upperBoundPrice), true);
+        } else {
+            this.priceRange = new PriceRange();
+        }
+        return this;
+    }
+
+    /**
+     * Sets the {@code Tag}s of the {@code Listing} that we are building.
+     */
+    public ListingBuilder withTags(String... tagNames) {
+        this.tags = new HashSet<>();
+        for (String tagName : tagNames) {
+            tags.add(TestUtil.getTag(tagName));
+        }
+        return this;
+    }
+
+    /**
+     * Sets the owners of the {@code Listing} that we are building.
+     */
+    public ListingBuilder withOwners(Person... owners) {
+        this.owners = new ArrayList<>(List.of(owners));
+        return this;
+    }
+
+    /**
+     * Sets the availability of the {@code Listing} that we are building.
+     */
+    public ListingBuilder withAvailability(boolean isAvailable) {
+        this.isAvailable = isAvailable;
+        return this;
+    }
+
+    /**
+     * Builds the {@code Listing}.
+     */
+    public Listing build() {
+        if (houseNumber != null) {
+            return new Listing(postalCode, houseNumber, priceRange, tags, owners, isAvailable);
+        }
+        return new Listing(postalCode, unitNumber, priceRange, tags, owners, isAvailable);
+    }
+
+}
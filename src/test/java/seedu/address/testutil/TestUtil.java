@@ -4,10 +4,13 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.UniqueTagMap;
 
 /**
  * A utility class for test cases.
@@ -19,6 +22,11 @@ public class TestUtil {
      */
     private static final Path SANDBOX_FOLDER = Paths.get("src", "test", "data", "sandbox");
 
+    /**
+     * Tag map that gives the IDs of tags created by {@link #getTag(String)}.
+     */
+    private static final UniqueTagMap TAG_MAP = new UniqueTagMap();
+
     /**
      * Appends {@code fileName} to the sandbox folder path and returns the resulting path.
      * Creates the sandbox folder if it doesn't exist.
@@ -32,6 +40,21 @@ public class TestUtil {
         return SANDBOX_FOLDER.resolve(fileName);
     }
 
+    /**
+     * Returns a new tag with {@code tagName} and no associations, that has the ID of {@code tagName} in a tag map
+     * shared by all tests, so that it can be put in tag sets with the other tags returned by this method.
+     */
+    public static Tag getTag(String tagName) {
+        Tag tag = new Tag(tagName, new ArrayList<>(), new ArrayList<>());
+        if (TAG_MAP.contains(tag)) {
+            // The tag name keeps its ID when its tag is replaced
+            TAG_MAP.setTag(tag, tag);
+        } else {
+            TAG_MAP.add(tag);
+        }
+        return tag;
+    }
+
     /**
      * Returns the middle index of the person in the {@code model}'s person list.
      */